@@ -0,0 +1,86 @@
+# 배치 예측 엔드포인트 로컬 벤치마크 (모델/스케일러/MongoDB는 stub으로 대체)
+# 실행 : python benchmark_batch.py
+import time
+
+import numpy as np
+from fastapi.testclient import TestClient
+
+import main
+
+TOTAL_USERS = 1024
+BATCH_SIZES = [1, 16, 64, 256]
+PREDICT_CALL_OVERHEAD = 0.02  # model.predict 1회 호출 고정 비용 (초)
+PREDICT_ROW_COST = 0.0002     # 입력 1건당 추가 비용 (초)
+
+
+class StubModel:
+    def predict(self, X):
+        time.sleep(PREDICT_CALL_OVERHEAD + PREDICT_ROW_COST * len(X))
+        return np.random.uniform(0.4, 0.6, size=(len(X), 90))
+
+
+class StubEncoder:
+    def transform(self, sex):
+        return np.hstack([(sex == 1).astype(float), (sex == 2).astype(float)])
+
+
+class StubScaler:
+    def transform(self, data):
+        return data
+
+    def inverse_transform(self, data):
+        return data * 100
+
+
+class StubCollection:
+    def insert_one(self, document):
+        return None
+
+    def insert_many(self, documents):
+        return None
+
+    def bulk_write(self, operations, ordered=True):
+        return None
+
+
+def install_stubs():
+    main.model = StubModel()
+    main.encoder = StubEncoder()
+    main.scaler_bmi = StubScaler()
+    main.scaler_weight = StubScaler()
+    main.scaler_calories = StubScaler()
+    main.predict_basic = StubCollection()
+
+
+def build_item(user_id):
+    return {
+        "user_id": user_id,
+        "exercise_data": [
+            {"sex": 1, "age": 27, "bmi": 23.1, "weight": 70.0, "calories": 320.0}
+            for _ in range(5)
+        ]
+    }
+
+
+def run(client, batch_size):
+    items = [build_item(user_id) for user_id in range(TOTAL_USERS)]
+    request_count = 0
+
+    start = time.perf_counter()
+    for offset in range(0, TOTAL_USERS, batch_size):
+        response = client.post("/api/v1/users/body/prediction/batch/fast-api",
+                               json={"items": items[offset:offset + batch_size]})
+        response.raise_for_status()
+        request_count += 1
+    elapsed = time.perf_counter() - start
+
+    print(f"batch={batch_size:>4} | requests={request_count:>5} | "
+          f"requests/s={request_count / elapsed:8.1f} | users/s={TOTAL_USERS / elapsed:8.1f}")
+
+
+if __name__ == "__main__":
+    install_stubs()
+    # lifespan(실제 모델 로드)을 실행하지 않도록 with 블록 없이 TestClient 사용
+    client = TestClient(main.app)
+    for batch_size in BATCH_SIZES:
+        run(client, batch_size)
@@ -0,0 +1,145 @@
+# 크루 추천 포팅 교차 검증 파일 생성 (Java CrewRecommender와 순수 Python 포팅의 점수 규칙 비교용)
+# main.py의 recommend_crews 점수 규칙을 numpy 없이 옮겨 무작위 선택 이전의 상위 후보를 기록
+# 주의 : main.py 함수를 직접 호출하지 않는 재구현이므로 main.py와 같다는 근거는 아님
+#        (main.py 출력 기준 골든 파일은 crew_recommend_main_golden.py, 데이터 생성은 이 스크립트의 build_dataset 공유)
+# 실행 : python crew_recommend_golden.py
+import json
+import math
+import os
+import random
+
+SEED = 19
+USER_COUNT = 40
+CREW_COUNT = 24
+OUTLIER_CREWS = 14
+TOTAL_SPORTS = 30
+COLUMNS = ['m_type', 'type', 'age', 'basic_score', 'activity_score', 'intake_score']
+# float 연산 오차로 후보 구성이 달라지지 않도록 20위/21위 간격이나 0.2와의 차이가 이보다 좁은 데이터는 다시 생성
+# (근소한 동점 간 순서는 테스트에서 크루별 점수로 비교)
+MIN_GAP = 1e-5
+
+OUTPUT = os.path.join(os.path.dirname(__file__), '..', '..', '..', 'back', 'health', 'src', 'test', 'resources',
+                      'recommendation', 'crew-recommend-golden.json')
+
+
+def random_score(rng):
+    muscular = rng.random() < 0.3
+    return {
+        'm_type': float(rng.randint(7, 9)) if muscular else 0.0,
+        'type': 0.0 if muscular else float(rng.randint(1, 6)),
+        'age': rng.randint(20, 60),
+        'basic_score': round(rng.uniform(0, 100), 2),
+        'activity_score': round(rng.uniform(0, 100), 2),
+        'intake_score': round(rng.uniform(1200, 3200), 1),
+    }
+
+
+def build_dataset(rng):
+    crews = [{'crew_id': 100 + i, 'score': random_score(rng), 'crew_sports': rng.randint(1, TOTAL_SPORTS)}
+             for i in range(CREW_COUNT)]
+    # 대부분의 유저와 멀리 떨어진 크루 (최소 유사도 0.2 필터 확인용)
+    for crew in crews[-OUTLIER_CREWS:]:
+        crew['score'].update({'m_type': 9.0, 'type': 6.0, 'age': 60, 'basic_score': 0.0, 'activity_score': 0.0,
+                              'intake_score': round(rng.uniform(3600, 4000), 1)})
+    users = []
+    for i in range(USER_COUNT):
+        # 선호 운동 없는 유저, 중복 운동 ID 포함
+        sports = rng.sample(range(1, TOTAL_SPORTS + 1), rng.randint(0, 4))
+        if i % 13 == 5:
+            sports.append(sports[0] if sports else 1)
+        crew_list = [c['crew_id'] for c in rng.sample(crews[:CREW_COUNT - OUTLIER_CREWS], rng.randint(0, 2))]
+        score = random_score(rng)
+        if i % 4 == 3:
+            # 바깥 크루와 반대편에 있는 유저 → 0.2 미만 후보가 생김
+            score.update({'m_type': 0.0, 'type': 1.0, 'age': 20, 'basic_score': round(rng.uniform(90, 100), 2),
+                          'activity_score': round(rng.uniform(90, 100), 2), 'intake_score': 1200.0})
+        users.append({'user_id': 1 + i, 'score': score, 'favorite_sports': sports, 'crew_list': crew_list})
+    return users, crews
+
+
+def min_max_scale(rows):
+    scaled = [dict() for _ in rows]
+    for column in COLUMNS:
+        values = [row['score'][column] for row in rows]
+        low, high = min(values), max(values)
+        for i, value in enumerate(values):
+            # 범위가 0이면 pandas에서 NaN → nan_to_num으로 0
+            scaled[i][column] = (value - low) / (high - low) if high != low else 0.0
+    return scaled
+
+
+def sport_vector(user):
+    vector = [0.0] * TOTAL_SPORTS
+    for sport in user['favorite_sports']:
+        vector[sport - 1] = 1.0
+    return vector
+
+
+def cosine(a, b):
+    dot = sum(x * y for x, y in zip(a, b))
+    norm = math.sqrt(sum(x * x for x in a)) * math.sqrt(sum(y * y for y in b))
+    return dot / norm if norm else 0.0
+
+
+def euclidean_similarity(user, crew):
+    u = [user[c] for c in COLUMNS]
+    c = [crew[c] for c in COLUMNS]
+    distance = math.sqrt(sum((x - y) ** 2 for x, y in zip(u, c)))
+    similarity = 1 / (1 + distance)
+    if u[0]:
+        body_similarity = 1 - abs(abs(u[0] - c[0]) * 0.4 + abs(u[0] - c[1]) * 0.6)
+    else:
+        body_similarity = 1 - abs(abs(u[1] - c[0]) * 0.35 + abs(u[1] - c[1]) * 0.65)
+    return (0.7 * similarity) + (0.3 * body_similarity)
+
+
+def rank_crews(user_idx, users, crews, users_scaled, crews_scaled, vectors):
+    now_user = users[user_idx]
+    cosine_similarities = [cosine(vectors[user_idx], vector) for vector in vectors]
+
+    similarities = []
+    for i, crew in enumerate(crews):
+        if crew['crew_id'] in now_user['crew_list']:
+            continue
+        members = [j for j, user in enumerate(users) if crew['crew_id'] in user['crew_list']]
+        content = 0.3 * sum(cosine_similarities[j] for j in members) / len(members) if members else 0
+        collaborative = euclidean_similarity(users_scaled[user_idx], crews_scaled[i])
+        similarities.append((crew['crew_id'], 0.7 * collaborative + content))
+
+    similarities.sort(key=lambda x: x[1], reverse=True)
+    return similarities, [item for item in similarities[:20] if item[1] >= 0.2]
+
+
+def well_separated(similarities):
+    scores = [item[1] for item in similarities]
+    if len(scores) > 20 and scores[19] - scores[20] <= MIN_GAP:
+        return False
+    return all(abs(score - 0.2) > MIN_GAP for score in scores)
+
+
+def main():
+    seed = SEED
+    while True:
+        rng = random.Random(seed)
+        users, crews = build_dataset(rng)
+        users_scaled, crews_scaled = min_max_scale(users), min_max_scale(crews)
+        vectors = [sport_vector(user) for user in users]
+
+        ranked = [rank_crews(i, users, crews, users_scaled, crews_scaled, vectors) for i in range(len(users))]
+        if all(well_separated(similarities) for similarities, _ in ranked):
+            break
+        seed += 1
+
+    expected = [{'user_id': user['user_id'],
+                 'scores': {str(crew_id): round(similarity, 6) for crew_id, similarity in similarities},
+                 'ranked': [{'crew_id': crew_id, 'similarity': round(similarity, 6)} for crew_id, similarity in top]}
+                for user, (similarities, top) in zip(users, ranked)]
+    os.makedirs(os.path.dirname(OUTPUT), exist_ok=True)
+    with open(OUTPUT, 'w') as f:
+        json.dump({'seed': seed, 'users': users, 'crews': crews, 'expected': expected}, f, indent=1)
+    print(f'seed={seed}, users={len(users)}, crews={len(crews)}, '
+          f'users with 9+ candidates={sum(1 for e in expected if len(e["ranked"]) >= 9)}')
+
+
+if __name__ == '__main__':
+    main()
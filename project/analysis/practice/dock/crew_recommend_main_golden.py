@@ -0,0 +1,126 @@
+# 크루 추천 골든 파일 생성 (Java CrewRecommender가 main.py와 같은 후보를 내는지 검증용)
+# main.py를 import해 crew_recommendation 엔드포인트 함수를 그대로 호출하고, recommend_crews가 무작위 선택 전에 만든
+# 상위 후보(유사도 내림차순, 상위 20개 중 0.2 이상)를 기록 (전처리/min_max_scaler/유사도 계산 모두 main.py 코드)
+# MongoDB 연결과 Keras import만 막음 (pandas, numpy, scikit-learn, scipy 필요, tensorflow 불필요)
+# 실행 (이 디렉터리에서) : python crew_recommend_main_golden.py
+import json
+import os
+import random
+import sys
+import types
+
+import numpy as np
+import pymongo
+from pymongo.errors import ServerSelectionTimeoutError
+
+from crew_recommend_golden import MIN_GAP, SEED, build_dataset
+
+
+class OfflineMongoClient:
+    """main.py import 시 원격 MongoDB 접속 대신 연결 실패 처리 경로로 빠지게 함"""
+
+    def __init__(self, *args, **kwargs):
+        raise ServerSelectionTimeoutError('golden generation runs without MongoDB')
+
+
+def stub_keras():
+    # 크루 추천은 Keras를 쓰지 않으므로 import 대상 이름만 채운 빈 모듈로 대체
+    models = types.ModuleType('tensorflow.keras.models')
+    models.Sequential = object
+    layers = types.ModuleType('tensorflow.keras.layers')
+    for name in ('LSTM', 'Dense', 'Input', 'BatchNormalization', 'LayerNormalization'):
+        setattr(layers, name, object)
+    keras = types.ModuleType('tensorflow.keras')
+    keras.models, keras.layers = models, layers
+    tensorflow = types.ModuleType('tensorflow')
+    tensorflow.keras = keras
+    sys.modules.update({'tensorflow': tensorflow, 'tensorflow.keras': keras,
+                        'tensorflow.keras.models': models, 'tensorflow.keras.layers': layers})
+
+
+pymongo.MongoClient = OfflineMongoClient
+stub_keras()
+import main as analysis  # noqa: E402
+
+OUTPUT = os.path.join(os.path.dirname(__file__), '..', '..', '..', 'back', 'health', 'src', 'test', 'resources',
+                      'recommendation', 'crew-recommend-main-golden.json')
+
+
+class RecordingCollection:
+    def __init__(self):
+        self.documents = []
+
+    def insert_one(self, document):
+        self.documents.append(document)
+
+
+def capture_candidates(recommend_crews, candidates, scores):
+    """recommend_crews를 감싸 무작위 선택/셔플 없이 정렬·필터된 후보 전체를 받고, 후보 밖 크루의 점수도 기록"""
+
+    def wrapper(now_user, user_df, crew_df, top_n=6):
+        choice, shuffle = np.random.choice, np.random.shuffle
+        # top_n을 크루 수로 두면 filtered_similarities[:top_n]이 후보 전체, 추가 선택 범위는 비어 있음
+        np.random.choice = lambda *args, **kwargs: []
+        np.random.shuffle = lambda x: None
+        try:
+            ranked = recommend_crews(now_user, user_df, crew_df, top_n=len(crew_df))
+        finally:
+            np.random.choice, np.random.shuffle = choice, shuffle
+
+        user_id = int(now_user['user_id'])
+        candidates[user_id] = [(int(item[0]), float(item[1])) for item in ranked]
+        # 데이터 분리 확인용 : 크루 한 개씩 넘기면 0.2 이상인 크루는 같은 점수로 돌아옴 (정규화는 전체 기준으로 이미 끝난 값)
+        scores[user_id] = {}
+        for i in range(len(crew_df)):
+            single = recommend_crews(now_user, user_df, crew_df.iloc[[i]].reset_index(drop=True), top_n=1)
+            if single:
+                scores[user_id][int(single[0][0])] = float(single[0][1])
+        return ranked
+
+    return wrapper
+
+
+def well_separated(candidates, scores):
+    # 20위/21위 경계와 0.2 경계 근처의 근소한 차이는 float 오차로 후보 구성이 달라질 수 있으므로 제외
+    ordered = sorted(scores.values(), reverse=True)
+    if len(ordered) > 20 and ordered[19] - ordered[20] <= MIN_GAP:
+        return False
+    return all(abs(score - 0.2) > MIN_GAP for score in ordered) and len(candidates) == min(len(ordered), 20)
+
+
+def run(users, crews):
+    candidates, scores = {}, {}
+    original = analysis.recommend_crews
+    analysis.recommend_crews = capture_candidates(original, candidates, scores)
+    analysis.crew_recommend = RecordingCollection()
+    try:
+        request = analysis.TotalData(total_users={'users': users}, total_crews={'crews': crews})
+        analysis.crew_recommendation(request)
+    finally:
+        analysis.recommend_crews = original
+    return candidates, scores
+
+
+def main():
+    seed = SEED
+    while True:
+        users, crews = build_dataset(random.Random(seed))
+        candidates, scores = run(users, crews)
+        if all(well_separated(candidates[user['user_id']], scores[user['user_id']]) for user in users):
+            break
+        seed += 1
+
+    expected = [{'user_id': user['user_id'],
+                 'scores': {str(crew_id): round(score, 6) for crew_id, score in scores[user['user_id']].items()},
+                 'ranked': [{'crew_id': crew_id, 'similarity': round(similarity, 6)}
+                            for crew_id, similarity in candidates[user['user_id']]]}
+                for user in users]
+    os.makedirs(os.path.dirname(OUTPUT), exist_ok=True)
+    with open(OUTPUT, 'w') as f:
+        json.dump({'seed': seed, 'users': users, 'crews': crews, 'expected': expected}, f, indent=1)
+    print(f'seed={seed}, users={len(users)}, crews={len(crews)}, '
+          f'users with 9+ candidates={sum(1 for e in expected if len(e["ranked"]) >= 9)}')
+
+
+if __name__ == '__main__':
+    main()
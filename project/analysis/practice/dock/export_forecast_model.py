@@ -0,0 +1,109 @@
+# 체중 예측 모델(v12) 가중치와 스케일러를 Java WeightForecastModel 바이너리로 변환
+# 실행 : python export_forecast_model.py [가중치 h5] [출력 파일]
+#
+# 파일 형식 (little-endian)
+#   b'WFM1', int32 version
+#   int32 timesteps, features, lstm1 units, lstm2 units, dense units, outputs
+#   float32 LSTM1 kernel / recurrent kernel / bias (Keras 게이트 순서 i, f, c, o)
+#   float32 LSTM2 kernel / recurrent kernel / bias
+#   float32 Dense kernel / bias, LayerNorm gamma / beta / epsilon, 출력 Dense kernel / bias
+#   int32 성별 카테고리 수, float64 카테고리 값
+#   float64 입력 스케일러 scale / min, 체중 스케일러 scale / min
+import struct
+import sys
+
+MAGIC = b'WFM1'
+VERSION = 1
+TIMESTEPS = 7
+LAYER_NORM_EPSILON = 1e-3
+# main.py inverse_weight_prediction의 역변환 입력 [나이, BMI, 체중, 칼로리] 중 체중 위치
+INVERSE_FEATURES = 4
+WEIGHT_COLUMN = 2
+
+WEIGHTS_PATH = './models/modelv12_v1.weights.h5'
+OUTPUT_PATH = './models/weight_forecast_v12.bin'
+
+
+def write_model(path, lstm1, lstm2, dense, layer_norm, output, sex_categories, input_scaler, weight_scaler):
+    """lstm1/lstm2 : (kernel, recurrent_kernel, bias), dense/output : (kernel, bias), layer_norm : (gamma, beta)
+    kernel은 [입력][출력] 행렬(중첩 리스트), 스케일러는 (scale, min)"""
+    features = len(lstm1[0])
+    units1 = len(lstm1[1])
+    units2 = len(lstm2[1])
+    dense_units = len(dense[1])
+    outputs = len(output[1])
+
+    with open(path, 'wb') as f:
+        f.write(MAGIC)
+        f.write(struct.pack('<7i', VERSION, TIMESTEPS, features, units1, units2, dense_units, outputs))
+        for matrix in (*lstm1, *lstm2, *dense, *layer_norm):
+            write_floats(f, matrix)
+        f.write(struct.pack('<f', LAYER_NORM_EPSILON))
+        for matrix in output:
+            write_floats(f, matrix)
+        f.write(struct.pack('<i', len(sex_categories)))
+        f.write(struct.pack(f'<{len(sex_categories)}d', *sex_categories))
+        f.write(struct.pack('<4d', *input_scaler, *weight_scaler))
+
+
+def scaler_column(scaler, column, features):
+    """스케일러에서 column 열의 (scale, min)
+    features열 스케일러면 column 열, 1열 스케일러면 0열, 그 밖의 형태는 ValueError"""
+    n_features = scaler.n_features_in_
+    if n_features == features:
+        index = column
+    elif n_features == 1:
+        index = 0
+    else:
+        raise ValueError(f'unexpected scaler layout: n_features_in_={n_features} (expected {features} or 1)')
+    return float(scaler.scale_[index]), float(scaler.min_[index])
+
+
+def write_floats(f, matrix):
+    # 2차원 kernel은 행 우선으로 펼침
+    values = [float(v) for row in matrix for v in row] if isinstance(matrix[0], list) else [float(v) for v in matrix]
+    f.write(struct.pack(f'<{len(values)}f', *values))
+
+
+def export(weights_path, output_path):
+    import h5py
+    import joblib
+
+    # Keras 3 .weights.h5 : layers/<레이어 이름>/vars/<순번> (LSTM은 layers/<이름>/cell/vars)
+    with h5py.File(weights_path, 'r') as h5:
+        layers = h5['layers']
+
+        def variables(group):
+            return tuple(group['vars'][str(i)][()].tolist() for i in range(len(group['vars'])))
+
+        lstm1 = variables(layers['lstm']['cell'])
+        lstm2 = variables(layers['lstm_1']['cell'])
+        dense = variables(layers['dense'])
+        layer_norm = variables(layers['layer_normalization'])
+        output = variables(layers['dense_1'])
+
+    # main.py preprocess_data(v12)는 BMI/체중/칼로리 모두 scaler_bmi로 변환하므로 입력 스케일러는 scaler_bmi
+    encoder = joblib.load('./models/onehot_encoder_v2.pkl')
+    scaler_bmi = joblib.load('./models/minmax_scaler_bmi.pkl')
+    scaler_weight = joblib.load('./models/minmax_scaler_weight.pkl')
+
+    # scaler_bmi는 preprocess_data에서 열 하나씩 transform 하므로 1열이어야 함
+    if scaler_bmi.n_features_in_ != 1:
+        raise ValueError(f'unexpected scaler_bmi layout: n_features_in_={scaler_bmi.n_features_in_} (expected 1)')
+
+    write_model(output_path, lstm1, lstm2, dense, layer_norm, output,
+                [float(v) for v in encoder.categories_[0]],
+                (float(scaler_bmi.scale_[0]), float(scaler_bmi.min_[0])),
+                scaler_column(scaler_weight, WEIGHT_COLUMN, INVERSE_FEATURES))
+
+
+def main():
+    weights_path = sys.argv[1] if len(sys.argv) > 1 else WEIGHTS_PATH
+    output_path = sys.argv[2] if len(sys.argv) > 2 else OUTPUT_PATH
+
+    export(weights_path, output_path)
+    print(f'{weights_path} -> {output_path}')
+
+
+if __name__ == '__main__':
+    main()
@@ -15,7 +15,8 @@ from datetime import datetime
 import pymongo
 import os
 from dotenv import load_dotenv
-from pymongo import MongoClient
+from pymongo import MongoClient, UpdateOne
+from pymongo.errors import BulkWriteError
 
 # 데이터 처리 및 예측, 추천 라이브러리
 import pandas as pd
@@ -47,6 +48,9 @@ try:
     predict_basic = db['predict_basic']
     predict_extra = db['predict_extra']
     crew_recommend = db['crew_recommend']
+    # 배치 예측은 (user_id, prediction_date)당 문서 하나 (기존 문서에는 prediction_date가 없으므로 부분 인덱스)
+    predict_basic.create_index([('user_id', pymongo.ASCENDING), ('prediction_date', pymongo.ASCENDING)],
+                               unique=True, partialFilterExpression={'prediction_date': {'$exists': True}})
     print("MongoDB 서버에 성공적으로 연결되었습니다:", server_status)
 except pymongo.errors.ServerSelectionTimeoutError as e:
     print("MongoDB에 연결할 수 없습니다:", e)
@@ -75,6 +79,13 @@ class UserExerciseRequest(BaseModel):
         total_calories = sum(data.calories for data in self.exercise_data)
         return total_calories / len(self.exercise_data)
 
+class UserExerciseBatchItem(BaseModel):
+    user_id: int
+    exercise_data: List[ExerciseData]
+
+class UserExerciseBatchRequest(BaseModel):
+    items: List[UserExerciseBatchItem]
+
 ### AI 회귀 모델 처리 ###
 # 모델 구조 정의 - 기존과 똑같은 구조를 불러오기
 # v12
@@ -153,14 +164,23 @@ async def load_model_startup(app: FastAPI):
 
 # 모델 수행 이후 처리 함수
 def model_predict(data_test):
+    predictions = make_predictions(model, data_test)  # 7일 입력 X -> 그 다음 1일 부터 ~ 90일 앞까지 값을 Y
+    return inverse_weight_prediction(predictions[0])
+
+# 배치 입력 (N, 7, features)을 한 번의 model.predict로 처리
+def model_predict_batch(data_test):
+    predictions = make_predictions(model, data_test)
+    return [inverse_weight_prediction(prediction) for prediction in predictions]
+
+def inverse_weight_prediction(prediction):
     global scaler_weight
 
-    predictions = make_predictions(model, data_test)  # 7일 입력 X -> 그 다음 1일 부터 ~ 90일 앞까지 값을 Y
+    prediction = np.asarray(prediction).reshape(-1, 1)
     # 체중 값을 역변환 (age, BMI, calories는 0으로 두고, weight 값만 역변환)
     inverse_weight_predictions = scaler_weight.inverse_transform(
-        np.hstack([np.zeros((predictions.shape[1], 2)),  # 나이, BMI 0
-                   predictions.reshape(-1, 1),           # weight 예측값 (역변환 대상)
-                   np.zeros((predictions.shape[1], 1))])  # 칼로리 0
+        np.hstack([np.zeros((prediction.shape[0], 2)),  # 나이, BMI 0
+                   prediction,                           # weight 예측값 (역변환 대상)
+                   np.zeros((prediction.shape[0], 1))])  # 칼로리 0
     )[:, 2]  # weight만 역변환
 
     return round(inverse_weight_predictions[29], 2), round(inverse_weight_predictions[89], 2)
@@ -288,6 +308,22 @@ def make_confirmed_weight(days_30, days_90, data, p30, p90, extra):
 
     return pred_30_final, pred_90_final
 
+# 종합 예측 입력을 7일 길이로 맞추는 함수
+def pad_basic_exercise_data(exercise_data):
+    dummy_count = 7 - len(exercise_data)
+    height_sqr = exercise_data[-1].weight / exercise_data[-1].bmi
+
+    for exercise_obj in exercise_data:
+        exercise_obj.calories += np.random.normal(250,15)
+    for _ in range(dummy_count):
+        last_data = dp(exercise_data[-1])
+        last_data.calories = np.random.normal(250, 15) # 평균 걸음으로도 250에서 300 칼로리를 소모한다.
+        last_data.weight = last_data.weight + round(np.random.uniform(-0.1, 0.2), 2) # 하지만, 식습관으로 인해서 체중이 찌거나 유지되는 중..
+        last_data.bmi = last_data.weight / height_sqr
+        exercise_data.append(last_data)
+
+    return exercise_data
+
 # APP 정의
 app = FastAPI(lifespan=load_model_startup)
 
@@ -305,17 +341,7 @@ async def predict(user_id: int, request: UserExerciseRequest):
         exercise_data = request.exercise_data # exercise_data
 
         # 2. exercise_data를 길이를 맞춰 전처리 코드
-        dummy_count = 7 - len(exercise_data)
-        height_sqr = exercise_data[-1].weight / exercise_data[-1].bmi
-
-        for exercise_obj in exercise_data:
-            exercise_obj.calories += np.random.normal(250,15)
-        for _ in range(dummy_count):
-            last_data = dp(exercise_data[-1])
-            last_data.calories = np.random.normal(250, 15) # 평균 걸음으로도 250에서 300 칼로리를 소모한다.
-            last_data.weight = last_data.weight + round(np.random.uniform(-0.1, 0.2), 2) # 하지만, 식습관으로 인해서 체중이 찌거나 유지되는 중..
-            last_data.bmi = last_data.weight / height_sqr
-            exercise_data.append(last_data)
+        exercise_data = pad_basic_exercise_data(exercise_data)
 
         # 3. 전처리 데이터 np 배열 변환
         X_test = preprocess_data(exercise_data) # (7, 5)
@@ -366,6 +392,61 @@ async def predict(user_id: int, request: UserExerciseRequest):
     except Exception as e:
         raise HTTPException(status_code=500, detail=f'Error : {e}')
 
+# API :: 종합 체중 배치 예측 => 여러 유저의 입력을 (N, 7, features)로 쌓아 한 번에 예측
+@app.post("/api/v1/users/body/prediction/batch/fast-api")
+async def predict_batch(request: UserExerciseBatchRequest):
+    # 1. 유저별 전처리 (전처리에 실패한 유저는 배치에서 제외)
+    user_ids, exercise_data_list, inputs, failed = [], [], [], []
+    for item in request.items:
+        try:
+            exercise_data = pad_basic_exercise_data(item.exercise_data)[:7]
+            inputs.append(preprocess_data(exercise_data))
+            user_ids.append(item.user_id)
+            exercise_data_list.append(exercise_data)
+        except Exception as e:
+            print(f"user {item.user_id} preprocessing failed : {e}")
+            failed.append(item.user_id)
+
+    if not inputs:
+        return {"predicted": [], "failed": failed}
+
+    # 2. 배치 단위 model.predict
+    predictions = model_predict_batch(np.stack(inputs))
+
+    # 3. 유저별 보정 후 한 번에 MongoDB 저장
+    prediction_date = datetime.utcnow().strftime('%Y-%m-%d')
+    new_predictions = []
+    for user_id, exercise_data, (pred_30_d, pred_90_d) in zip(user_ids, exercise_data_list, predictions):
+        last_weight = exercise_data[-1].weight
+        p30_diff = abs(last_weight - pred_30_d) / last_weight
+        p90_diff = abs(last_weight - pred_90_d) / last_weight
+        pred_30_d, pred_90_d = make_confirmed_weight(p30_diff, p90_diff, exercise_data, pred_30_d, pred_90_d, False)
+
+        new_predictions.append({
+            "user_id": user_id,
+            "current": round(last_weight, 2),
+            "p30": pred_30_d,
+            "p90": pred_90_d,
+            "prediction_date": prediction_date,
+            "created_at": datetime.utcnow()
+        })
+
+    # 같은 날 같은 유저 문서는 덮어씀 → Spring이 배치를 다시 보내도 문서가 중복되지 않음
+    # 일부 문서만 실패하면 나머지는 저장하고 실패한 유저만 failed로 응답
+    operations = [UpdateOne({"user_id": p["user_id"], "prediction_date": p["prediction_date"]}, {"$set": p}, upsert=True)
+                  for p in new_predictions]
+    try:
+        predict_basic.bulk_write(operations, ordered=False)
+    except BulkWriteError as e:
+        write_failed = {new_predictions[error["index"]]["user_id"] for error in e.details.get("writeErrors", [])}
+        print(f"users {sorted(write_failed)} write failed : {e}")
+        user_ids = [user_id for user_id in user_ids if user_id not in write_failed]
+        failed.extend(write_failed)
+    except Exception as e:
+        raise HTTPException(status_code=500, detail=f'Error : {e}')
+
+    return {"predicted": user_ids, "failed": failed}
+
 # API :: 추가 운동 예측 -> 요청시 
 @app.post("/api/v1/users/{user_id}/body/prediction/extra/fast-api")
 async def extra_predict(user_id: int, request: UserExerciseRequest):
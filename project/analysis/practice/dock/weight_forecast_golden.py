@@ -0,0 +1,147 @@
+# 체중 예측 포팅 교차 검증 파일 생성 (Java WeightForecastModel과 순수 Python 포팅의 계산식 비교용)
+# main.py v12 모델 구조(LSTM 32 → LSTM 32 → Dense 32 tanh → LayerNorm → Dense 90 sigmoid)와
+# preprocess_data / inverse_weight_prediction을 numpy 없이 옮긴 재구현이므로 Keras와 같다는 근거는 아님
+# (실제 모델과의 비교는 weight_forecast_keras_golden.py)
+# 가중치는 시드 고정 난수로 만들어 export_forecast_model.py와 같은 형식으로 저장 (학습 가중치 파일 없이 재생성 가능)
+# 실행 : python weight_forecast_golden.py
+import json
+import math
+import os
+import random
+import struct
+
+from export_forecast_model import LAYER_NORM_EPSILON, TIMESTEPS, write_model
+
+SEED = 25
+USER_COUNT = 24
+FEATURES = 6
+UNITS = 32
+DENSE_UNITS = 32
+FORECAST_STEPS = 90
+SEX_CATEGORIES = [1.0, 2.0]
+# minmax_scaler_bmi / minmax_scaler_weight 와 비슷한 범위의 (scale, min)
+INPUT_SCALER = (1 / 20.52, -17.05 / 20.52)
+WEIGHT_SCALER = (1 / 74.36, -38.7 / 74.36)
+
+OUTPUT_DIR = os.path.join(os.path.dirname(__file__), '..', '..', '..', 'back', 'health', 'src', 'test', 'resources',
+                          'prediction')
+
+
+def f32(value):
+    return struct.unpack('<f', struct.pack('<f', value))[0]
+
+
+def uniform_matrix(rng, rows, cols, limit):
+    return [[f32(rng.uniform(-limit, limit)) for _ in range(cols)] for _ in range(rows)]
+
+
+def lstm_weights(rng, input_size, units, kernel_limit):
+    # Keras unit_forget_bias : forget 게이트 bias 1
+    bias = [f32(rng.uniform(-0.1, 0.1) + (1.0 if units <= j < 2 * units else 0.0)) for j in range(4 * units)]
+    return (uniform_matrix(rng, input_size, 4 * units, kernel_limit),
+            uniform_matrix(rng, units, 4 * units, math.sqrt(6 / (5 * units))),
+            bias)
+
+
+def build_weights(rng):
+    # 체중/칼로리도 BMI 스케일러로 변환돼 입력이 수십까지 커지므로 1층 kernel은 작게
+    lstm1 = lstm_weights(rng, FEATURES, UNITS, 0.05)
+    lstm2 = lstm_weights(rng, UNITS, UNITS, math.sqrt(6 / (5 * UNITS)))
+    dense = (uniform_matrix(rng, UNITS, DENSE_UNITS, math.sqrt(6 / (UNITS + DENSE_UNITS))),
+             [f32(rng.uniform(-0.1, 0.1)) for _ in range(DENSE_UNITS)])
+    layer_norm = ([f32(rng.uniform(0.8, 1.2)) for _ in range(DENSE_UNITS)],
+                  [f32(rng.uniform(-0.1, 0.1)) for _ in range(DENSE_UNITS)])
+    output = (uniform_matrix(rng, DENSE_UNITS, FORECAST_STEPS, math.sqrt(6 / (DENSE_UNITS + FORECAST_STEPS))),
+              [f32(rng.uniform(-0.2, 0.2)) for _ in range(FORECAST_STEPS)])
+    return lstm1, lstm2, dense, layer_norm, output
+
+
+def build_users(rng):
+    users = []
+    for i in range(USER_COUNT):
+        height = rng.uniform(1.5, 1.9)
+        weight = rng.uniform(45, 110)
+        days = []
+        for _ in range(TIMESTEPS):
+            weight = round(weight + rng.uniform(-0.3, 0.3), 2)
+            days.append({'sex': 1 + i % 2, 'age': rng.randint(18, 65), 'bmi': round(weight / height ** 2, 4),
+                         'weight': weight, 'calories': round(rng.uniform(0, 900), 2)})
+        users.append({'user_id': 1 + i, 'days': days})
+    return users
+
+
+# preprocess_data(v12) : [성별 one-hot, 나이(원본), BMI, 체중, 칼로리] (BMI/체중/칼로리 모두 scaler_bmi)
+def preprocess(day):
+    scale, low = INPUT_SCALER
+    one_hot = [1.0 if day['sex'] == category else 0.0 for category in SEX_CATEGORIES]
+    return one_hot + [day['age'], day['bmi'] * scale + low, day['weight'] * scale + low, day['calories'] * scale + low]
+
+
+def sigmoid(x):
+    return 1 / (1 + math.exp(-x))
+
+
+def dense_forward(x, kernel, bias):
+    return [bias[j] + sum(x[k] * kernel[k][j] for k in range(len(x))) for j in range(len(bias))]
+
+
+def lstm_step(x, h, c, weights):
+    kernel, recurrent, bias = weights
+    units = len(h)
+    z = [bias[j] + sum(x[k] * kernel[k][j] for k in range(len(x))) + sum(h[k] * recurrent[k][j] for k in range(units))
+         for j in range(4 * units)]
+    new_c, new_h = [], []
+    for j in range(units):
+        i, f, g, o = sigmoid(z[j]), sigmoid(z[units + j]), math.tanh(z[2 * units + j]), sigmoid(z[3 * units + j])
+        new_c.append(f * c[j] + i * g)
+        new_h.append(o * math.tanh(new_c[j]))
+    return new_h, new_c
+
+
+def forward(sequence, weights):
+    lstm1, lstm2, dense, layer_norm, output = weights
+    h1 = c1 = [0.0] * UNITS
+    h2 = c2 = [0.0] * UNITS
+    for x in sequence:
+        h1, c1 = lstm_step(x, h1, c1, lstm1)
+        h2, c2 = lstm_step(h1, h2, c2, lstm2)
+
+    hidden = [math.tanh(v) for v in dense_forward(h2, *dense)]
+    mean = sum(hidden) / len(hidden)
+    variance = sum((v - mean) ** 2 for v in hidden) / len(hidden)
+    gamma, beta = layer_norm
+    normalized = [(v - mean) / math.sqrt(variance + f32(LAYER_NORM_EPSILON)) * gamma[j] + beta[j]
+                  for j, v in enumerate(hidden)]
+    return [sigmoid(v) for v in dense_forward(normalized, *output)]
+
+
+# inverse_weight_prediction : scaler_weight 역변환
+def inverse_weight(value):
+    scale, low = WEIGHT_SCALER
+    return (value - low) / scale
+
+
+def main():
+    rng = random.Random(SEED)
+    weights = build_weights(rng)
+    users = build_users(rng)
+
+    expected = []
+    for user in users:
+        prediction = forward([preprocess(day) for day in user['days']], weights)
+        expected.append({'user_id': user['user_id'],
+                         'prediction': [round(v, 7) for v in prediction],
+                         'weights': [round(inverse_weight(prediction[29]), 4), round(inverse_weight(prediction[89]), 4)]})
+
+    os.makedirs(OUTPUT_DIR, exist_ok=True)
+    write_model(os.path.join(OUTPUT_DIR, 'weight-forecast-golden.bin'), *weights, SEX_CATEGORIES,
+                INPUT_SCALER, WEIGHT_SCALER)
+    with open(os.path.join(OUTPUT_DIR, 'weight-forecast-golden.json'), 'w') as f:
+        json.dump({'seed': SEED, 'users': users, 'expected': expected}, f, indent=1)
+
+    outputs = [v for e in expected for v in e['prediction']]
+    print(f'seed={SEED}, users={len(users)}, prediction range={min(outputs):.4f}~{max(outputs):.4f}')
+
+
+if __name__ == '__main__':
+    main()
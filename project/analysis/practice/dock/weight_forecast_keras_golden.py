@@ -0,0 +1,67 @@
+# 체중 예측 Keras 골든 파일 생성 (Java WeightForecastModel이 실제 v12 모델과 같은 값을 내는지 검증용)
+# main.py의 build_model / load_model_weights / preprocess_data / make_predictions / inverse_weight_prediction과
+# models/의 학습 가중치, 인코더, 스케일러를 그대로 사용하고, 같은 가중치를 export_forecast_model.py로 변환해 함께 저장
+# MongoDB 연결만 막고 main.py를 import (tensorflow, h5py, joblib, scikit-learn 필요)
+# 실행 (이 디렉터리에서) : python weight_forecast_keras_golden.py
+import json
+import os
+import random
+
+import joblib
+import numpy as np
+import pymongo
+from pymongo.errors import ServerSelectionTimeoutError
+
+from export_forecast_model import TIMESTEPS, export
+from weight_forecast_golden import build_users
+
+
+class OfflineMongoClient:
+    """main.py import 시 원격 MongoDB 접속 대신 연결 실패 처리 경로로 빠지게 함"""
+
+    def __init__(self, *args, **kwargs):
+        raise ServerSelectionTimeoutError('golden generation runs without MongoDB')
+
+
+pymongo.MongoClient = OfflineMongoClient
+import main as analysis  # noqa: E402
+
+SEED = 25
+FEATURES = 6
+FORECAST_STEPS = 90
+# main.py load_model_startup과 같은 가중치 파일
+WEIGHTS_PATH = './models/modelv12_v1.weights.h5'
+
+OUTPUT_DIR = os.path.join(os.path.dirname(__file__), '..', '..', '..', 'back', 'health', 'src', 'test', 'resources',
+                          'prediction')
+
+
+def main():
+    model = analysis.load_model_weights(analysis.build_model((TIMESTEPS, FEATURES), FORECAST_STEPS), WEIGHTS_PATH)
+    analysis.encoder = joblib.load('./models/onehot_encoder_v2.pkl')
+    analysis.scaler_bmi = joblib.load('./models/minmax_scaler_bmi.pkl')
+    analysis.scaler_weight = joblib.load('./models/minmax_scaler_weight.pkl')
+
+    # predict_batch와 같이 유저별 preprocess_data 결과를 (N, 7, features)로 쌓아 한 번에 예측
+    users = build_users(random.Random(SEED))
+    inputs = np.stack([analysis.preprocess_data([analysis.ExerciseData(**day) for day in user['days']])
+                       for user in users])
+    predictions = analysis.make_predictions(model, inputs)
+
+    expected = []
+    for user, prediction in zip(users, predictions):
+        weight_30, weight_90 = analysis.inverse_weight_prediction(prediction)
+        expected.append({'user_id': user['user_id'],
+                         'prediction': [float(v) for v in prediction],
+                         'weights': [float(weight_30), float(weight_90)]})
+
+    os.makedirs(OUTPUT_DIR, exist_ok=True)
+    export(WEIGHTS_PATH, os.path.join(OUTPUT_DIR, 'weight-forecast-v12.bin'))
+    with open(os.path.join(OUTPUT_DIR, 'weight-forecast-v12-keras.json'), 'w') as f:
+        json.dump({'seed': SEED, 'weights_path': WEIGHTS_PATH, 'users': users, 'expected': expected}, f, indent=1)
+
+    print(f'seed={SEED}, users={len(users)}, weights={WEIGHTS_PATH}')
+
+
+if __name__ == '__main__':
+    main()
@@ -0,0 +1,163 @@
+package com.ssafy.health.common.oauth.jwt;
+
+import com.ssafy.health.common.oauth.dto.CustomOAuth2User;
+import com.ssafy.health.common.oauth.service.PrincipalCacheService;
+import com.ssafy.health.domain.account.dto.request.UserRegisterRequestDto;
+import com.ssafy.health.domain.account.dto.response.UserRegisterResponseDto;
+import com.ssafy.health.domain.account.entity.User;
+import com.ssafy.health.domain.account.entity.UserRole;
+import com.ssafy.health.domain.account.repository.UserRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+// JWTFilter 1회 통과 비용 비교, 두 경로 모두 같은 요청/응답/필터 체인으로 doFilter를 거침
+// DB 조회는 stub이므로 실제 환경에서는 legacy 쪽에 요청마다 왕복 시간이 더해짐
+// 실행 : ./gradlew jmh
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JWTFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key";
+    private static final String SSO = "kakao 1234567890";
+
+    private OncePerRequestFilter legacyFilter;
+    private OncePerRequestFilter cachedFilter;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        SecretKey secretKey = new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8),
+                Jwts.SIG.HS256.key().build().getAlgorithm());
+        UserRepository userRepository = stubUserRepository();
+
+        JWTUtil jwtUtil = new JWTUtil(SECRET);
+        PrincipalCacheService principalCacheService = new PrincipalCacheService(userRepository);
+        ReflectionTestUtils.setField(principalCacheService, "maxSize", 10000);
+        ReflectionTestUtils.setField(principalCacheService, "ttlSeconds", 300L);
+
+        legacyFilter = new LegacyJWTFilter(secretKey, userRepository);
+        cachedFilter = new JWTFilter(jwtUtil, principalCacheService);
+        accessToken = jwtUtil.createJwt("access", SSO, UserRole.USER, 1L, 3600000L);
+    }
+
+    // 변경 전 : 토큰을 네 번 파싱/검증하고 매 요청마다 사용자 조회
+    @Benchmark
+    public Object legacyFilter() throws Exception {
+        return runFilter(legacyFilter);
+    }
+
+    // 변경 후 : 한 번 파싱하고 캐시된 인증 주체 사용
+    @Benchmark
+    public Object cachedFilter() throws Exception {
+        return runFilter(cachedFilter);
+    }
+
+    private Object runFilter(OncePerRequestFilter filter) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users");
+        request.addHeader("access", accessToken);
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        SecurityContextHolder.clearContext();
+        return principal;
+    }
+
+    // 변경 전 JWTFilter와 같은 순서로 검증 (JWTUtil의 개별 getter마다 서명 검증을 다시 하던 동작, 디버그 출력은 제외)
+    private static class LegacyJWTFilter extends OncePerRequestFilter {
+
+        private final SecretKey secretKey;
+        private final UserRepository userRepository;
+
+        LegacyJWTFilter(SecretKey secretKey, UserRepository userRepository) {
+            this.secretKey = secretKey;
+            this.userRepository = userRepository;
+        }
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                        FilterChain filterChain) throws ServletException, IOException {
+            String accessToken = request.getHeader("access");
+            if (accessToken == null) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+
+            parse(accessToken).getExpiration();
+            if (!"access".equals(parse(accessToken).get("category", String.class))) {
+                response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+                return;
+            }
+            String sso = parse(accessToken).get("username", String.class);
+            UserRole.valueOf(parse(accessToken).get("role", String.class));
+
+            User user = userRepository.findBySso(sso);
+            CustomOAuth2User customOAuth2User = new CustomOAuth2User(UserRegisterResponseDto.builder()
+                    .sso(sso)
+                    .role(UserRole.USER)
+                    .id(user.getId())
+                    .name(user.getName())
+                    .email(user.getEmail())
+                    .build());
+
+            SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                    customOAuth2User, null, customOAuth2User.getAuthorities()));
+            filterChain.doFilter(request, response);
+        }
+
+        private Claims parse(String token) {
+            return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+        }
+    }
+
+    private static UserRepository stubUserRepository() {
+        User user = User.builder()
+                .userRegisterRequestDto(UserRegisterRequestDto.builder()
+                        .name("benchmark")
+                        .sso(SSO)
+                        .email("benchmark@example.com")
+                        .role(UserRole.USER)
+                        .build())
+                .build();
+        ReflectionTestUtils.setField(user, "id", 1L);
+
+        return (UserRepository) Proxy.newProxyInstance(UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findBySso" -> user;
+                    case "findById" -> Optional.of(user);
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,100 @@
+package com.ssafy.health.domain.body.BodyPredict.engine;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// 체중 예측 순전파 처리량 (유저 수/초) : 한 명씩 호출 vs 배치 호출 (analysis 서버는 유저마다 HTTP 요청 + model.predict)
+// 실행 : ./gradlew jmh
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WeightForecastModelBenchmark {
+
+    private static final int TIMESTEPS = 7;
+    private static final int FEATURES = 6;
+    private static final int UNITS = 32;
+    private static final int OUTPUTS = 90;
+    private static final int BATCH_SIZE = 1024;
+
+    private WeightForecastModel model;
+    private WeightForecastModel.Workspace workspace;
+    private float[] inputs;
+    private float[] out;
+
+    @Setup
+    public void setUp() throws IOException {
+        Random random = new Random(42);
+        model = WeightForecastModel.load(new ByteArrayInputStream(randomModel(random)));
+        workspace = model.newWorkspace();
+
+        int stride = TIMESTEPS * FEATURES;
+        inputs = new float[BATCH_SIZE * stride];
+        for (int u = 0; u < BATCH_SIZE; u++) {
+            double weight = 45 + random.nextDouble() * 60;
+            double height = 1.5 + random.nextDouble() * 0.4;
+            for (int t = 0; t < TIMESTEPS; t++) {
+                model.encodeDay(1 + u % 2, 20 + random.nextInt(40), weight / (height * height), weight,
+                        random.nextDouble() * 900, inputs, u * stride + t * FEATURES);
+            }
+        }
+        out = new float[BATCH_SIZE * OUTPUTS];
+    }
+
+    @Benchmark
+    public float[] predictSingle() {
+        model.predict(inputs, 1, workspace, out);
+        return out;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public float[] predictBatch() {
+        model.predict(inputs, BATCH_SIZE, workspace, out);
+        return out;
+    }
+
+    // export_forecast_model.py 와 같은 형식의 난수 가중치 모델
+    private static byte[] randomModel(Random random) {
+        int[] beforeEpsilon = {
+                FEATURES * 4 * UNITS, UNITS * 4 * UNITS, 4 * UNITS,
+                UNITS * 4 * UNITS, UNITS * 4 * UNITS, 4 * UNITS,
+                UNITS * UNITS, UNITS, UNITS, UNITS};
+        int floats = UNITS * OUTPUTS + OUTPUTS;
+        for (int count : beforeEpsilon) {
+            floats += count;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(4 + 7 * Integer.BYTES + (floats + 1) * Float.BYTES + Integer.BYTES
+                + 6 * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put("WFM1".getBytes(StandardCharsets.US_ASCII));
+        buffer.putInt(1).putInt(TIMESTEPS).putInt(FEATURES).putInt(UNITS).putInt(UNITS).putInt(UNITS).putInt(OUTPUTS);
+        for (int i = 0; i < floats; i++) {
+            if (i == floats - UNITS * OUTPUTS - OUTPUTS) {
+                buffer.putFloat(1e-3f);
+            }
+            buffer.putFloat((random.nextFloat() - 0.5f) * 0.2f);
+        }
+        buffer.putInt(2).putDouble(1).putDouble(2);
+        buffer.putDouble(1 / 20.52).putDouble(-17.05 / 20.52).putDouble(1 / 74.36).putDouble(-38.7 / 74.36);
+        return buffer.array();
+    }
+}
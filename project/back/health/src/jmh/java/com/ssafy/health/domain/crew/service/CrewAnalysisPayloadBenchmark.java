@@ -0,0 +1,236 @@
+package com.ssafy.health.domain.crew.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.health.common.http.OutboundClient;
+import com.ssafy.health.common.http.OutboundSettings;
+import com.ssafy.health.common.util.RequestUtil;
+import com.ssafy.health.domain.account.entity.User;
+import com.ssafy.health.domain.account.repository.UserRepository;
+import com.ssafy.health.domain.crew.dto.analysis.CrewAnalysisRequestDto;
+import com.ssafy.health.domain.crew.dto.analysis.CrewData;
+import com.ssafy.health.domain.crew.dto.analysis.ScoreData;
+import com.ssafy.health.domain.crew.dto.analysis.ScoreSnapshot;
+import com.ssafy.health.domain.crew.dto.analysis.TotalCrewDataDto;
+import com.ssafy.health.domain.crew.dto.analysis.TotalUserDataDto;
+import com.ssafy.health.domain.crew.entity.Crew;
+import com.ssafy.health.domain.crew.repository.CrewRepository;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Proxy;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.OffsetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.test.util.ReflectionTestUtils;
+
+// 크루 분석 요청 1회를 로컬 stub 서버로 보낼 때 유저 수에 따른 할당량 비교 (gc 프로파일러의 gc.alloc.rate.norm)
+// streamed : writePayload가 500명 페이지 단위로 chunked 전송, buffered : 변경 전처럼 전체 DTO -> JSON 문자열 -> 전송
+// DB 조회와 점수 계산은 stub이므로 두 경로 모두 직렬화/전송 비용만 비교
+// 실행 : ./gradlew jmh (build.gradle에서 gc 프로파일러 사용)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+public class CrewAnalysisPayloadBenchmark {
+
+    private static final String PATH = "/users/crew-recommendation/fast-api";
+    private static final int USERS_PER_CREW = 10;
+
+    @Param({"10000", "100000"})
+    private int userCount;
+
+    private final AtomicLong receivedBytes = new AtomicLong();
+
+    private HttpServer server;
+    private String url;
+    private UserRepository userRepository;
+    private CrewRepository crewRepository;
+    private StubCrewScoreSnapshotService crewScoreSnapshotService;
+    private RequestUtil requestUtil;
+    private CrewAnalysisRequestService crewAnalysisRequestService;
+
+    @Setup
+    public void setUp() throws IOException {
+        // 본문을 메모리에 모으지 않고 읽은 바이트 수만 기록
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext(PATH, exchange -> {
+            long bytes = 0;
+            byte[] buffer = new byte[8192];
+            try (InputStream body = exchange.getRequestBody()) {
+                for (int read; (read = body.read(buffer)) != -1; ) {
+                    bytes += read;
+                }
+            }
+            receivedBytes.addAndGet(bytes);
+
+            byte[] response = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, response.length);
+            exchange.getResponseBody().write(response);
+            exchange.close();
+        });
+        server.start();
+        url = "http://localhost:" + server.getAddress().getPort();
+
+        List<User> users = LongStream.rangeClosed(1, userCount)
+                .mapToObj(id -> entity(User.class, id))
+                .toList();
+        List<Crew> crews = LongStream.rangeClosed(1, Math.max(userCount / USERS_PER_CREW, 1))
+                .mapToObj(id -> entity(Crew.class, id))
+                .toList();
+        userRepository = stubRepository(UserRepository.class, "findBySurveyCompletedTrueOrderByIdAsc", users);
+        crewRepository = stubRepository(CrewRepository.class, "findAllByOrderByIdAsc", crews);
+        crewScoreSnapshotService = new StubCrewScoreSnapshotService(crews.size());
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        OutboundClient analysisClient = new OutboundClient("analysis", OutboundSettings.builder()
+                .connectTimeout(Duration.ofSeconds(2))
+                .readTimeout(Duration.ofSeconds(60))
+                .maxConcurrentCalls(1)
+                .maxWait(Duration.ofSeconds(1))
+                .maxAttempts(1)
+                .retryBackoff(Duration.ofMillis(100))
+                .failureThreshold(5)
+                .openDuration(Duration.ofSeconds(30))
+                .build());
+        requestUtil = new RequestUtil(objectMapper, analysisClient);
+        crewAnalysisRequestService = new CrewAnalysisRequestService(requestUtil, objectMapper, userRepository,
+                crewRepository, crewScoreSnapshotService, new CrewProfileCache(crewScoreSnapshotService, null));
+        ReflectionTestUtils.setField(crewAnalysisRequestService, "fastApiUrl", url);
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    // 변경 후 : 페이지마다 조회 -> 직렬화 -> flush
+    @Benchmark
+    public long streamed() {
+        crewAnalysisRequestService.requestAnalysis();
+        return receivedBytes.get();
+    }
+
+    // 변경 전 : 전체 유저/크루 DTO를 만든 뒤 JSON 문자열 하나로 직렬화해 전송
+    @Benchmark
+    public long buffered() throws JsonProcessingException {
+        List<User> users = userRepository.findBySurveyCompletedTrueOrderByIdAsc(ScrollPosition.keyset(),
+                Limit.of(userCount)).getContent();
+        List<Crew> crews = crewRepository.findAllByOrderByIdAsc(ScrollPosition.keyset(),
+                Limit.of(userCount)).getContent();
+        ScoreSnapshot snapshot = crewScoreSnapshotService.takeSnapshot(users);
+
+        CrewAnalysisRequestDto requestDto = CrewAnalysisRequestDto.builder()
+                .totalUsers(TotalUserDataDto.builder()
+                        .users(snapshot.getSurveyedUserIds().stream().map(snapshot::toUserData).toList())
+                        .build())
+                .totalCrews(TotalCrewDataDto.builder()
+                        .crews(crewScoreSnapshotService.buildCrewData(crews))
+                        .build())
+                .build();
+        requestUtil.sendPostRequest(url + PATH, requestDto, String.class);
+        return receivedBytes.get();
+    }
+
+    // 점수 계산 쿼리 대신 ID로 정해지는 값을 돌려줌
+    private static class StubCrewScoreSnapshotService extends CrewScoreSnapshotService {
+
+        private final int crewCount;
+
+        StubCrewScoreSnapshotService(int crewCount) {
+            super(null, null, null, null, null, null, null);
+            this.crewCount = crewCount;
+        }
+
+        @Override
+        public ScoreSnapshot takeSnapshot(List<User> userList) {
+            Map<Long, ScoreData> userScores = new HashMap<>();
+            Map<Long, List<Long>> crewIdsByUser = new HashMap<>();
+            Map<Long, List<Long>> favoredExerciseIdsByUser = new HashMap<>();
+            List<Long> surveyedUserIds = new ArrayList<>(userList.size());
+            for (User user : userList) {
+                long userId = user.getId();
+                userScores.put(userId, score(userId));
+                crewIdsByUser.put(userId, List.of(userId % crewCount + 1));
+                favoredExerciseIdsByUser.put(userId, List.of(userId % 30 + 1, userId % 7 + 1));
+                surveyedUserIds.add(userId);
+            }
+            return ScoreSnapshot.builder()
+                    .userScores(userScores)
+                    .crewIdsByUser(crewIdsByUser)
+                    .favoredExerciseIdsByUser(favoredExerciseIdsByUser)
+                    .surveyedUserIds(surveyedUserIds)
+                    .crews(List.of())
+                    .build();
+        }
+
+        @Override
+        public List<CrewData> buildCrewData(List<Crew> crewList) {
+            return crewList.stream()
+                    .map(crew -> CrewData.builder()
+                            .crewId(crew.getId())
+                            .crewSports(crew.getId() % 30 + 1)
+                            .score(score(crew.getId()))
+                            .build())
+                    .toList();
+        }
+    }
+
+    private static ScoreData score(long id) {
+        return ScoreData.builder()
+                .mType(id % 3 == 0 ? 8 : 0)
+                .type(id % 3 == 0 ? 0 : id % 6 + 1)
+                .age(20 + (int) (id % 40))
+                .basicScore(id % 100)
+                .activityScore(id % 70)
+                .intakeScore(1500 + id)
+                .build();
+    }
+
+    private static <T> T entity(Class<T> type, long id) {
+        T entity = BeanUtils.instantiateClass(type);
+        ReflectionTestUtils.setField(entity, "id", id);
+        return entity;
+    }
+
+    // keyset 스크롤 조회를 offset 위치로 흉내냄 (첫 호출은 처음부터, 이후 마지막 행 다음부터)
+    @SuppressWarnings("unchecked")
+    private static <R, T> R stubRepository(Class<R> repositoryType, String scrollMethod, List<T> rows) {
+        return (R) Proxy.newProxyInstance(repositoryType.getClassLoader(), new Class<?>[]{repositoryType},
+                (proxy, method, args) -> {
+                    if (!method.getName().equals(scrollMethod)) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    int from = args[0] instanceof OffsetScrollPosition offset ? (int) offset.getOffset() + 1 : 0;
+                    int to = Math.min(from + ((Limit) args[1]).max(), rows.size());
+                    return Window.from(rows.subList(from, to), index -> ScrollPosition.offset(from + index),
+                            to < rows.size());
+                });
+    }
+}
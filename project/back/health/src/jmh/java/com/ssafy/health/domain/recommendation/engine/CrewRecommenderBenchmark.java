@@ -0,0 +1,113 @@
+package com.ssafy.health.domain.recommendation.engine;
+
+import com.ssafy.health.domain.crew.dto.analysis.CrewData;
+import com.ssafy.health.domain.crew.dto.analysis.ScoreData;
+import com.ssafy.health.domain.crew.dto.analysis.UserData;
+import com.ssafy.health.domain.recommendation.engine.CrewRecommender.Candidate;
+import com.ssafy.health.domain.recommendation.engine.CrewRecommender.Recommendation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+// 전체 유저 x 전체 크루 추천 1회 비용 (analysis 서버는 같은 규모에서 유저-크루 쌍마다 Python 루프)
+// 실행 : ./gradlew jmh
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class CrewRecommenderBenchmark {
+
+    @Param({"100000"})
+    private int userCount;
+
+    @Param({"10000"})
+    private int crewCount;
+
+    // 운영 설정 health.recommendation.engine.parallelism 과 같은 크기의 전용 풀
+    @Param({"1", "2"})
+    private int parallelism;
+
+    private ForkJoinPool pool;
+
+    private CrewRecommender recommender;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+
+        List<CrewData> crews = new ArrayList<>(crewCount);
+        for (int i = 0; i < crewCount; i++) {
+            crews.add(CrewData.builder()
+                    .crewId((long) i + 1)
+                    .score(randomScore(random))
+                    .crewSports((long) random.nextInt(CrewRecommender.TOTAL_SPORTS) + 1)
+                    .build());
+        }
+
+        List<UserData> users = new ArrayList<>(userCount);
+        for (int i = 0; i < userCount; i++) {
+            List<Long> sports = new ArrayList<>();
+            for (int s = random.nextInt(4); s > 0; s--) {
+                sports.add((long) random.nextInt(CrewRecommender.TOTAL_SPORTS) + 1);
+            }
+            List<Long> crewList = new ArrayList<>();
+            for (int c = random.nextInt(3); c > 0; c--) {
+                crewList.add((long) random.nextInt(crewCount) + 1);
+            }
+            users.add(UserData.builder()
+                    .userId((long) i + 1)
+                    .score(randomScore(random))
+                    .favoriteSports(sports)
+                    .crewList(crewList)
+                    .build());
+        }
+
+        recommender = new CrewRecommender(users, crews);
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public List<Recommendation> recommendAll() {
+        return recommender.recommendAll(pool, 1L);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<Candidate> rankSingleUser() {
+        return recommender.rank(userCount / 2);
+    }
+
+    private static ScoreData randomScore(Random random) {
+        boolean muscular = random.nextFloat() < 0.3f;
+        return ScoreData.builder()
+                .mType(muscular ? 7 + random.nextInt(3) : 0)
+                .type(muscular ? 0 : 1 + random.nextInt(6))
+                .age(20 + random.nextInt(40))
+                .basicScore(random.nextFloat() * 100)
+                .activityScore(random.nextFloat() * 100)
+                .intakeScore(1200 + random.nextFloat() * 2000)
+                .build();
+    }
+}
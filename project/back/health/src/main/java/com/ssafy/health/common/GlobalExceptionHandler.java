@@ -1,15 +1,18 @@
 package com.ssafy.health.common;
 
+import com.ssafy.health.common.http.OutboundCallRejectedException;
 import com.ssafy.health.common.oauth.exception.ExpiredRefreshToken;
 import com.ssafy.health.common.oauth.exception.InvalidRefreshToken;
 import com.ssafy.health.common.oauth.exception.NotFoundRefreshTokenException;
 import com.ssafy.health.domain.account.exception.*;
 import com.ssafy.health.domain.attendance.exception.AttendanceAlreadyExistsException;
 import com.ssafy.health.domain.battle.exception.BattleAlreadyExistsException;
+import com.ssafy.health.domain.battle.exception.OpponentCrewNotFoundException;
 import com.ssafy.health.domain.battle.exception.BattleNotFoundException;
 import com.ssafy.health.domain.body.BodyHistory.exception.BodyHistoryNotFoundException;
 import com.ssafy.health.domain.body.BodyPredict.exception.BasicDataNotFoundException;
 import com.ssafy.health.domain.body.BodyPredict.exception.ExtraDataNotFoundException;
+import com.ssafy.health.domain.body.BodyPredict.exception.PredictionJobNotFoundException;
 import com.ssafy.health.domain.body.BodyType.exception.BodyTypeNotFoundException;
 import com.ssafy.health.domain.character.exception.CharacterNotFoundException;
 import com.ssafy.health.domain.character.exception.CharacterSetNotFoundException;
@@ -41,6 +44,12 @@ public class GlobalExceptionHandler {
     }
 
     // 404 - Not Found
+    @ExceptionHandler(PredictionJobNotFoundException.class)
+    public ResponseEntity<ApiResponse<Void>> handlePredictionJobNotFoundException(final PredictionJobNotFoundException e) {
+        ApiResponse<Void> response = ApiResponse.error(e.getStatus(), e.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+    }
+
     @ExceptionHandler(NotFoundRefreshTokenException.class)
     public ResponseEntity<ApiResponse<Void>> handleNotFoundRefreshTokenException(NotFoundRefreshTokenException e) {
         ApiResponse<Void> response = ApiResponse.error(e.getStatus(), e.getMessage());
@@ -185,6 +194,12 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
     }
 
+    @ExceptionHandler(OpponentCrewNotFoundException.class)
+    public ResponseEntity<ApiResponse<Void>> handleOpponentCrewNotFoundException(final OpponentCrewNotFoundException e) {
+        ApiResponse<Void> response = ApiResponse.error(e.getStatus(), e.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+    }
+
     @ExceptionHandler(AlreadyJoinedCrewException.class)
     public ResponseEntity<ApiResponse<Void>> handleAlreadyJoinedCrewException(final AlreadyJoinedCrewException e) {
         ApiResponse<Void> response = ApiResponse.error(e.getStatus(), e.getMessage());
@@ -197,4 +212,12 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
     }
 
+    // 503 - Service Unavailable
+
+    @ExceptionHandler(OutboundCallRejectedException.class)
+    public ResponseEntity<ApiResponse<Void>> handleOutboundCallRejectedException(final OutboundCallRejectedException e) {
+        ApiResponse<Void> response = ApiResponse.error(503, e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,204 @@
+package com.ssafy.health.common.cache;
+
+import com.ssafy.health.domain.account.entity.CaloriesType;
+import com.ssafy.health.domain.account.entity.Frequency;
+import com.ssafy.health.domain.account.entity.Gender;
+import com.ssafy.health.domain.account.entity.MealType;
+import com.ssafy.health.domain.account.repository.MealCaloriesRepository;
+import com.ssafy.health.domain.account.repository.SnackCaloriesRepository;
+import com.ssafy.health.domain.body.BodyType.entity.BodyType;
+import com.ssafy.health.domain.body.BodyType.repository.BodyTypeRepository;
+import com.ssafy.health.domain.character.dto.response.PartsInfoDto;
+import com.ssafy.health.domain.character.entity.Character;
+import com.ssafy.health.domain.character.respository.CharacterRepository;
+import com.ssafy.health.domain.character.respository.PartsRepository;
+import com.ssafy.health.domain.exercise.repository.ExerciseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 거의 바뀌지 않는 기준 데이터(운동, 체형, 캐릭터, 파츠, 칼로리표)를 메모리에 올려두고 조회
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReferenceDataCache {
+
+    private final ExerciseRepository exerciseRepository;
+    private final BodyTypeRepository bodyTypeRepository;
+    private final CharacterRepository characterRepository;
+    private final PartsRepository partsRepository;
+    private final MealCaloriesRepository mealCaloriesRepository;
+    private final SnackCaloriesRepository snackCaloriesRepository;
+
+    private volatile Snapshot snapshot;
+
+    public record CharacterInfo(Long id, Long bodyTypeId, Gender gender, String characterImage, String characterFile) {
+    }
+
+    private record Snapshot(
+            Map<Long, Float> exerciseMets,
+            Set<Long> bodyTypeIds,
+            Map<Long, CharacterInfo> characters,
+            Map<Long, String> characterImagesByBodyTypeId,
+            Map<Gender, String[]> characterImagesByBmi,
+            List<PartsInfoDto> parts,
+            Map<Long, Integer> mealCalories,
+            Map<Long, Integer> snackCalories
+    ) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void reload() {
+        Map<Long, Float> exerciseMets = new HashMap<>();
+        exerciseRepository.findAll().forEach(exercise -> exerciseMets.put(exercise.getId(), exercise.getMet()));
+
+        List<Character> characterList = characterRepository.findAll().stream()
+                .sorted(Comparator.comparing(Character::getId))
+                .toList();
+        Map<Long, CharacterInfo> characters = new HashMap<>();
+        Map<Long, String> characterImagesByBodyTypeId = new HashMap<>();
+        characterList.forEach(character -> {
+            Long bodyTypeId = character.getBodyType().getId();
+            characters.put(character.getId(), new CharacterInfo(character.getId(), bodyTypeId,
+                    character.getGender(), character.getCharacterImage(), character.getCharacterFile()));
+            characterImagesByBodyTypeId.putIfAbsent(bodyTypeId, character.getCharacterImage());
+        });
+
+        Map<Long, Integer> mealCalories = new HashMap<>();
+        mealCaloriesRepository.findAll().forEach(meal ->
+                mealCalories.put(mealKey(meal.getMealCount(), meal.getMealType()), meal.getCalories()));
+
+        Map<Long, Integer> snackCalories = new HashMap<>();
+        snackCaloriesRepository.findAll().forEach(snack ->
+                snackCalories.put(snackKey(snack.getType(), snack.getFrequency()), snack.getCalories()));
+
+        List<BodyType> bodyTypes = bodyTypeRepository.findAll();
+        Map<Gender, long[]> bodyTypeIdsByBmi = buildBmiTables(bodyTypes);
+
+        snapshot = new Snapshot(
+                Map.copyOf(exerciseMets),
+                bodyTypes.stream().map(BodyType::getId).collect(Collectors.toUnmodifiableSet()),
+                Map.copyOf(characters),
+                Map.copyOf(characterImagesByBodyTypeId),
+                buildImageTables(bodyTypeIdsByBmi, characterImagesByBodyTypeId),
+                partsRepository.findAll().stream().map(PartsInfoDto::fromEntity).toList(),
+                Map.copyOf(mealCalories),
+                Map.copyOf(snackCalories));
+
+        log.info("Reference data loaded: {} exercises, {} characters, {} parts",
+                exerciseMets.size(), characters.size(), snapshot.parts().size());
+    }
+
+    public boolean existsExercise(Long exerciseId) {
+        return current().exerciseMets().containsKey(exerciseId);
+    }
+
+    public Optional<Float> getExerciseMet(Long exerciseId) {
+        return Optional.ofNullable(current().exerciseMets().get(exerciseId));
+    }
+
+    public boolean existsBodyType(Long bodyTypeId) {
+        return current().bodyTypeIds().contains(bodyTypeId);
+    }
+
+    // BMI 정수부로 바로 예상 체형의 캐릭터 이미지를 조회 (체형 조회 + 캐릭터 조회를 배열 한 번으로)
+    public Optional<String> findCharacterImageByBmi(int bmi, Gender gender) {
+        String[] table = current().characterImagesByBmi().get(gender);
+        if (table == null || bmi < 0 || bmi >= table.length) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(table[bmi]);
+    }
+
+    public Optional<CharacterInfo> getCharacter(Long characterId) {
+        return Optional.ofNullable(current().characters().get(characterId));
+    }
+
+    public Optional<String> getCharacterImageByBodyTypeId(Long bodyTypeId) {
+        return Optional.ofNullable(current().characterImagesByBodyTypeId().get(bodyTypeId));
+    }
+
+    public List<PartsInfoDto> getParts() {
+        return current().parts();
+    }
+
+    public Optional<Integer> getMealCalories(Integer mealCount, MealType mealType) {
+        if (mealCount == null || mealType == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(current().mealCalories().get(mealKey(mealCount, mealType)));
+    }
+
+    public Optional<Integer> getSnackCalories(CaloriesType type, Frequency frequency) {
+        if (frequency == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(current().snackCalories().get(snackKey(type, frequency)));
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            reload();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    // 성별마다 BMI 정수값을 인덱스로 하는 체형 id 표 (해당 체형이 없으면 0)
+    // 기존 쿼리와 같이 BMI 정수부가 [minFatRatio, maxFatRatio]에 포함되는 체형 중 id가 가장 작은 체형
+    private static Map<Gender, long[]> buildBmiTables(List<BodyType> bodyTypes) {
+        Map<Gender, long[]> tables = new EnumMap<>(Gender.class);
+        List<BodyType> sorted = bodyTypes.stream().sorted(Comparator.comparing(BodyType::getId)).toList();
+
+        for (Gender gender : Gender.values()) {
+            List<BodyType> candidates = sorted.stream().filter(bodyType -> bodyType.getGender() == gender).toList();
+            int maxBmi = (int) Math.floor(candidates.stream().mapToDouble(BodyType::getMaxFatRatio).max().orElse(-1));
+
+            long[] table = new long[maxBmi + 1];
+            for (int bmi = 0; bmi <= maxBmi; bmi++) {
+                for (BodyType bodyType : candidates) {
+                    if (bodyType.getMinFatRatio() <= bmi && bmi <= bodyType.getMaxFatRatio()) {
+                        table[bmi] = bodyType.getId();
+                        break;
+                    }
+                }
+            }
+            tables.put(gender, table);
+        }
+        return tables;
+    }
+
+    // 체형 표와 같은 인덱스에 해당 체형의 첫 캐릭터 이미지를 미리 채워둠
+    private static Map<Gender, String[]> buildImageTables(Map<Gender, long[]> bodyTypeIdsByBmi,
+                                                         Map<Long, String> characterImagesByBodyTypeId) {
+        Map<Gender, String[]> tables = new EnumMap<>(Gender.class);
+        bodyTypeIdsByBmi.forEach((gender, bodyTypeIds) -> {
+            String[] table = new String[bodyTypeIds.length];
+            for (int bmi = 0; bmi < bodyTypeIds.length; bmi++) {
+                table[bmi] = characterImagesByBodyTypeId.get(bodyTypeIds[bmi]);
+            }
+            tables.put(gender, table);
+        });
+        return tables;
+    }
+
+    private static long mealKey(Integer mealCount, MealType mealType) {
+        return ((long) mealCount << 8) | mealType.ordinal();
+    }
+
+    private static long snackKey(CaloriesType type, Frequency frequency) {
+        return ((long) type.ordinal() << 8) | frequency.ordinal();
+    }
+}
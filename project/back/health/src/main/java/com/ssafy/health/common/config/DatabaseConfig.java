@@ -4,7 +4,9 @@ import com.mongodb.ConnectionString;
 import com.mongodb.MongoClientSettings;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
+import org.hibernate.cfg.AvailableSettings;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
 import org.springframework.boot.autoconfigure.mongo.MongoProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -15,6 +17,7 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
+import org.springframework.orm.hibernate5.SpringBeanContainer;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
 import org.springframework.transaction.PlatformTransactionManager;
@@ -47,6 +50,9 @@ public class DatabaseConfig {
     @Autowired
     private HibernateProperties hibernateProperties;
 
+    @Autowired
+    private ConfigurableListableBeanFactory beanFactory;
+
     @Primary
     @Bean
     @ConfigurationProperties(prefix = "spring.datasource")
@@ -73,6 +79,11 @@ public class DatabaseConfig {
         Map<String, Object> properties = new HashMap<>();
         properties.put("hibernate.hbm2ddl.auto", hibernateProperties.getHbm2Ddl());
         properties.put("hibernate.format_sql", hibernateProperties.getFormatSql());
+        // 정산처럼 여러 엔티티를 한 번에 수정하는 작업의 UPDATE를 묶어서 전송
+        properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, 100);
+        properties.put(AvailableSettings.ORDER_UPDATES, true);
+        // JPA 엔티티 리스너에 스프링 빈 주입
+        properties.put(AvailableSettings.BEAN_CONTAINER, new SpringBeanContainer(beanFactory));
 
         return builder.dataSource(dataSource)
                 .packages("com.ssafy.health")
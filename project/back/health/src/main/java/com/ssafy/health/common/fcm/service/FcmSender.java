@@ -0,0 +1,14 @@
+package com.ssafy.health.common.fcm.service;
+
+import com.ssafy.health.common.fcm.dto.request.FcmRequestDto;
+
+import java.util.List;
+
+public interface FcmSender {
+
+    // FCM sendEach 한 번에 보낼 수 있는 최대 메시지 수
+    int MAX_BATCH_SIZE = 500;
+
+    // 요청 순서대로 전송 성공 여부를 반환
+    List<Boolean> sendEach(List<FcmRequestDto> fcmRequestDtoList);
+}
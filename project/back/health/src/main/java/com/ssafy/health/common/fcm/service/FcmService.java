@@ -1,29 +1,41 @@
 package com.ssafy.health.common.fcm.service;
 
+import com.google.firebase.messaging.BatchResponse;
 import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
 import com.google.firebase.messaging.Message;
 import com.google.firebase.messaging.Notification;
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
+import com.google.firebase.messaging.SendResponse;
 import com.ssafy.health.common.fcm.dto.request.FcmRequestDto;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.ExecutionException;
+import java.util.Collections;
+import java.util.List;
 
 @Slf4j
 @Service
-public class FcmService {
+public class FcmService implements FcmSender {
 
-    public void sendMessageToDevice(FcmRequestDto fcmRequestDto)
-            throws InterruptedException, ExecutionException {
+    @Override
+    public List<Boolean> sendEach(List<FcmRequestDto> fcmRequestDtoList) {
 
-        Message message = messageBuilder(fcmRequestDto);
-        Gson gson = new GsonBuilder().setPrettyPrinting().create();
-        String jsonOutput = gson.toJson(message);
-        String response = FirebaseMessaging.getInstance().sendAsync(message).get();
+        List<Message> messages = fcmRequestDtoList.stream()
+                .map(this::messageBuilder)
+                .toList();
 
-        log.info("Sent message to token {}, {} payload {}", fcmRequestDto.getToken(), response, jsonOutput);
+        try {
+            BatchResponse response = FirebaseMessaging.getInstance().sendEach(messages);
+            log.info("Sent {} messages, {} succeeded, {} failed",
+                    messages.size(), response.getSuccessCount(), response.getFailureCount());
+
+            return response.getResponses().stream()
+                    .map(SendResponse::isSuccessful)
+                    .toList();
+        } catch (FirebaseMessagingException e) {
+            log.warn("Failed to send {} messages: {}", messages.size(), e.getMessage());
+            return Collections.nCopies(messages.size(), false);
+        }
     }
 
     private Message messageBuilder(FcmRequestDto fcmRequestDto) {
@@ -0,0 +1,53 @@
+package com.ssafy.health.common.http;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+// analysis(FastAPI) 서버 호출용 클라이언트
+// 배치 예측 재시도는 BodyPredictDispatcher가 배치 단위로 하므로 기본은 재시도 없음
+// 예측 요청은 부수 효과가 없으므로 재시도를 켜면 읽기 타임아웃도 재시도
+@Configuration
+public class AnalysisClientConfig {
+
+    @Value("${health.outbound.analysis.connect-timeout-millis:2000}")
+    private long connectTimeoutMillis;
+
+    @Value("${health.outbound.analysis.read-timeout-millis:120000}")
+    private long readTimeoutMillis;
+
+    @Value("${health.outbound.analysis.max-concurrent-calls:16}")
+    private int maxConcurrentCalls;
+
+    @Value("${health.outbound.analysis.max-wait-millis:200}")
+    private long maxWaitMillis;
+
+    @Value("${health.outbound.analysis.max-attempts:1}")
+    private int maxAttempts;
+
+    @Value("${health.outbound.analysis.retry-backoff-millis:300}")
+    private long retryBackoffMillis;
+
+    @Value("${health.outbound.analysis.failure-threshold:5}")
+    private int failureThreshold;
+
+    @Value("${health.outbound.analysis.open-millis:30000}")
+    private long openMillis;
+
+    @Bean
+    public OutboundClient analysisClient() {
+        return new OutboundClient("analysis", OutboundSettings.builder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .readTimeout(Duration.ofMillis(readTimeoutMillis))
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWait(Duration.ofMillis(maxWaitMillis))
+                .maxAttempts(maxAttempts)
+                .retryBackoff(Duration.ofMillis(retryBackoffMillis))
+                .failureThreshold(failureThreshold)
+                .openDuration(Duration.ofMillis(openMillis))
+                .idempotent(true)
+                .build());
+    }
+}
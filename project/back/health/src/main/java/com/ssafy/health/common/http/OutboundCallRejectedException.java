@@ -0,0 +1,11 @@
+package com.ssafy.health.common.http;
+
+import org.springframework.web.client.ResourceAccessException;
+
+// 서킷이 열려 있거나 동시 요청 수가 가득 차 요청을 보내지 않은 경우
+public class OutboundCallRejectedException extends ResourceAccessException {
+
+    public OutboundCallRejectedException(String destination, String reason) {
+        super(destination + " request rejected: " + reason);
+    }
+}
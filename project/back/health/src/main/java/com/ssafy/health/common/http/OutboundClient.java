@@ -0,0 +1,162 @@
+package com.ssafy.health.common.http;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.ConnectException;
+import java.net.http.HttpClient;
+import java.net.http.HttpConnectTimeoutException;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+// 목적지 하나에 대한 외부 호출 클라이언트
+// HttpClient 하나를 공유해 keep-alive 커넥션을 재사용하고, 동시 요청 수 제한 -> 서킷 브레이커 -> 호출 순으로 감쌈
+public class OutboundClient {
+
+    @Getter
+    private final String name;
+    private final OutboundSettings settings;
+    private final RestTemplate restTemplate;
+    private final Semaphore bulkhead;
+    private final CircuitBreaker circuitBreaker;
+    @Getter
+    private final OutboundMetrics metrics = new OutboundMetrics();
+
+    public OutboundClient(String name, OutboundSettings settings) {
+        this(name, settings, List.of());
+    }
+
+    public OutboundClient(String name, OutboundSettings settings, List<ClientHttpRequestInterceptor> interceptors) {
+        this.name = name;
+        this.settings = settings;
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(settings.connectTimeout())
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(settings.readTimeout());
+
+        this.restTemplate = new RestTemplate(requestFactory);
+        this.restTemplate.getInterceptors().addAll(interceptors);
+        this.bulkhead = new Semaphore(settings.maxConcurrentCalls(), true);
+        this.circuitBreaker = new CircuitBreaker(settings.failureThreshold(), settings.openDuration().toNanos());
+    }
+
+    // 연결 실패, 429, 502~504는 지터를 준 지수 백오프로 maxAttempts까지 재시도
+    // idempotent가 아니면 요청이 처리되지 않은 게 확실한 연결 실패, 429, 503만 재시도
+    public <T> T execute(Function<RestTemplate, T> call) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return executeOnce(call);
+            } catch (RuntimeException e) {
+                if (attempt >= settings.maxAttempts() || !isRetryable(e, settings.idempotent()) || !sleep(backoffMillis(attempt))) {
+                    throw e;
+                }
+                metrics.recordRetry();
+            }
+        }
+    }
+
+    public boolean isCircuitOpen() {
+        return circuitBreaker.isOpen();
+    }
+
+    private <T> T executeOnce(Function<RestTemplate, T> call) {
+        acquireBulkhead();
+        try {
+            if (!circuitBreaker.tryAcquire()) {
+                metrics.recordRejected();
+                throw new OutboundCallRejectedException(name, "circuit open");
+            }
+
+            long start = System.nanoTime();
+            try {
+                T result = call.apply(restTemplate);
+                circuitBreaker.onSuccess();
+                metrics.recordSuccess(System.nanoTime() - start);
+                return result;
+            } catch (RuntimeException e) {
+                // 4xx 등 상대 서버가 정상 응답한 경우는 서킷 실패로 세지 않음
+                if (isFailure(e)) {
+                    circuitBreaker.onFailure();
+                    metrics.recordFailure(System.nanoTime() - start);
+                } else {
+                    circuitBreaker.onSuccess();
+                    metrics.recordSuccess(System.nanoTime() - start);
+                }
+                throw e;
+            }
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private void acquireBulkhead() {
+        try {
+            if (bulkhead.tryAcquire(settings.maxWait().toMillis(), TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        metrics.recordRejected();
+        throw new OutboundCallRejectedException(name, "too many concurrent requests");
+    }
+
+    private long backoffMillis(int attempt) {
+        long base = settings.retryBackoff().toMillis() << (attempt - 1);
+        return base / 2 + ThreadLocalRandom.current().nextLong(base / 2 + 1);
+    }
+
+    private static boolean isFailure(RuntimeException e) {
+        return e instanceof ResourceAccessException || e instanceof HttpServerErrorException;
+    }
+
+    private static boolean isRetryable(RuntimeException e, boolean idempotent) {
+        if (e instanceof OutboundCallRejectedException) {
+            return false;
+        }
+        if (e instanceof HttpServerErrorException serverError) {
+            int status = serverError.getStatusCode().value();
+            if (status == HttpStatus.SERVICE_UNAVAILABLE.value()) {
+                return true;
+            }
+            return idempotent
+                    && (status == HttpStatus.BAD_GATEWAY.value() || status == HttpStatus.GATEWAY_TIMEOUT.value());
+        }
+        if (e instanceof ResourceAccessException) {
+            return idempotent || isConnectFailure(e);
+        }
+        return e instanceof HttpClientErrorException.TooManyRequests;
+    }
+
+    // 연결 단계 실패는 요청 본문이 전송되기 전이므로 비멱등 요청도 재시도 가능
+    private static boolean isConnectFailure(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectException || cause instanceof HttpConnectTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.ssafy.health.common.http;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// 목적지별 호출/실패/거절/재시도 수와 지연 시간 (리포트 주기마다 초기화)
+public class OutboundMetrics {
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder latencyNanos = new LongAdder();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+    public record Snapshot(long calls, long failures, long rejected, long retries,
+                           long avgLatencyMillis, long maxLatencyMillis) {
+    }
+
+    void recordSuccess(long elapsedNanos) {
+        calls.increment();
+        recordLatency(elapsedNanos);
+    }
+
+    void recordFailure(long elapsedNanos) {
+        calls.increment();
+        failures.increment();
+        recordLatency(elapsedNanos);
+    }
+
+    void recordRejected() {
+        rejected.increment();
+    }
+
+    void recordRetry() {
+        retries.increment();
+    }
+
+    public Snapshot snapshot() {
+        return toSnapshot(calls.sum(), failures.sum(), rejected.sum(), retries.sum(),
+                latencyNanos.sum(), maxLatencyNanos.get());
+    }
+
+    public Snapshot snapshotAndReset() {
+        return toSnapshot(calls.sumThenReset(), failures.sumThenReset(), rejected.sumThenReset(),
+                retries.sumThenReset(), latencyNanos.sumThenReset(), maxLatencyNanos.getAndSet(0));
+    }
+
+    private void recordLatency(long elapsedNanos) {
+        latencyNanos.add(elapsedNanos);
+        maxLatencyNanos.accumulateAndGet(elapsedNanos, Math::max);
+    }
+
+    private static Snapshot toSnapshot(long calls, long failures, long rejected, long retries,
+                                       long latencyNanos, long maxLatencyNanos) {
+        long avgLatencyMillis = calls == 0 ? 0 : latencyNanos / calls / 1_000_000;
+        return new Snapshot(calls, failures, rejected, retries, avgLatencyMillis, maxLatencyNanos / 1_000_000);
+    }
+}
@@ -0,0 +1,30 @@
+package com.ssafy.health.common.http;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboundMetricsReporter {
+
+    private final List<OutboundClient> outboundClients;
+
+    // 5분마다 목적지별 호출 지표를 기록하고 초기화
+    @Scheduled(fixedDelay = 300000)
+    public void report() {
+        for (OutboundClient client : outboundClients) {
+            OutboundMetrics.Snapshot snapshot = client.getMetrics().snapshotAndReset();
+            if (snapshot.calls() == 0 && snapshot.rejected() == 0) {
+                continue;
+            }
+            log.info("Outbound [{}] calls={}, failures={}, rejected={}, retries={}, avg={}ms, max={}ms, circuitOpen={}",
+                    client.getName(), snapshot.calls(), snapshot.failures(), snapshot.rejected(), snapshot.retries(),
+                    snapshot.avgLatencyMillis(), snapshot.maxLatencyMillis(), client.isCircuitOpen());
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.ssafy.health.common.http;
+
+import lombok.Builder;
+
+import java.time.Duration;
+
+// 목적지별 타임아웃, 동시 요청 수(bulkhead), 재시도, 서킷 브레이커 설정
+// idempotent가 false면 요청이 상대 서버에 도달했을 수 있는 실패(읽기 타임아웃, 502, 504)는 재시도하지 않음
+@Builder
+public record OutboundSettings(
+        Duration connectTimeout,
+        Duration readTimeout,
+        int maxConcurrentCalls,
+        Duration maxWait,
+        int maxAttempts,
+        Duration retryBackoff,
+        int failureThreshold,
+        Duration openDuration,
+        boolean idempotent
+) {
+}
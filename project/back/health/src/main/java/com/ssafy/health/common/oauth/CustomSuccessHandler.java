@@ -42,8 +42,8 @@ public class CustomSuccessHandler extends SimpleUrlAuthenticationSuccessHandler
         UserRole role = UserRole.valueOf(auth.getAuthority());
 
         //토큰 생성
-        String accessToken = jwtUtil.createJwt("access", username, role, 600000000L);
-        String refreshToken = jwtUtil.createJwt("refresh", username, role, 86400000L);
+        String accessToken = jwtUtil.createJwt("access", username, role, customUserDetails.getId(), 600000000L);
+        String refreshToken = jwtUtil.createJwt("refresh", username, role, customUserDetails.getId(), 86400000L);
 
         //Refresh 토큰 저장
         refreshService.addRefreshToken(username, refreshToken, 86400000L);
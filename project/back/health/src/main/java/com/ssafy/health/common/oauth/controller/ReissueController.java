@@ -4,7 +4,7 @@ import com.ssafy.health.common.oauth.exception.ExpiredRefreshToken;
 import com.ssafy.health.common.oauth.exception.InvalidRefreshToken;
 import com.ssafy.health.common.oauth.exception.NotFoundRefreshTokenException;
 import com.ssafy.health.common.oauth.jwt.JWTUtil;
-import com.ssafy.health.common.oauth.repository.RefreshRepository;
+import com.ssafy.health.common.oauth.jwt.JwtClaims;
 import com.ssafy.health.common.oauth.service.CookieService;
 import com.ssafy.health.common.oauth.service.RefreshService;
 import com.ssafy.health.common.security.SecurityUtil;
@@ -29,7 +29,6 @@ public class ReissueController {
 
     private final JWTUtil jwtUtil;
     private final UserRepository userRepository;
-    private final RefreshRepository refreshRepository;
     private final RefreshService refreshService;
     private final CookieService cookieService;
 
@@ -57,8 +56,9 @@ public class ReissueController {
         }
 
         //expired check
+        JwtClaims claims;
         try {
-            jwtUtil.isExpired(refresh);
+            claims = jwtUtil.parseClaims(refresh);
         } catch (ExpiredJwtException e) {
 
             //response status code
@@ -66,11 +66,10 @@ public class ReissueController {
         }
 
         // 토큰이 refresh인지 확인 (발급시 페이로드에 명시)
-        String category = jwtUtil.getCategory(refresh);
+        String category = claims.category();
 
         // DB에 저장되어 있는지 확인
-        Boolean isExist = refreshRepository.existsByRefresh(refresh);
-        if (!isExist) {
+        if (!refreshService.exists(refresh)) {
 
             //response body
             throw new InvalidRefreshToken();
@@ -82,19 +81,22 @@ public class ReissueController {
             throw new InvalidRefreshToken();
         }
 
-        String username = jwtUtil.getUsername(refresh);
-        UserRole role = jwtUtil.getRole(refresh);
+        String username = claims.username();
+        Long userId = claims.userId() != null ? claims.userId() : userRepository.findBySso(username).getId();
 
         //make new JWT
-        String newAccess = jwtUtil.createJwt("access", username, UserRole.USER, 600000000L);
-        String newRefresh = jwtUtil.createJwt("refresh", username, UserRole.USER, 86400000L);
+        String newAccess = jwtUtil.createJwt("access", username, UserRole.USER, userId, 600000000L);
+        String newRefresh = jwtUtil.createJwt("refresh", username, UserRole.USER, userId, 86400000L);
 
-        refreshRepository.deleteByRefresh(refresh);
-        refreshService.addRefreshToken(username, newRefresh, 86400000L);
+        // 기존 토큰 삭제와 새 토큰 저장을 한 번에 (그 사이 다른 요청이 같은 토큰을 썼다면 실패)
+        if (!refreshService.rotate(refresh, newRefresh, 86400000L)) {
+
+            throw new InvalidRefreshToken();
+        }
 
         //response
         response.setHeader("access", newAccess);
-        response.setHeader("userId", userRepository.findBySso(username).getId().toString());
+        response.setHeader("userId", userId.toString());
         response.addHeader(HttpHeaders.SET_COOKIE, cookieService.createCookie("refresh", newRefresh).toString());
 
         System.out.println("access: " + newAccess);
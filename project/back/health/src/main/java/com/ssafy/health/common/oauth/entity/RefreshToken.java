@@ -1,21 +1,43 @@
 package com.ssafy.health.common.oauth.entity;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Builder;
 import lombok.Getter;
-import lombok.Setter;
+import lombok.NoArgsConstructor;
 
+// 토큰 원문 대신 SHA-256 해시(hex 64자)로 조회, 만료 시각은 epoch millis로 저장해 범위 삭제
 @Entity
 @Getter
-@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_token_hash", columnNames = {"tokenHash"})
+}, indexes = {
+        @Index(name = "idx_expires_at", columnList = "expiresAt")
+})
 public class RefreshToken {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     private String username;
-    private String refresh;
-    private String expiration;
+
+    @Column(length = 64)
+    private String tokenHash;
+
+    private Long expiresAt;
+
+    @Builder
+    public RefreshToken(String username, String tokenHash, Long expiresAt) {
+        this.username = username;
+        this.tokenHash = tokenHash;
+        this.expiresAt = expiresAt;
+    }
 }
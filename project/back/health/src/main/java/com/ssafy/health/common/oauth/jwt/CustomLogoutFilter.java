@@ -1,6 +1,7 @@
 package com.ssafy.health.common.oauth.jwt;
 
-import com.ssafy.health.common.oauth.repository.RefreshRepository;
+import com.ssafy.health.common.oauth.service.PrincipalCacheService;
+import com.ssafy.health.common.oauth.service.RefreshService;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -18,7 +19,8 @@ import java.io.IOException;
 public class CustomLogoutFilter extends GenericFilterBean {
 
     private final JWTUtil jwtUtil;
-    private final RefreshRepository refreshRepository;
+    private final RefreshService refreshService;
+    private final PrincipalCacheService principalCacheService;
 
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
@@ -60,8 +62,9 @@ public class CustomLogoutFilter extends GenericFilterBean {
         }
 
         //expired check
+        JwtClaims claims;
         try {
-            jwtUtil.isExpired(refresh);
+            claims = jwtUtil.parseClaims(refresh);
         } catch (ExpiredJwtException e) {
 
             //response status code
@@ -70,26 +73,22 @@ public class CustomLogoutFilter extends GenericFilterBean {
         }
 
         // 토큰이 refresh인지 확인 (발급시 페이로드에 명시)
-        String category = jwtUtil.getCategory(refresh);
-        if (!category.equals("refresh")) {
+        if (!claims.category().equals("refresh")) {
 
             //response status code
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
             return;
         }
 
-        //DB에 저장되어 있는지 확인
-        Boolean isExist = refreshRepository.existsByRefresh(refresh);
-        if (!isExist) {
+        //로그아웃 진행
+        //Refresh 토큰 DB에서 제거 (저장되어 있지 않았으면 400)
+        if (!refreshService.removeRefreshToken(refresh)) {
 
             //response status code
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
             return;
         }
-
-        //로그아웃 진행
-        //Refresh 토큰 DB에서 제거
-        refreshRepository.deleteByRefresh(refresh);
+        principalCacheService.evict(claims.username());
 
         //Refresh 토큰 Cookie 값 0
         Cookie cookie = new Cookie("refresh", null);
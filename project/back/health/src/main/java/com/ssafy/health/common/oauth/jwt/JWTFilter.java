@@ -1,10 +1,7 @@
 package com.ssafy.health.common.oauth.jwt;
 
 import com.ssafy.health.common.oauth.dto.CustomOAuth2User;
-import com.ssafy.health.domain.account.dto.response.UserRegisterResponseDto;
-import com.ssafy.health.domain.account.entity.User;
-import com.ssafy.health.domain.account.entity.UserRole;
-import com.ssafy.health.domain.account.repository.UserRepository;
+import com.ssafy.health.common.oauth.service.PrincipalCacheService;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -23,7 +20,7 @@ import java.io.PrintWriter;
 public class JWTFilter extends OncePerRequestFilter {
 
     private final JWTUtil jwtUtil;
-    private final UserRepository userRepository;
+    private final PrincipalCacheService principalCacheService;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -40,9 +37,10 @@ public class JWTFilter extends OncePerRequestFilter {
             return;
         }
 
-        // 토큰 만료 여부 확인, 만료시 다음 필터로 넘기지 않음
+        // 서명 검증과 만료 여부를 한 번에 확인, 만료시 다음 필터로 넘기지 않음
+        JwtClaims claims;
         try {
-            jwtUtil.isExpired(accessToken);
+            claims = jwtUtil.parseClaims(accessToken);
         } catch (ExpiredJwtException e) {
 
             //response body
@@ -55,9 +53,7 @@ public class JWTFilter extends OncePerRequestFilter {
         }
 
         // 토큰이 access인지 확인 (발급시 페이로드에 명시)
-        String category = jwtUtil.getCategory(accessToken);
-
-        if (!category.equals("access")) {
+        if (!claims.category().equals("access")) {
 
             //response body
             PrintWriter writer = response.getWriter();
@@ -68,26 +64,8 @@ public class JWTFilter extends OncePerRequestFilter {
             return;
         }
 
-        //토큰에서 username과 role 획득
-        String sso = jwtUtil.getUsername(accessToken);
-        System.out.println("SSO from JWT: " + sso);
-
-        UserRole role = jwtUtil.getRole(accessToken);
-        System.out.println("Role from JWT: " + role);
-
-        User user = userRepository.findBySso(sso);
-
-        //userDTO를 생성하여 값 set
-        UserRegisterResponseDto userRegisterResponseDto = UserRegisterResponseDto.builder()
-                .sso(sso)
-                .role(UserRole.USER)
-                .id(user.getId())
-                .name(user.getName())
-                .email(user.getEmail())
-                .build();
-
-        //UserDetails에 회원 정보 객체 담기
-        CustomOAuth2User customOAuth2User = new CustomOAuth2User(userRegisterResponseDto);
+        //UserDetails에 회원 정보 객체 담기 (캐시에 없을 때만 DB 조회)
+        CustomOAuth2User customOAuth2User = principalCacheService.getPrincipal(claims);
 
         //스프링 시큐리티 인증 토큰 생성
         Authentication authToken = new UsernamePasswordAuthenticationToken(customOAuth2User, null,
@@ -1,5 +1,7 @@
 package com.ssafy.health.common.oauth.jwt;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.Jwts.SIG;
 import org.springframework.beans.factory.annotation.Value;
@@ -10,46 +12,46 @@ import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 public class JWTUtil {
-    private SecretKey secretKey;
+    private final SecretKey secretKey;
+    private final JwtParser jwtParser;
 
     public JWTUtil(@Value("${spring.jwt.secret}") String secret) {
 
         secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), SIG.HS256.key().build().getAlgorithm());
+        jwtParser = Jwts.parser().verifyWith(secretKey).build();
     }
 
-    public String getUsername(String token) {
+    // 서명 검증과 만료 확인을 한 번에 수행 (만료 시 ExpiredJwtException)
+    public JwtClaims parseClaims(String token) {
+        Claims claims = parse(token);
 
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("username", String.class);
+        return new JwtClaims(
+                claims.get("category", String.class),
+                claims.get("username", String.class),
+                UserRole.valueOf(claims.get("role", String.class)),
+                claims.get("userId", Long.class));
     }
 
-    public UserRole getRole(String token) {
-        String role = Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("role", String.class);
-        return UserRole.valueOf(role);  // Convert String to MemberRole Enum
-    }
-
-    public String getCategory(String token) {
-
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload()
-                .get("category", String.class);
-    }
-
-    public Boolean isExpired(String token) {
-
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().getExpiration().before(new Date());
-    }
-
-    public String createJwt(String category, String username, UserRole role, Long expiredMs) {
+    // iat/exp는 초 단위이므로 같은 초에 발급된 토큰도 구분되도록 jti에 난수 ID (refresh 토큰 해시는 유니크 키)
+    public String createJwt(String category, String username, UserRole role, Long userId, Long expiredMs) {
 
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .claim("category", category)
                 .claim("username", username)
                 .claim("role", role)
+                .claim("userId", userId)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiredMs))
                 .signWith(secretKey)
                 .compact();
     }
+
+    private Claims parse(String token) {
+        return jwtParser.parseSignedClaims(token).getPayload();
+    }
 }
@@ -0,0 +1,7 @@
+package com.ssafy.health.common.oauth.jwt;
+
+import com.ssafy.health.domain.account.entity.UserRole;
+
+// 한 번의 서명 검증으로 얻은 토큰 정보 (userId는 이전에 발급된 토큰이면 null)
+public record JwtClaims(String category, String username, UserRole role, Long userId) {
+}
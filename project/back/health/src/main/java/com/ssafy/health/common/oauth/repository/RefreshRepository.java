@@ -2,12 +2,28 @@ package com.ssafy.health.common.oauth.repository;
 
 import com.ssafy.health.common.oauth.entity.RefreshToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.transaction.annotation.Transactional;
 
 public interface RefreshRepository extends JpaRepository<RefreshToken, Long> {
 
-    Boolean existsByRefresh(String refresh);
+    boolean existsByTokenHashAndExpiresAtGreaterThan(String tokenHash, Long now);
 
+    // 기존 토큰이 살아 있을 때만 새 토큰으로 교체 (동시에 같은 토큰으로 재발급하면 한 요청만 성공)
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.tokenHash = :newHash, r.expiresAt = :expiresAt " +
+            "WHERE r.tokenHash = :oldHash AND r.expiresAt > :now")
+    int rotate(String oldHash, String newHash, Long expiresAt, Long now);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.tokenHash = :tokenHash")
+    int deleteByTokenHash(String tokenHash);
+
+    // 만료(또는 해시 없는 이전 형식) 토큰을 chunk 단위로 삭제
     @Transactional
-    void deleteByRefresh(String refresh);
+    @Modifying
+    @Query(value = "DELETE FROM RefreshToken WHERE expiresAt < :now OR tokenHash IS NULL LIMIT :limit",
+            nativeQuery = true)
+    int deleteExpired(Long now, int limit);
 }
@@ -4,6 +4,7 @@ import com.ssafy.health.common.oauth.dto.CustomOAuth2User;
 import com.ssafy.health.common.oauth.dto.GoogleResponse;
 import com.ssafy.health.common.oauth.dto.KakaoResponse;
 import com.ssafy.health.common.oauth.dto.OAuth2Response;
+import com.ssafy.health.common.util.TransactionUtil;
 import com.ssafy.health.domain.account.dto.request.UserLoginUpdateRequestDto;
 import com.ssafy.health.domain.account.dto.request.UserRegisterRequestDto;
 import com.ssafy.health.domain.account.dto.response.UserRegisterResponseDto;
@@ -25,6 +26,7 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private final UserRepository userRepository;
     private final UserWriteService userWriteService;
+    private final PrincipalCacheService principalCacheService;
 
     @Transactional
     @Override
@@ -67,6 +69,8 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
                     .build();
 
             userWriteService.updateNameAndEmail(memberLoginUpdateRequestDto);
+            // 롤백되거나 커밋 전에 다른 요청이 옛 값을 다시 캐시하지 않도록 커밋 이후 제거
+            TransactionUtil.afterCommit(() -> principalCacheService.evict(sso));
 
             UserRegisterResponseDto userRegisterResponseDto = UserRegisterResponseDto.builder()
                     .id(existData.getId())
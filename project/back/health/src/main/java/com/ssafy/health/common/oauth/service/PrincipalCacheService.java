@@ -0,0 +1,82 @@
+package com.ssafy.health.common.oauth.service;
+
+import com.ssafy.health.common.oauth.dto.CustomOAuth2User;
+import com.ssafy.health.common.oauth.jwt.JwtClaims;
+import com.ssafy.health.domain.account.dto.response.UserRegisterResponseDto;
+import com.ssafy.health.domain.account.entity.User;
+import com.ssafy.health.domain.account.entity.UserRole;
+import com.ssafy.health.domain.account.exception.UserNotFoundException;
+import com.ssafy.health.domain.account.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 요청마다 사용자를 조회하지 않도록 sso 기준으로 인증 주체를 캐싱 (LRU + TTL)
+@Service
+@RequiredArgsConstructor
+public class PrincipalCacheService {
+
+    private final UserRepository userRepository;
+
+    @Value("${health.auth.principal-cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${health.auth.principal-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private final Map<String, CachedPrincipal> cache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedPrincipal> eldest) {
+            return size() > maxSize;
+        }
+    };
+
+    public CustomOAuth2User getPrincipal(JwtClaims claims) {
+        long now = System.currentTimeMillis();
+
+        synchronized (cache) {
+            CachedPrincipal cached = cache.get(claims.username());
+            if (cached != null && cached.expiresAt() > now) {
+                return cached.principal();
+            }
+        }
+
+        CustomOAuth2User principal = loadPrincipal(claims);
+        synchronized (cache) {
+            cache.put(claims.username(), new CachedPrincipal(principal, now + ttlSeconds * 1000));
+        }
+        return principal;
+    }
+
+    // 로그아웃, 사용자 정보 변경 시 호출
+    public void evict(String sso) {
+        synchronized (cache) {
+            cache.remove(sso);
+        }
+    }
+
+    private CustomOAuth2User loadPrincipal(JwtClaims claims) {
+        User user = claims.userId() != null
+                ? userRepository.findById(claims.userId()).orElseThrow(UserNotFoundException::new)
+                : userRepository.findBySso(claims.username());
+        if (user == null) {
+            throw new UserNotFoundException();
+        }
+
+        UserRegisterResponseDto userRegisterResponseDto = UserRegisterResponseDto.builder()
+                .sso(claims.username())
+                .role(UserRole.USER)
+                .id(user.getId())
+                .name(user.getName())
+                .email(user.getEmail())
+                .build();
+
+        return new CustomOAuth2User(userRegisterResponseDto);
+    }
+
+    private record CachedPrincipal(CustomOAuth2User principal, long expiresAt) {
+    }
+}
@@ -3,26 +3,126 @@ package com.ssafy.health.common.oauth.service;
 import com.ssafy.health.common.oauth.entity.RefreshToken;
 import com.ssafy.health.common.oauth.repository.RefreshRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Date;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class RefreshService {
 
+    private static final int SWEEP_CHUNK_SIZE = 1000;
+
     private final RefreshRepository refreshRepository;
 
+    // 존재 확인용 해시 -> 만료 시각 캐시 (0이면 사용 안 함, 재발급/로그아웃은 항상 DB에서 판정)
+    @Value("${health.auth.refresh-cache.max-size:10000}")
+    private int cacheMaxSize;
+
+    private final Map<String, Long> cache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+            return size() > cacheMaxSize;
+        }
+    };
+
+    @Transactional
     public void addRefreshToken(String username, String refreshToken, Long expiredMs) {
+        String tokenHash = hash(refreshToken);
+        long expiresAt = System.currentTimeMillis() + expiredMs;
+
+        refreshRepository.save(RefreshToken.builder()
+                .username(username)
+                .tokenHash(tokenHash)
+                .expiresAt(expiresAt)
+                .build());
+        putCache(tokenHash, expiresAt);
+    }
 
-        Date date = new Date(System.currentTimeMillis() + expiredMs);
+    public boolean exists(String refreshToken) {
+        String tokenHash = hash(refreshToken);
+        long now = System.currentTimeMillis();
 
-        RefreshToken refresh = new RefreshToken();
-        refresh.setUsername(username);
-        refresh.setRefresh(refreshToken);
-        refresh.setExpiration(date.toString());
+        if (cacheMaxSize > 0) {
+            synchronized (cache) {
+                Long expiresAt = cache.get(tokenHash);
+                if (expiresAt != null && expiresAt > now) {
+                    return true;
+                }
+            }
+        }
+        return refreshRepository.existsByTokenHashAndExpiresAtGreaterThan(tokenHash, now);
+    }
+
+    // 기존 토큰을 새 토큰으로 교체, 이미 사용/만료된 토큰이면 false
+    @Transactional
+    public boolean rotate(String oldToken, String newToken, Long expiredMs) {
+        String oldHash = hash(oldToken);
+        String newHash = hash(newToken);
+        long now = System.currentTimeMillis();
+
+        evictCache(oldHash);
+        if (refreshRepository.rotate(oldHash, newHash, now + expiredMs, now) == 0) {
+            return false;
+        }
+        putCache(newHash, now + expiredMs);
+        return true;
+    }
 
-        refreshRepository.save(refresh);
+    // 로그아웃 시 호출, 저장된 토큰이 없었으면 false
+    @Transactional
+    public boolean removeRefreshToken(String refreshToken) {
+        String tokenHash = hash(refreshToken);
+        evictCache(tokenHash);
+        return refreshRepository.deleteByTokenHash(tokenHash) > 0;
     }
 
+    // 한 번에 지우지 않고 chunk마다 커밋해 락 점유를 짧게 유지
+    @Scheduled(cron = "0 15 * * * *")
+    public void sweepExpired() {
+        long now = System.currentTimeMillis();
+        int deleted = 0;
+        int count;
+        do {
+            count = refreshRepository.deleteExpired(now, SWEEP_CHUNK_SIZE);
+            deleted += count;
+        } while (count == SWEEP_CHUNK_SIZE);
+
+        if (deleted > 0) {
+            log.info("Expired refresh tokens swept: {}", deleted);
+        }
+    }
+
+    private void putCache(String tokenHash, long expiresAt) {
+        if (cacheMaxSize > 0) {
+            synchronized (cache) {
+                cache.put(tokenHash, expiresAt);
+            }
+        }
+    }
+
+    private void evictCache(String tokenHash) {
+        synchronized (cache) {
+            cache.remove(tokenHash);
+        }
+    }
+
+    private static String hash(String refreshToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(refreshToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
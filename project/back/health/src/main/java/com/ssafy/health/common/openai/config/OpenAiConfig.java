@@ -1,22 +1,62 @@
 package com.ssafy.health.common.openai.config;
 
+import com.ssafy.health.common.http.OutboundClient;
+import com.ssafy.health.common.http.OutboundSettings;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
 
+import java.time.Duration;
+import java.util.List;
+
+// chat completion은 과금되는 비멱등 POST이므로 연결 실패, 429, 503만 재시도
 @Configuration
 public class OpenAiConfig {
     @Value("${openai.api.key}")
     private String openAiKey;
 
+    @Value("${health.outbound.openai.connect-timeout-millis:3000}")
+    private long connectTimeoutMillis;
+
+    @Value("${health.outbound.openai.read-timeout-millis:60000}")
+    private long readTimeoutMillis;
+
+    @Value("${health.outbound.openai.max-concurrent-calls:8}")
+    private int maxConcurrentCalls;
+
+    @Value("${health.outbound.openai.max-wait-millis:100}")
+    private long maxWaitMillis;
+
+    @Value("${health.outbound.openai.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${health.outbound.openai.retry-backoff-millis:500}")
+    private long retryBackoffMillis;
+
+    @Value("${health.outbound.openai.failure-threshold:5}")
+    private int failureThreshold;
+
+    @Value("${health.outbound.openai.open-millis:30000}")
+    private long openMillis;
+
     @Bean
-    public RestTemplate template() {
-        RestTemplate restTemplate = new RestTemplate();
-        restTemplate.getInterceptors().add((request, body, execution) -> {
+    public OutboundClient openAiClient() {
+        ClientHttpRequestInterceptor authorization = (request, body, execution) -> {
             request.getHeaders().add("Authorization", "Bearer " + openAiKey);
             return execution.execute(request, body);
-        });
-        return restTemplate;
+        };
+
+        return new OutboundClient("openai", OutboundSettings.builder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .readTimeout(Duration.ofMillis(readTimeoutMillis))
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWait(Duration.ofMillis(maxWaitMillis))
+                .maxAttempts(maxAttempts)
+                .retryBackoff(Duration.ofMillis(retryBackoffMillis))
+                .failureThreshold(failureThreshold)
+                .openDuration(Duration.ofMillis(openMillis))
+                .idempotent(false)
+                .build(), List.of(authorization));
     }
 }
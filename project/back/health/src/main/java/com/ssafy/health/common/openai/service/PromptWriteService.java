@@ -1,5 +1,6 @@
 package com.ssafy.health.common.openai.service;
 
+import com.ssafy.health.common.http.OutboundClient;
 import com.ssafy.health.common.openai.dto.ChatGPTRequest;
 import com.ssafy.health.common.openai.dto.ChatGPTResponse;
 import com.ssafy.health.common.openai.dto.RecommendedExerciseDto;
@@ -18,7 +19,6 @@ import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
 @Service
 @RequiredArgsConstructor
@@ -29,7 +29,7 @@ public class PromptWriteService {
     @Value("${openai.api.url}")
     private String apiURL;
 
-    private final RestTemplate template;
+    private final OutboundClient openAiClient;
     private final UserRepository userRepository;
     private final FavoredRepository favoredRepository;
     private final RecommendedExerciseRepository recommendedExerciseRepository;
@@ -38,7 +38,8 @@ public class PromptWriteService {
         String prompt = getPrompt();
 
         ChatGPTRequest request = new ChatGPTRequest(model, prompt);
-        ChatGPTResponse chatGPTResponse = template.postForObject(apiURL, request, ChatGPTResponse.class);
+        ChatGPTResponse chatGPTResponse = openAiClient.execute(
+                restTemplate -> restTemplate.postForObject(apiURL, request, ChatGPTResponse.class));
 
         List<RecommendedExercise> recommendedExercises = parseChatGPTResponse(chatGPTResponse);
         saveRecommendedExercises(recommendedExercises);
@@ -5,9 +5,9 @@ import com.ssafy.health.common.oauth.jwt.CustomLogoutFilter;
 import com.ssafy.health.common.oauth.jwt.JWTFilter;
 import com.ssafy.health.common.oauth.jwt.JWTUtil;
 import com.ssafy.health.common.oauth.repository.CustomClientRegistrationRepository;
-import com.ssafy.health.common.oauth.repository.RefreshRepository;
 import com.ssafy.health.common.oauth.service.CustomOAuth2UserService;
-import com.ssafy.health.domain.account.repository.UserRepository;
+import com.ssafy.health.common.oauth.service.PrincipalCacheService;
+import com.ssafy.health.common.oauth.service.RefreshService;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -34,8 +34,8 @@ public class SecurityConfig {
     private final CustomOAuth2UserService customOAuth2UserService;
     private final CustomSuccessHandler customSuccessHandler;
     private final JWTUtil jwtUtil;
-    private final UserRepository userRepository;
-    private final RefreshRepository refreshRepository;
+    private final PrincipalCacheService principalCacheService;
+    private final RefreshService refreshService;
     private final CustomClientRegistrationRepository customClientRegistrationRepository;
 
     @Bean
@@ -76,7 +76,7 @@ public class SecurityConfig {
 
         //JWTFilter 추가
         http
-                .addFilterAfter(new JWTFilter(jwtUtil, userRepository), OAuth2LoginAuthenticationFilter.class);
+                .addFilterAfter(new JWTFilter(jwtUtil, principalCacheService), OAuth2LoginAuthenticationFilter.class);
 
         http
                 .oauth2Login((oauth2) -> oauth2
@@ -94,7 +94,7 @@ public class SecurityConfig {
                         .anyRequest().authenticated());
 
         http
-                .addFilterBefore(new CustomLogoutFilter(jwtUtil, refreshRepository), LogoutFilter.class);
+                .addFilterBefore(new CustomLogoutFilter(jwtUtil, refreshService, principalCacheService), LogoutFilter.class);
 
         //세션 설정 : STATELESS
         http
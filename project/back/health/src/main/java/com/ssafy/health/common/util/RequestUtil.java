@@ -2,32 +2,47 @@ package com.ssafy.health.common.util;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.health.common.http.OutboundClient;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.ResourceAccessException;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.client.RequestCallback;
 
 @Component
 @RequiredArgsConstructor
 public class RequestUtil {
 
     private final ObjectMapper objectMapper;
+    // analysis(FastAPI) 서버 호출용 (커넥션 재사용, 타임아웃, 동시 요청 제한, 서킷 브레이커)
+    private final OutboundClient analysisClient;
 
     public <T, R> ResponseEntity<R> sendPostRequest(String url, T requestDto, Class<R> responseType)
             throws JsonProcessingException {
 
-        RestTemplate restTemplate = new RestTemplate();
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
 
         String jsonBody = objectMapper.writeValueAsString(requestDto);
         HttpEntity<String> request = new HttpEntity<>(jsonBody, headers);
 
-        try {
-            return restTemplate.exchange(url, HttpMethod.POST, request, responseType);
-        } catch (ResourceAccessException e) {
-            throw new ResourceAccessException(e.getMessage());
-        }
+        return analysisClient.execute(
+                restTemplate -> restTemplate.exchange(url, HttpMethod.POST, request, responseType));
+    }
+
+    // 요청 본문을 메모리에 모으지 않고 chunked 전송으로 바로 흘려보냄
+    public <R> ResponseEntity<R> sendStreamingPostRequest(String url, StreamingHttpOutputMessage.Body body,
+                                                          Class<R> responseType) {
+
+        RequestCallback requestCallback = request -> {
+            request.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            if (request instanceof StreamingHttpOutputMessage streamingRequest) {
+                streamingRequest.setBody(body);
+            } else {
+                body.writeTo(request.getBody());
+            }
+        };
+
+        return analysisClient.execute(restTemplate -> restTemplate.execute(url, HttpMethod.POST, requestCallback,
+                restTemplate.responseEntityExtractor(responseType)));
     }
 }
@@ -22,7 +22,6 @@ import com.ssafy.health.domain.recommendation.dto.response.RecommendedCrewRespon
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.concurrent.ExecutionException;
 
 @RestController
 @RequestMapping("/api/v1/users")
@@ -82,8 +81,7 @@ public class UserController implements UserControllerApi {
     }
 
     @PostMapping("/exercise-history")
-    public ApiResponse<ExerciseHistorySaveResponseDto> saveExerciseHistory(@RequestBody ExerciseHistorySaveRequestDto exerciseHistorySaveRequestDto)
-            throws InterruptedException, ExecutionException {
+    public ApiResponse<ExerciseHistorySaveResponseDto> saveExerciseHistory(@RequestBody ExerciseHistorySaveRequestDto exerciseHistorySaveRequestDto) {
         return ApiResponse.success(exerciseHistoryWriteService.saveExerciseHistory(exerciseHistorySaveRequestDto));
     }
 
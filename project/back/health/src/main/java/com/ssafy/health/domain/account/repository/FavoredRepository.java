@@ -2,10 +2,17 @@ package com.ssafy.health.domain.account.repository;
 
 import com.ssafy.health.domain.account.entity.FavoredExercise;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
 public interface FavoredRepository extends JpaRepository<FavoredExercise, Long> {
 
     List<FavoredExercise> findByUserId(Long userId);
+
+    @Query("SELECT f.user.id, f.exercise.id FROM FavoredExercise f")
+    List<Object[]> findAllUserIdAndExerciseId();
+
+    @Query("SELECT f.user.id, f.exercise.id FROM FavoredExercise f WHERE f.user.id IN :userIds")
+    List<Object[]> findUserIdAndExerciseIdByUserIdIn(List<Long> userIds);
 }
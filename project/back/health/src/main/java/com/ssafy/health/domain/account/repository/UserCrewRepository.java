@@ -34,9 +34,40 @@ public interface UserCrewRepository extends JpaRepository<UserCrew, Long> {
     @Query("SELECT uc FROM UserCrew uc JOIN FETCH uc.user WHERE uc.crew.id = :crewId ORDER BY (uc.basicScore + uc.activityScore) DESC ")
     List<UserCrew> findUserByCrewIdOrderByScore(Long crewId);
 
+    @Query("SELECT uc FROM UserCrew uc JOIN FETCH uc.user WHERE uc.crew.id IN :crewIds")
+    List<UserCrew> findByCrewIdInWithUser(List<Long> crewIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE UserCrew uc SET uc.basicScore = 0, uc.activityScore = 0 WHERE uc.crew.id IN :crewIds")
+    int resetScoresByCrewIdIn(List<Long> crewIds);
+
     @Query("""
             SELECT NEW com.ssafy.health.domain.crew.dto.analysis.MaxScoresDto(MAX(uc.basicScore), MAX(uc.activityScore))
             FROM UserCrew uc WHERE uc.user.id = :userId
             """)
     MaxScoresDto findMaxScoresByUserId(Long userId);
+
+    @Query("""
+            SELECT uc.user.id, MAX(uc.basicScore), MAX(uc.activityScore)
+            FROM UserCrew uc GROUP BY uc.user.id
+            """)
+    List<Object[]> findMaxScoresGroupByUserId();
+
+    @Query("""
+            SELECT uc.user.id, MAX(uc.basicScore), MAX(uc.activityScore)
+            FROM UserCrew uc WHERE uc.user.id IN :userIds GROUP BY uc.user.id
+            """)
+    List<Object[]> findMaxScoresGroupByUserIdIn(List<Long> userIds);
+
+    @Query("SELECT uc.crew.id FROM UserCrew uc WHERE uc.user.id = :userId")
+    List<Long> findCrewIdsByUserId(Long userId);
+
+    @Query("SELECT uc.user.id, uc.crew.id FROM UserCrew uc")
+    List<Object[]> findAllUserIdAndCrewId();
+
+    @Query("SELECT uc.user.id, uc.crew.id FROM UserCrew uc WHERE uc.user.id IN :userIds")
+    List<Object[]> findUserIdAndCrewIdByUserIdIn(List<Long> userIds);
+
+    @Query("SELECT uc.user.id, uc.crew.id FROM UserCrew uc WHERE uc.crew.id IN :crewIds")
+    List<Object[]> findUserIdAndCrewIdByCrewIdIn(List<Long> crewIds);
 }
\ No newline at end of file
@@ -1,6 +1,9 @@
 package com.ssafy.health.domain.account.repository;
 
 import com.ssafy.health.domain.account.entity.User;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
@@ -17,6 +20,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     List<User> findALLBySurveyCompletedTrue();
 
+    Window<User> findBySurveyCompletedTrueOrderByIdAsc(ScrollPosition position, Limit limit);
+
+    Window<User> findAllByOrderByIdAsc(ScrollPosition position, Limit limit);
+
     @Query("""
             SELECT DISTINCT u From User u
             LEFT JOIN BodyHistory bh ON u = bh.user
@@ -27,4 +34,20 @@ public interface UserRepository extends JpaRepository<User, Long> {
             )
             """)
     List<User> findAllByBodyHistoryAvailability(LocalDateTime baseDate);
+
+    // BASIC 예측 입력이 바뀌었을 수 있는 유저 : 현재 집계 구간(지난 주) 기준으로 확인한 적이 없거나, 확인 후 체형 기록이 추가됨
+    @Query("""
+            SELECT u FROM User u
+            WHERE u.id > :afterId
+            AND NOT EXISTS (
+                SELECT i FROM BasicPredictionInput i
+                WHERE i.userId = u.id AND i.checkedAt >= :windowChangedAt
+                AND NOT EXISTS (
+                    SELECT bh FROM BodyHistory bh
+                    WHERE bh.user = u AND bh.createdAt > i.checkedAt
+                )
+            )
+            ORDER BY u.id ASC
+            """)
+    List<User> findBasicPredictionCandidates(Long afterId, LocalDateTime windowChangedAt, Limit limit);
 }
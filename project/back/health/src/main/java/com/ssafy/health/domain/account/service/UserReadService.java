@@ -31,7 +31,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
@@ -86,9 +88,15 @@ public class UserReadService {
                     .activityScore(userScore.getActivityScore())
                     .intakeScore(userScore.getIntakeScore())
                     .build();
-            List<Crew> crewList = recommendedCrew.get().getCrewRecommend().stream()
-                    .map(recommendList ->
-                            crewRepository.findById(recommendList.getCrewId()).orElseThrow(CrewNotFoundException::new))
+            List<Long> crewIds = recommendedCrew.get().getCrewRecommend().stream()
+                    .map(RecommendedCrew.RecommendedCrewInfo::getCrewId)
+                    .toList();
+            Map<Long, Crew> crewMap = crewRepository.findCrewsWithExerciseByIdIn(crewIds).stream()
+                    .collect(Collectors.toMap(Crew::getId, crew -> crew));
+
+            // 추천 순서 유지
+            List<Crew> crewList = crewIds.stream()
+                    .map(crewId -> Optional.ofNullable(crewMap.get(crewId)).orElseThrow(CrewNotFoundException::new))
                     .toList();
             return crewReadService.createCrewListResponseDto(userScoreDto, crewList);
 
@@ -2,6 +2,7 @@ package com.ssafy.health.domain.account.service;
 
 import com.ssafy.health.domain.account.dto.request.DeviceRegisterRequestDto;
 import com.ssafy.health.domain.account.dto.response.DeviceRegisterResponseDto;
+import com.ssafy.health.common.cache.ReferenceDataCache;
 import com.ssafy.health.common.security.SecurityUtil;
 import com.ssafy.health.domain.account.dto.request.*;
 import com.ssafy.health.domain.account.dto.response.CaloriesSurveySuccessDto;
@@ -10,23 +11,21 @@ import com.ssafy.health.domain.account.dto.response.InfoSurveySuccessDto;
 import com.ssafy.health.domain.account.dto.response.UserRegisterResponseDto;
 import com.ssafy.health.domain.account.entity.CaloriesType;
 import com.ssafy.health.domain.account.entity.FavoredExercise;
-import com.ssafy.health.domain.account.entity.MealCalories;
-import com.ssafy.health.domain.account.entity.SnackCalories;
 import com.ssafy.health.domain.account.entity.User;
 import com.ssafy.health.domain.account.exception.DrinkNotFoundException;
 import com.ssafy.health.domain.account.exception.MealNotFoundException;
 import com.ssafy.health.domain.account.exception.SnackNotFoundException;
 import com.ssafy.health.domain.account.exception.UserNotFoundException;
 import com.ssafy.health.domain.account.repository.FavoredRepository;
-import com.ssafy.health.domain.account.repository.MealCaloriesRepository;
-import com.ssafy.health.domain.account.repository.SnackCaloriesRepository;
 import com.ssafy.health.domain.account.repository.UserRepository;
 import com.ssafy.health.domain.character.dto.response.CharacterResponseDto;
 import com.ssafy.health.domain.character.service.CharacterReadService;
 import com.ssafy.health.domain.exercise.entity.Exercise;
 import com.ssafy.health.domain.exercise.repository.ExerciseRepository;
+import com.ssafy.health.domain.recommendation.event.RecommendationRefreshEvent;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -40,8 +39,8 @@ public class UserWriteService {
     private final FavoredRepository favoredRepository;
     private final ExerciseRepository exerciseRepository;
     private final CharacterReadService characterReadService;
-    private final MealCaloriesRepository mealCaloriesRepository;
-    private final SnackCaloriesRepository snackCaloriesRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     public UserRegisterResponseDto registerUser(UserRegisterRequestDto userRegisterRequestDto) {
         User user = User.builder()
@@ -68,24 +67,25 @@ public class UserWriteService {
         user.saveUserInfo(infoSurveyRequestDto.getNickname(), infoSurveyRequestDto.getBirthday(),
                 infoSurveyRequestDto.getGender());
         userRepository.save(user);
+        eventPublisher.publishEvent(new RecommendationRefreshEvent(user.getId()));
 
         return new InfoSurveySuccessDto();
     }
 
     public CaloriesSurveySuccessDto saveDailyCalories(CaloriesSurveyRequestDto caloriesSurveyRequestDto) {
         User user = findUserById(SecurityUtil.getCurrentUserId());
-        MealCalories mealCalories = mealCaloriesRepository.findByMealCountAndAndMealType(
+        Integer mealCalories = referenceDataCache.getMealCalories(
                         caloriesSurveyRequestDto.getMealCount(), caloriesSurveyRequestDto.getMealType())
                 .orElseThrow(MealNotFoundException::new);
-        SnackCalories snackCalories = snackCaloriesRepository.findByTypeAndFrequency(CaloriesType.SNACK,
+        Integer snackCalories = referenceDataCache.getSnackCalories(CaloriesType.SNACK,
                 caloriesSurveyRequestDto.getSnackFrequency()).orElseThrow(SnackNotFoundException::new);
-        SnackCalories drinkCalories = snackCaloriesRepository.findByTypeAndFrequency(CaloriesType.DRINK,
+        Integer drinkCalories = referenceDataCache.getSnackCalories(CaloriesType.DRINK,
                 caloriesSurveyRequestDto.getDrinkFrequency()).orElseThrow(DrinkNotFoundException::new);
 
-        Integer dailyCaloricIntake =
-                mealCalories.getCalories() + snackCalories.getCalories() + drinkCalories.getCalories();
+        Integer dailyCaloricIntake = mealCalories + snackCalories + drinkCalories;
         user.saveDailyCaloricIntake(dailyCaloricIntake);
         userRepository.save(user);
+        eventPublisher.publishEvent(new RecommendationRefreshEvent(user.getId()));
 
         return new CaloriesSurveySuccessDto();
     }
@@ -101,6 +101,7 @@ public class UserWriteService {
                         .build()));
 
         user.updateSurveyCompleted();
+        eventPublisher.publishEvent(new RecommendationRefreshEvent(user.getId()));
 
         CharacterResponseDto characterResponseDto =  characterReadService.getCharacterInfo(user.getId());
 
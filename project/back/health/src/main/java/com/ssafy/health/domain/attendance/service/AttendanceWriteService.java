@@ -8,9 +8,10 @@ import com.ssafy.health.domain.attendance.dto.response.AttendanceSuccessDto;
 import com.ssafy.health.domain.attendance.entity.Attendance;
 import com.ssafy.health.domain.attendance.repository.AttendanceRepository;
 import com.ssafy.health.domain.coin.service.CoinService;
-import com.ssafy.health.domain.quest.entity.QuestStatus;
-import com.ssafy.health.domain.quest.service.QuestWriteService;
+import com.ssafy.health.domain.quest.entity.QuestTrigger;
+import com.ssafy.health.domain.quest.event.QuestEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,7 +29,7 @@ public class AttendanceWriteService {
     private final UserRepository userRepository;
     private final AttendanceValidator attendanceValidator;
     private final AttendanceRepository attendanceRepository;
-    private final QuestWriteService questWriteService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public AttendanceSuccessDto markAttendance() throws ExecutionException, InterruptedException {
 
@@ -47,9 +48,7 @@ public class AttendanceWriteService {
         int attendCount = attendanceRepository
                 .findByUserIdAndCreatedAtBetween(user.getId(), startOfMonth, endOfMonth).size();
 
-        if (attendCount >= 14) {
-            questWriteService.updateUserQuestStatus(user, "2주 이상 출석", QuestStatus.CREATED);
-        }
+        eventPublisher.publishEvent(QuestEvent.ofUser(QuestTrigger.ATTENDANCE_COUNT, user.getId(), attendCount));
 
         return new AttendanceSuccessDto();
     }
@@ -8,7 +8,8 @@ public enum BattleExceptionMessage {
 
     BATTLE_NOT_FOUND("현재 진행중인 배틀이 존재하지 않습니다.", HttpStatus.NOT_FOUND.value()),
     BATTLE_ALREADY_EXISTS("이미 진행중인 배틀이 존재합니다.", HttpStatus.CONFLICT.value()),
-    CREW_NOT_PARTICIPANT("해당 배틀에 참여중인 크루가 아닙니다.", HttpStatus.BAD_REQUEST.value())
+    CREW_NOT_PARTICIPANT("해당 배틀에 참여중인 크루가 아닙니다.", HttpStatus.BAD_REQUEST.value()),
+    OPPONENT_CREW_NOT_FOUND("배틀 가능한 상대 크루가 존재하지 않습니다.", HttpStatus.NOT_FOUND.value())
     ;
 
     private final String message;
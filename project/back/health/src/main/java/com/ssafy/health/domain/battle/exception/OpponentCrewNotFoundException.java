@@ -0,0 +1,11 @@
+package com.ssafy.health.domain.battle.exception;
+
+public class OpponentCrewNotFoundException extends RuntimeException{
+    @Override
+    public String getMessage() {
+        return BattleExceptionMessage.OPPONENT_CREW_NOT_FOUND.getMessage();
+    }
+    public int getStatus() {
+        return BattleExceptionMessage.OPPONENT_CREW_NOT_FOUND.getStatus();
+    }
+}
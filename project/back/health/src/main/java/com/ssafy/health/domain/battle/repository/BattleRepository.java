@@ -1,10 +1,11 @@
 package com.ssafy.health.domain.battle.repository;
 
-import com.ssafy.health.domain.battle.dto.response.BattleStatsDto;
 import com.ssafy.health.domain.battle.entity.Battle;
 import com.ssafy.health.domain.battle.entity.BattleStatus;
 import com.ssafy.health.domain.crew.entity.Crew;
+import java.time.LocalDateTime;
 import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
@@ -16,22 +17,47 @@ public interface BattleRepository extends JpaRepository<Battle, Long> {
 
     Optional<Battle> findFirstByHomeCrewIdOrAwayCrewIdOrderByCreatedAtDesc(Long homeCrewId, Long awayCrewId);
 
-    @Query("SELECT new com.ssafy.health.domain.battle.dto.response.BattleStatsDto(" +
-            "COUNT(b), " +
-            "SUM(CASE " +
-            "  WHEN (b.homeCrew.id = :crewId AND b.homeCrewScore > b.awayCrewScore) " +
-            "    OR (b.awayCrew.id = :crewId AND b.awayCrewScore > b.homeCrewScore) THEN 1 ELSE 0 END)) " +
-            "FROM Battle b " +
-            "WHERE (b.homeCrew.id = :crewId OR b.awayCrew.id = :crewId) " +
-            "AND b.status = 'FINISHED'")
-    Optional<BattleStatsDto> countTotalAndWonBattles(Long crewId);
-
     @Query("SELECT b FROM Battle b WHERE (b.homeCrew.id = :crewId OR b.awayCrew.id = :crewId) AND b.status = :status")
     Optional<Battle> findBattleByCrewId(Long crewId, BattleStatus status);
 
     @Query("SELECT DISTINCT b FROM Battle b JOIN FETCH b.awayCrew ac JOIN FETCH b.homeCrew hc WHERE b.status = :status")
     List<Battle> findByStatus(BattleStatus status);
 
+    // 정산 대상 배틀 행만 잠그고, 다른 인스턴스가 잠근 행은 건너뜀 (크루 행은 잠그지 않도록 ID만 조회)
+    @Query(value = """
+            SELECT b.id FROM Battle b
+            WHERE b.status = 'STARTED' AND b.createdAt < :createdAt
+            ORDER BY b.id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<Long> lockSettlementTargetIds(LocalDateTime createdAt, int limit);
+
+    @Query("SELECT b FROM Battle b JOIN FETCH b.homeCrew JOIN FETCH b.awayCrew WHERE b.id IN :ids ORDER BY b.id ASC")
+    List<Battle> findByIdInWithCrew(List<Long> ids);
+
+    boolean existsByStatusAndCreatedAtBefore(BattleStatus status, LocalDateTime createdAt);
+
+    // 크루별 가장 최근 배틀 하나의 점수만 조회 (홈/어웨이 양쪽에서 크루별 MAX(id))
+    @Query(value = """
+            SELECT latest.crew_id,
+                   CASE WHEN b.homeCrew_id = latest.crew_id THEN b.homeCrewScore ELSE b.awayCrewScore END
+            FROM (SELECT crew_battle.crew_id, MAX(crew_battle.battle_id) AS battle_id
+                  FROM (SELECT homeCrew_id AS crew_id, id AS battle_id FROM Battle WHERE homeCrew_id IN :crewIds
+                        UNION ALL
+                        SELECT awayCrew_id, id FROM Battle WHERE awayCrew_id IN :crewIds) crew_battle
+                  GROUP BY crew_battle.crew_id) latest
+            JOIN Battle b ON b.id = latest.battle_id
+            """, nativeQuery = true)
+    List<Object[]> findLatestScoresByCrewIdIn(List<Long> crewIds);
+
     @Query("SELECT b FROM Battle b JOIN FETCH b.homeCrew JOIN FETCH b.awayCrew WHERE b.id = :id")
     Optional<Battle> findByIdWithCrew(Long id);
+
+    // 전적 재계산용: 종료된 배틀을 id 순으로 나눠서 조회
+    @Query("SELECT b.id, b.homeCrew.id, b.homeCrewScore, b.awayCrew.id, b.awayCrewScore FROM Battle b " +
+            "WHERE b.status = :status AND b.id > :lastId ORDER BY b.id ASC")
+    List<Object[]> findResultsByStatusAndIdGreaterThan(BattleStatus status, Long lastId, Limit limit);
+
+    boolean existsByStatus(BattleStatus status);
 }
@@ -0,0 +1,37 @@
+package com.ssafy.health.domain.battle.repository;
+
+import com.ssafy.health.domain.battle.entity.RankHistory;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+// IDENTITY 키 엔티티는 Hibernate가 INSERT를 묶지 않으므로 JDBC 배치로 저장
+@Repository
+@RequiredArgsConstructor
+public class RankHistoryBatchRepository {
+
+    private static final int BATCH_SIZE = 500;
+    private static final String INSERT_SQL = "INSERT INTO RankHistory " +
+            "(activityScore, basicScore, endDate, ranking, createdAt, crew_id, user_id) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void saveAll(List<RankHistory> rankHistoryList) {
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, rankHistoryList, BATCH_SIZE, (ps, rankHistory) -> {
+            ps.setFloat(1, rankHistory.getActivityScore());
+            ps.setFloat(2, rankHistory.getBasicScore());
+            ps.setDate(3, Date.valueOf(rankHistory.getEndDate()));
+            ps.setInt(4, rankHistory.getRanking());
+            ps.setTimestamp(5, createdAt);
+            ps.setLong(6, rankHistory.getCrew().getId());
+            ps.setLong(7, rankHistory.getUser().getId());
+        });
+    }
+}
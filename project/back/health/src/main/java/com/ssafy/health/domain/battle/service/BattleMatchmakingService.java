@@ -0,0 +1,171 @@
+package com.ssafy.health.domain.battle.service;
+
+import com.ssafy.health.common.util.TransactionUtil;
+import com.ssafy.health.domain.battle.entity.Battle;
+import com.ssafy.health.domain.battle.entity.BattleStatus;
+import com.ssafy.health.domain.battle.repository.BattleRepository;
+import com.ssafy.health.domain.crew.repository.CrewRepository;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+// 배틀 대기 중인 크루를 최근 배틀 점수 순으로 관리 (상대 탐색 O(log n))
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BattleMatchmakingService {
+
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+
+    private final CrewRepository crewRepository;
+    private final BattleRepository battleRepository;
+
+    private final TreeMap<Float, NavigableSet<Long>> scoreIndex = new TreeMap<>();
+    private final Map<Long, Float> crewScores = new HashMap<>();
+    // 인덱스에서 빼 둔 상대 크루의 점수, 트랜잭션이 롤백되면 되돌림 (버린 상대는 제거)
+    private final Map<Long, Float> reservedScores = new HashMap<>();
+    private boolean loaded;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        scoreIndex.clear();
+        crewScores.clear();
+
+        List<Long> crewIds = crewRepository.findBattleReadyCrewIds();
+        Map<Long, Float> recentScores = new HashMap<>();
+        for (int from = 0; from < crewIds.size(); from += REBUILD_CHUNK_SIZE) {
+            List<Long> chunk = crewIds.subList(from, Math.min(from + REBUILD_CHUNK_SIZE, crewIds.size()));
+            battleRepository.findLatestScoresByCrewIdIn(chunk).forEach(row ->
+                    recentScores.put(((Number) row[0]).longValue(), ((Number) row[1]).floatValue()));
+        }
+
+        crewIds.forEach(crewId -> add(crewId, recentScores.getOrDefault(crewId, 0F)));
+        loaded = true;
+        log.info("Battle matchmaking index built with {} crews", crewIds.size());
+    }
+
+    // 배틀 대기 등록, 진행 중인 배틀이 있으면 종료 정산 때 등록
+    public void enter(Long crewId) {
+        if (battleRepository.findBattleByCrewId(crewId, BattleStatus.STARTED).isPresent()) {
+            return;
+        }
+
+        Float score = findRecentBattleScore(crewId);
+        TransactionUtil.afterCommit(() -> enter(crewId, score));
+    }
+
+    public synchronized void enter(Long crewId, Float score) {
+        ensureLoaded();
+        remove(crewId);
+        add(crewId, score);
+    }
+
+    public void leave(Long crewId) {
+        TransactionUtil.afterCommit(() -> {
+            synchronized (this) {
+                remove(crewId);
+            }
+        });
+    }
+
+    // 점수가 가장 가까운 상대를 인덱스에서 즉시 빼서 다른 요청이 같은 상대를 잡지 못하게 하고, 롤백되면 되돌림
+    // 같은 트랜잭션에서 여러 번 호출하면 요청 크루는 처음 빠질 때의 점수로 한 번만 되돌림
+    public synchronized Optional<Long> reserveOpponent(Long crewId, Float score) {
+        ensureLoaded();
+
+        Float myPreviousScore = crewScores.get(crewId);
+        remove(crewId);
+
+        Optional<Long> opponentId = findClosest(score);
+        if (opponentId.isEmpty()) {
+            if (myPreviousScore != null) {
+                add(crewId, myPreviousScore);
+            }
+            return opponentId;
+        }
+
+        Long opponent = opponentId.get();
+        reservedScores.put(opponent, crewScores.get(opponent));
+        remove(opponent);
+
+        TransactionUtil.afterCommit(() -> {
+            synchronized (this) {
+                reservedScores.remove(opponent);
+            }
+        });
+        TransactionUtil.afterRollback(() -> {
+            synchronized (this) {
+                Float opponentScore = reservedScores.remove(opponent);
+                if (opponentScore != null) {
+                    add(opponent, opponentScore);
+                }
+                if (myPreviousScore != null) {
+                    add(crewId, myPreviousScore);
+                }
+            }
+        });
+        return opponentId;
+    }
+
+    // 이미 배틀 중인 것으로 확인된 상대는 롤백되어도 되돌리지 않음 (배틀 정산 때 다시 등록)
+    public synchronized void discardOpponent(Long opponentId) {
+        reservedScores.remove(opponentId);
+    }
+
+    public Float findRecentBattleScore(Long crewId) {
+        Optional<Battle> battle = battleRepository.findFirstByHomeCrewIdOrAwayCrewIdOrderByCreatedAtDesc(crewId, crewId);
+        return battle.map(b -> b.getHomeCrew().getId().longValue() == crewId ? b.getHomeCrewScore() : b.getAwayCrewScore())
+                .orElse(0F);
+    }
+
+    private Optional<Long> findClosest(Float score) {
+        Map.Entry<Float, NavigableSet<Long>> lower = scoreIndex.floorEntry(score);
+        Map.Entry<Float, NavigableSet<Long>> higher = scoreIndex.ceilingEntry(score);
+
+        if (lower == null && higher == null) {
+            return Optional.empty();
+        }
+        if (lower == null) {
+            return Optional.of(higher.getValue().first());
+        }
+        if (higher == null) {
+            return Optional.of(lower.getValue().first());
+        }
+        return Optional.of(score - lower.getKey() <= higher.getKey() - score
+                ? lower.getValue().first()
+                : higher.getValue().first());
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            rebuild();
+        }
+    }
+
+    private void add(Long crewId, Float score) {
+        crewScores.put(crewId, score);
+        scoreIndex.computeIfAbsent(score, key -> new TreeSet<>()).add(crewId);
+    }
+
+    private void remove(Long crewId) {
+        Float score = crewScores.remove(crewId);
+        if (score == null) {
+            return;
+        }
+
+        NavigableSet<Long> crewIds = scoreIndex.get(score);
+        crewIds.remove(crewId);
+        if (crewIds.isEmpty()) {
+            scoreIndex.remove(score);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.ssafy.health.domain.battle.service;
+
+import com.ssafy.health.domain.battle.entity.BattleStatus;
+import com.ssafy.health.domain.battle.repository.BattleRepository;
+import com.ssafy.health.domain.crew.service.CrewStatsService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BattleSettlementService {
+
+    private static final LocalTime SETTLEMENT_TIME = LocalTime.of(4, 30);
+
+    private final BattleRepository battleRepository;
+    private final BattleWriteService battleWriteService;
+    private final CrewStatsService crewStatsService;
+
+    @Value("${health.battle.settlement.chunk-size:100}")
+    private int chunkSize;
+
+    @Value("${health.battle.settlement.max-chunk-attempts:5}")
+    private int maxChunkAttempts;
+
+    // 같은 JVM 안의 중복 실행만 막음, 인스턴스 간 중복은 정산 대상 행 잠금(SKIP LOCKED)으로 방지
+    private final AtomicBoolean running = new AtomicBoolean();
+    // 시작 시 이어서 하는 정산은 준비 완료(ApplicationReadyEvent)를 늦추지 않도록 별도 스레드에서 실행
+    private ExecutorService startupExecutor;
+
+    @PostConstruct
+    public void start() {
+        startupExecutor = Executors.newSingleThreadExecutor();
+    }
+
+    @PreDestroy
+    public void stop() {
+        startupExecutor.shutdown();
+    }
+
+    @Scheduled(cron = "0 30 4 ? * MON")
+    public void settleWeeklyBattles() {
+        settle(currentCutoff());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void scheduleStartupSettlement() {
+        startupExecutor.submit(() -> {
+            try {
+                resumeUnfinishedSettlement();
+            } catch (RuntimeException e) {
+                log.error("Failed to resume battle settlement", e);
+            }
+        });
+    }
+
+    // 정산 도중 서버가 내려갔다면 남은 배틀을 이어서 정산, 정산할 배틀이 없으면 비어 있는 전적만 채움
+    void resumeUnfinishedSettlement() {
+        LocalDateTime cutoff = currentCutoff();
+        if (battleRepository.existsByStatusAndCreatedAtBefore(BattleStatus.STARTED, cutoff)) {
+            log.info("Resuming battle settlement for battles started before {}", cutoff);
+            settle(cutoff);
+        } else {
+            crewStatsService.backfillIfEmpty(cutoff);
+        }
+    }
+
+    private void settle(LocalDateTime cutoff) {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("Battle settlement is already running");
+            return;
+        }
+
+        LocalDate endDate = cutoff.toLocalDate().minusDays(1);
+        int total = 0;
+        try {
+            int settled;
+            while ((settled = settleChunk(cutoff, endDate)) > 0) {
+                total += settled;
+                log.info("Settled {} battles ({} so far)", settled, total);
+            }
+            // 같은 실행 안에서 정산이 끝난 뒤 전적 검증 (다른 인스턴스가 정산 중이면 verify가 건너뜀)
+            crewStatsService.verify(cutoff);
+        } finally {
+            running.set(false);
+        }
+        log.info("Battle settlement finished: {} battles", total);
+    }
+
+    // 코인 지급 중 크루가 동시에 수정되면 청크 트랜잭션이 롤백되므로 같은 청크를 다시 시도
+    private int settleChunk(LocalDateTime cutoff, LocalDate endDate) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return battleWriteService.settleBattles(cutoff, endDate, chunkSize);
+            } catch (ObjectOptimisticLockingFailureException e) {
+                if (attempt >= maxChunkAttempts) {
+                    throw e;
+                }
+                log.warn("Battle settlement chunk conflicted with a concurrent crew update, retrying ({}/{})",
+                        attempt, maxChunkAttempts);
+                backOff(attempt);
+            }
+        }
+    }
+
+    private void backOff(int attempt) {
+        try {
+            Thread.sleep(50L * attempt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Battle settlement interrupted", e);
+        }
+    }
+
+    // 가장 최근 월요일 04:30, 그 이전에 시작된 배틀이 이번 정산 대상
+    private LocalDateTime currentCutoff() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = now.toLocalDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                .atTime(SETTLEMENT_TIME);
+        return cutoff.isAfter(now) ? cutoff.minusWeeks(1) : cutoff;
+    }
+}
@@ -1,42 +1,47 @@
 package com.ssafy.health.domain.battle.service;
 
+import com.ssafy.health.common.util.TransactionUtil;
 import com.ssafy.health.domain.account.entity.User;
 import com.ssafy.health.domain.account.entity.UserCrew;
 import com.ssafy.health.domain.account.repository.UserCrewRepository;
 import com.ssafy.health.domain.account.repository.UserRepository;
-import com.ssafy.health.domain.battle.dto.response.BattleAndCrewDto;
 import com.ssafy.health.domain.battle.dto.response.BattleMatchResponseDto;
 import com.ssafy.health.domain.battle.entity.Battle;
 import com.ssafy.health.domain.battle.entity.BattleStatus;
 import com.ssafy.health.domain.battle.entity.RankHistory;
+import com.ssafy.health.domain.battle.exception.OpponentCrewNotFoundException;
 import com.ssafy.health.domain.battle.repository.BattleRepository;
-import com.ssafy.health.domain.battle.repository.RankHistoryRepository;
+import com.ssafy.health.domain.battle.repository.RankHistoryBatchRepository;
 import com.ssafy.health.domain.coin.service.CoinService;
 import com.ssafy.health.domain.coin.service.CoinValidator;
 import com.ssafy.health.domain.crew.entity.Crew;
 import com.ssafy.health.domain.crew.exception.CrewNotFoundException;
 import com.ssafy.health.domain.crew.repository.CrewRepository;
+import com.ssafy.health.domain.crew.service.CrewProfileCache;
+import com.ssafy.health.domain.crew.service.CrewRankingService;
+import com.ssafy.health.domain.crew.service.CrewStatsService;
 import com.ssafy.health.domain.notification.dto.request.NotificationRequestDto;
 import com.ssafy.health.domain.notification.entity.NotificationType;
 import com.ssafy.health.domain.notification.service.NotificationWriteService;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
-import java.util.Random;
-import java.util.concurrent.ExecutionException;
 
 import static com.ssafy.health.domain.coin.CoinCost.START_BATTLE;
 
@@ -46,23 +51,32 @@ import static com.ssafy.health.domain.coin.CoinCost.START_BATTLE;
 @RequiredArgsConstructor
 public class BattleWriteService {
 
+    // 한 요청에서 시도할 상대 후보 수 (배틀 중인 후보는 인덱스에서 버림)
+    private static final int MAX_OPPONENT_CANDIDATES = 5;
+
     private final CoinService coinService;
     private final CrewRepository crewRepository;
     private final BattleRepository battleRepository;
     private final UserCrewRepository userCrewRepository;
-    private final RankHistoryRepository rankHistoryRepository;
+    private final RankHistoryBatchRepository rankHistoryBatchRepository;
     private final BattleValidator battleValidator;
     private final CoinValidator coinValidator;
     private final NotificationWriteService notificationWriteService;
     private final UserRepository userRepository;
+    private final CrewRankingService crewRankingService;
+    private final CrewProfileCache crewProfileCache;
+    private final CrewStatsService crewStatsService;
+    private final BattleMatchmakingService battleMatchmakingService;
 
+    // 잠금 이후의 진행 중 배틀 재확인이 먼저 커밋된 배틀을 볼 수 있도록 READ COMMITTED
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public BattleMatchResponseDto startBattle(Long crewId) {
         battleValidator.validateBattleAlreadyExists(crewId);
 
         Crew myCrew = crewRepository.findById(crewId).orElseThrow(CrewNotFoundException::new);
         coinValidator.validateSufficientCoins(myCrew.getCrewCoin(), START_BATTLE.getAmount());
 
-        Float myCrewScore = findRecentBattleScore(crewId);
+        Float myCrewScore = battleMatchmakingService.findRecentBattleScore(crewId);
         Crew opponentCrew = findOpponentCrew(crewId, myCrewScore);
 
         coinService.spendCrewCoins(myCrew, START_BATTLE.getAmount());
@@ -94,18 +108,30 @@ public class BattleWriteService {
                 .build();
     }
 
-    @Scheduled(cron = "0 30 4 ? * MON")
-    public void finishBattles() {
-        List<Battle> ongoingBattles = battleRepository.findByStatus(BattleStatus.STARTED);
+    // cutoff 이전에 시작된 배틀을 chunkSize개씩 정산, 커밋된 배틀은 FINISHED가 되므로 상태 자체가 재시작 지점
+    // 대상 행은 커밋까지 잠겨 있어 여러 인스턴스가 동시에 정산해도 같은 배틀을 두 번 정산하지 않음
+    public int settleBattles(LocalDateTime cutoff, LocalDate endDate, int chunkSize) {
+        List<Long> battleIds = battleRepository.lockSettlementTargetIds(cutoff, chunkSize);
+        if (battleIds.isEmpty()) {
+            return 0;
+        }
+        List<Battle> battles = battleRepository.findByIdInWithCrew(battleIds);
+
+        List<Long> crewIds = battles.stream()
+                .flatMap(battle -> Stream.of(battle.getHomeCrew().getId(), battle.getAwayCrew().getId()))
+                .distinct()
+                .toList();
+        Map<Long, List<UserCrew>> rankingMap = rankMembersByCrew(userCrewRepository.findByCrewIdInWithUser(crewIds));
+
+        List<RankHistory> rankHistoryList = new ArrayList<>();
         List<NotificationRequestDto> notificationRequestDtoList = new ArrayList<>();
 
-        ongoingBattles.forEach(battle -> {
+        battles.forEach(battle -> {
             battle.finishBattle();
-            battleRepository.save(battle);
 
             Crew[] crews = determineWinningCrew(battle);
             Crew winningCrew = crews[0];
-            List<UserCrew> winningUserCrewList = findUserCrewOrderByScore(winningCrew);
+            List<UserCrew> winningUserCrewList = rankingMap.getOrDefault(winningCrew.getId(), List.of());
             List<User> winningCrewMemberList = winningUserCrewList.stream().map(UserCrew::getUser).toList();
             List<User> remainingMembers;
             if (winningCrewMemberList.size() > 3) {
@@ -116,49 +142,41 @@ public class BattleWriteService {
 
             HashMap<User, Integer> topMemberCoinResults = coinService.distributeBattleRewards(winningCrewMemberList,
                     winningUserCrewList);
-            try {
-                notificationRequestDtoList.addAll(createTopMemberNotification(battle, topMemberCoinResults, winningCrew));
-            } catch (ExecutionException | InterruptedException e) {
-                throw new RuntimeException(e);
-            }
+            notificationRequestDtoList.addAll(createTopMemberNotification(battle, topMemberCoinResults, winningCrew));
 
             coinService.grantCoinsToCrew(winningCrew, 200);
 
-            saveRankHistory(winningUserCrewList, winningCrew);
-            resetScore(winningCrew, winningUserCrewList);
-
             Crew losingCrew = crews[1];
-            List<UserCrew> losingUserCrewList = findUserCrewOrderByScore(losingCrew);
+            List<UserCrew> losingUserCrewList = rankingMap.getOrDefault(losingCrew.getId(), List.of());
             List<User> losingCrewMemberList = losingUserCrewList.stream().map(UserCrew::getUser).toList();
 
-            saveRankHistory(losingUserCrewList, losingCrew);
-            resetScore(losingCrew, losingUserCrewList);
+            rankHistoryList.addAll(buildRankHistory(winningUserCrewList, winningCrew, endDate));
+            rankHistoryList.addAll(buildRankHistory(losingUserCrewList, losingCrew, endDate));
 
             notificationRequestDtoList.addAll(createNotification(battle, remainingMembers, winningCrew));
             notificationRequestDtoList.addAll(createNotification(battle, losingCrewMemberList, losingCrew));
-
         });
 
+        rankHistoryBatchRepository.saveAll(rankHistoryList);
+        crewStatsService.recordResults(battles);
+        resetScores(crewIds, battles);
+        returnToMatchmaking(battles);
         sendNotification(notificationRequestDtoList);
+
+        return battles.size();
     }
 
     private List<NotificationRequestDto> createNotification(Battle battle, List<User> winningCrewMemberList, Crew winningCrew) {
-        List<NotificationRequestDto> requestDtoList = winningCrewMemberList.stream().map(user -> {
-            try {
-                return notificationWriteService.createBattleNotification(
-                        NotificationType.BATTLE, user, battle, winningCrew, 0);
-            } catch (ExecutionException | InterruptedException e) {
-                System.err.println("Failed to create notification: " + e.getMessage());
-                return null;
-            }
-        }).toList();
+        List<NotificationRequestDto> requestDtoList = winningCrewMemberList.stream()
+                .map(user -> notificationWriteService.createBattleNotification(
+                        NotificationType.BATTLE, user, battle, winningCrew, 0))
+                .toList();
 
         return requestDtoList;
     }
 
     private List<NotificationRequestDto> createTopMemberNotification(Battle battle, Map<User, Integer> topMemberMap,
-                                                                     Crew winningCrew)
-            throws ExecutionException, InterruptedException {
+                                                                     Crew winningCrew) {
         List<NotificationRequestDto> notificationRequestDtoList = new ArrayList<>();
         for (User user : topMemberMap.keySet()) {
             notificationRequestDtoList.add(notificationWriteService.
@@ -178,11 +196,20 @@ public class BattleWriteService {
         return new Crew[]{battle.getAwayCrew(), battle.getHomeCrew()};
     }
 
-    private List<UserCrew> findUserCrewOrderByScore(Crew crew) {
-        return userCrewRepository.findUserByCrewIdOrderByScore(crew.getId());
+    // 크루별 멤버를 점수 내림차순으로 정렬 (동점이면 먼저 가입한 멤버 우선)
+    private Map<Long, List<UserCrew>> rankMembersByCrew(List<UserCrew> userCrewList) {
+        Comparator<UserCrew> byScore = Comparator
+                .comparing((UserCrew userCrew) -> userCrew.getBasicScore() + userCrew.getActivityScore())
+                .reversed()
+                .thenComparing(UserCrew::getId);
+
+        return userCrewList.stream()
+                .collect(Collectors.groupingBy(userCrew -> userCrew.getCrew().getId(),
+                        Collectors.collectingAndThen(Collectors.toList(),
+                                list -> list.stream().sorted(byScore).toList())));
     }
 
-    private void saveRankHistory(List<UserCrew> userCrewList, Crew crew) {
+    private List<RankHistory> buildRankHistory(List<UserCrew> userCrewList, Crew crew, LocalDate endDate) {
         List<RankHistory> rankHistoryList = new ArrayList<>();
         for (int i = 0; i < userCrewList.size(); i++) {
             UserCrew userCrew = userCrewList.get(i);
@@ -192,23 +219,39 @@ public class BattleWriteService {
                     .ranking(i + 1)
                     .basicScore(userCrew.getBasicScore())
                     .activityScore(userCrew.getActivityScore())
-                    .endDate(LocalDate.now().minusDays(1))
+                    .endDate(endDate)
                     .build());
         }
-        rankHistoryRepository.saveAll(rankHistoryList);
+        return rankHistoryList;
     }
 
-    private void resetScore(Crew crew, List<UserCrew> userCrew) {
-        resetCrewScore(crew);
-        resetUserCrewScore(userCrew);
+    // 벌크 UPDATE는 엔티티 리스너를 거치지 않으므로 커밋 후 크루 순위 인덱스에 직접 반영
+    private void resetScores(List<Long> crewIds, List<Battle> battles) {
+        crewRepository.resetScoresByIdIn(crewIds);
+        userCrewRepository.resetScoresByCrewIdIn(crewIds);
+
+        List<Crew> crews = battles.stream()
+                .flatMap(battle -> Stream.of(battle.getHomeCrew(), battle.getAwayCrew()))
+                .toList();
+        TransactionUtil.afterCommit(() -> crews.forEach(crew ->
+                crewRankingService.update(crew.getId(), crew.getExercise().getId(), 0F)));
+        // 멤버 점수 초기화는 멤버가 속한 다른 크루의 평균에도 영향을 주므로 프로필 캐시 전체 제거
+        TransactionUtil.afterCommit(crewProfileCache::clear);
     }
 
-    private void resetCrewScore(Crew crew) {
-        crew.resetScores();
-    }
+    // 배틀 대기 상태를 유지한 크루는 이번 배틀 점수로 다시 매칭 대기열에 등록
+    private void returnToMatchmaking(List<Battle> battles) {
+        Map<Long, Float> readyCrewScores = new HashMap<>();
+        battles.forEach(battle -> {
+            if (battle.getHomeCrew().getBattleStatus()) {
+                readyCrewScores.put(battle.getHomeCrew().getId(), battle.getHomeCrewScore());
+            }
+            if (battle.getAwayCrew().getBattleStatus()) {
+                readyCrewScores.put(battle.getAwayCrew().getId(), battle.getAwayCrewScore());
+            }
+        });
 
-    private void resetUserCrewScore(List<UserCrew> userCrewList) {
-        userCrewList.forEach(UserCrew::resetScores);
+        TransactionUtil.afterCommit(() -> readyCrewScores.forEach(battleMatchmakingService::enter));
     }
 
     private Integer calculateDDay() {
@@ -218,76 +261,24 @@ public class BattleWriteService {
         return (int) ChronoUnit.DAYS.between(now, lastDay) - 1;
     }
 
-    private Crew findOpponentCrew(Long crewId, Float myCrewScore) {
-        List<BattleAndCrewDto> recentBattleList = findRecentBattlesForAvailableCrews(crewId);
-        return getClosestCrew(myCrewScore, recentBattleList);
-    }
-
-    private static Crew getClosestCrew(Float myCrewScore, List<BattleAndCrewDto> recentBattleList) {
-        Crew closestCrew = null;
-        float smallestDifference = Float.MAX_VALUE;
-
-        for (BattleAndCrewDto dto : recentBattleList) {
-            Battle battle = dto.getBattle();
-
-            if (battle == null) {
-                continue;
-            }
-            Crew crew = dto.getCrew();
-
-            Float crewScore = battle.getHomeCrew().equals(dto.getCrew()) ?
-                    battle.getHomeCrewScore() :
-                    battle.getAwayCrewScore();
-
-            float scoreDifference = Math.abs(myCrewScore - crewScore);
-
-            if (scoreDifference < smallestDifference) {
-                smallestDifference = scoreDifference;
-                closestCrew = crew;
-            }
-        }
-
-        if (closestCrew == null && !recentBattleList.isEmpty()) {
-            Random random = new Random();
-            closestCrew = recentBattleList.get(random.nextInt(recentBattleList.size())).getCrew();
-        }
-        return closestCrew;
-    }
-
-    private Float findRecentBattleScore(Long crewId) {
-        Optional<Battle> battle = battleRepository.findFirstByHomeCrewIdOrAwayCrewIdOrderByCreatedAtDesc(crewId, crewId);
-        return battle.map(b -> b.getHomeCrew().getId().longValue() == crewId ? b.getHomeCrewScore() : b.getAwayCrewScore())
-                .orElse(0F);
+    // 두 크루 행을 ID 순으로 잠근 뒤 진행 중인 배틀을 다시 확인, 같은 크루가 엮인 배틀 시작은 커밋 순서대로 직렬화
+    // 요청 크루가 배틀 중이면 예외, 상대가 배틀 중이면 false
+    private boolean lockCrewsForBattle(Long crewId, Long opponentCrewId) {
+        crewRepository.lockByIdIn(Stream.of(crewId, opponentCrewId).sorted().toList());
+        battleValidator.validateBattleAlreadyExists(crewId);
+        return battleRepository.findBattleByCrewId(opponentCrewId, BattleStatus.STARTED).isEmpty();
     }
 
-    private List<BattleAndCrewDto> findRecentBattlesForAvailableCrews(Long crewId) {
-        log.info("findRecentBattlesForAvailableCrews 진입");
-        List<Crew> availableCrews = crewRepository.findBattleReadyCrews(crewId);
-        log.info("availableCrew 개수는 " + availableCrews.size());
-        List<BattleAndCrewDto> battleAndCrewDtoList = new ArrayList<>();
-
-        for (Crew crew : availableCrews) {
-            Optional<Battle> findBattle = battleRepository.findFirstByHomeCrewOrAwayCrewOrderByCreatedAtDesc(crew,
-                    crew);
-
-            findBattle.ifPresentOrElse(battle -> {
-                Crew currentCrew = battle.getAwayCrew().equals(crew) ? battle.getAwayCrew() : battle.getHomeCrew();
-                battleAndCrewDtoList.add(new BattleAndCrewDto(currentCrew, battle));
-            }, () -> {
-
-                battleAndCrewDtoList.add(new BattleAndCrewDto(crew, null));
-            });
-        }
-
-        for (BattleAndCrewDto dto : battleAndCrewDtoList) {
-            log.info("크루 아이디는 " + dto.getCrew().getId().toString());
-            if (dto.getBattle() == null) {
-                continue;
+    // 인덱스가 오래됐거나 다른 인스턴스가 먼저 매칭한 상대는 이미 배틀 중일 수 있으므로 인덱스에서 버리고 다음 후보 시도
+    private Crew findOpponentCrew(Long crewId, Float myCrewScore) {
+        for (int candidate = 0; candidate < MAX_OPPONENT_CANDIDATES; candidate++) {
+            Long opponentCrewId = battleMatchmakingService.reserveOpponent(crewId, myCrewScore)
+                    .orElseThrow(OpponentCrewNotFoundException::new);
+            if (lockCrewsForBattle(crewId, opponentCrewId)) {
+                return crewRepository.findById(opponentCrewId).orElseThrow(CrewNotFoundException::new);
             }
-            System.out.println(dto.getBattle().getCreatedAt());
+            battleMatchmakingService.discardOpponent(opponentCrewId);
         }
-
-        return battleAndCrewDtoList;
+        throw new OpponentCrewNotFoundException();
     }
-
 }
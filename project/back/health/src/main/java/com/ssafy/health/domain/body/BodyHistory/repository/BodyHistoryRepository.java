@@ -6,9 +6,34 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface BodyHistoryRepository extends JpaRepository<BodyHistory, Long> {
     List<BodyHistory> findByUserIdAndCreatedAtAfter(Long userId, LocalDateTime startTime);
     List<BodyHistory> findByUserIdAndCreatedAtBetween(Long userId, LocalDateTime startTime, LocalDateTime endTime);
     Optional<BodyHistory> findFirstByUserIdOrderByCreatedAtDesc(Long userId);
+
+    @Query("""
+            SELECT bh.user.id, bh.bodyType.id FROM BodyHistory bh
+            WHERE bh.id IN (SELECT MAX(bh2.id) FROM BodyHistory bh2 GROUP BY bh2.user.id)
+            """)
+    List<Object[]> findLatestBodyTypeIdOfAllUsers();
+
+    @Query("""
+            SELECT bh.user.id, bh.bodyType.id FROM BodyHistory bh
+            WHERE bh.id IN (
+                SELECT MAX(bh2.id) FROM BodyHistory bh2
+                WHERE bh2.user.id IN :userIds GROUP BY bh2.user.id
+            )
+            """)
+    List<Object[]> findLatestBodyTypeIdByUserIdIn(List<Long> userIds);
+
+    @Query("""
+            SELECT bh FROM BodyHistory bh
+            WHERE bh.id IN (
+                SELECT MAX(bh2.id) FROM BodyHistory bh2
+                WHERE bh2.user.id IN :userIds GROUP BY bh2.user.id
+            )
+            """)
+    List<BodyHistory> findLatestByUserIdIn(List<Long> userIds);
 }
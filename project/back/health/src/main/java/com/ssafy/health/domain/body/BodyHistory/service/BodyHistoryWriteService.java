@@ -1,5 +1,6 @@
 package com.ssafy.health.domain.body.BodyHistory.service;
 
+import com.ssafy.health.common.cache.ReferenceDataCache;
 import com.ssafy.health.common.security.SecurityUtil;
 import com.ssafy.health.domain.account.dto.request.BodySurveyRequestDto;
 import com.ssafy.health.domain.account.dto.response.BodySurveySuccessDto;
@@ -13,11 +14,12 @@ import com.ssafy.health.domain.body.BodyType.entity.BodyType;
 import com.ssafy.health.domain.body.BodyType.exception.BodyTypeNotFoundException;
 import com.ssafy.health.domain.body.BodyType.repository.BodyTypeRepository;
 import com.ssafy.health.domain.character.service.CharacterWriteService;
-import com.ssafy.health.domain.quest.entity.QuestStatus;
-import com.ssafy.health.domain.quest.exception.QuestNotFoundException;
-import com.ssafy.health.domain.quest.service.QuestWriteService;
+import com.ssafy.health.domain.quest.entity.QuestTrigger;
+import com.ssafy.health.domain.quest.event.QuestEvent;
+import com.ssafy.health.domain.recommendation.event.RecommendationRefreshEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,7 +35,8 @@ public class BodyHistoryWriteService {
     private final BodyTypeRepository bodyTypeRepository;
     private final BodyHistoryRepository bodyHistoryRepository;
     private final CharacterWriteService characterWriteService;
-    private final QuestWriteService questWriteService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReferenceDataCache referenceDataCache;
 
     private static final float MUSCLE_MIN_PER = 0.35F;
     private static final long BODY_TYPE_MIDDLE_NUMBER = 3;
@@ -45,18 +48,18 @@ public class BodyHistoryWriteService {
         Boolean isMuscle = calculateIsMuscle(bodySurveyRequestDto);
         Long bodyTypeId = adjustBodyTypeId(isMuscle, bodySurveyRequestDto.getBodyType(), user.getGender());
 
-        BodyType bodyType = bodyTypeRepository.findById(bodyTypeId).orElseThrow(BodyTypeNotFoundException::new);
+        if (!referenceDataCache.existsBodyType(bodyTypeId)) {
+            throw new BodyTypeNotFoundException();
+        }
+        BodyType bodyType = bodyTypeRepository.getReferenceById(bodyTypeId);
         saveBodyHistoryRecord(bodySurveyRequestDto, user, isMuscle, bodyType);
         log.info("Save body history");
 
         characterWriteService.createPersonalCharacter(user, bodyTypeId);
         log.info("Create personal character");
 
-        try {
-            questWriteService.updateUserQuestStatus(user, "몸무게 입력", QuestStatus.CREATED);
-        } catch (QuestNotFoundException e) {
-            log.info("완료 처리할 체형 입력 퀘스트가 없음");
-        }
+        eventPublisher.publishEvent(QuestEvent.ofUser(QuestTrigger.BODY_RECORDED, user.getId(), 1));
+        eventPublisher.publishEvent(new RecommendationRefreshEvent(user.getId()));
 
         return new BodySurveySuccessDto();
     }
@@ -1,14 +1,23 @@
 package com.ssafy.health.domain.body.BodyPredict.controller;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.ssafy.health.common.ApiResponse;
+import com.ssafy.health.common.security.SecurityUtil;
 import com.ssafy.health.domain.body.BodyPredict.dto.ExerciseDetailDto;
 import com.ssafy.health.domain.body.BodyPredict.dto.response.BasicPredictionResponseDto;
+import com.ssafy.health.domain.body.BodyPredict.dto.response.ExtraPredictionJobResponseDto;
 import com.ssafy.health.domain.body.BodyPredict.dto.response.ExtraPredictionResponseDto;
+import com.ssafy.health.domain.body.BodyPredict.dto.response.PredictionRunReportDto;
+import com.ssafy.health.domain.body.BodyPredict.service.BodyPredictDispatcher;
+import com.ssafy.health.domain.body.BodyPredict.service.BodyPredictJobService;
 import com.ssafy.health.domain.body.BodyPredict.service.BodyPredictReadService;
-import com.ssafy.health.domain.body.BodyPredict.service.BodyPredictWriteService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.concurrent.CompletionException;
 
 @RestController
 @RequestMapping("/api/v1/users/predict")
@@ -16,26 +25,56 @@ import org.springframework.web.bind.annotation.*;
 public class BodyPredictController implements BodyPredictControllerApi {
 
     private final BodyPredictReadService bodyPredictReadService;
-    private final BodyPredictWriteService bodyPredictWriteService;
+    private final BodyPredictJobService bodyPredictJobService;
+    private final BodyPredictDispatcher bodyPredictDispatcher;
+
+    @Value("${health.prediction.extra.wait-millis:60000}")
+    private long extraWaitMillis;
 
     @GetMapping("/basic")
     public ApiResponse<BasicPredictionResponseDto> getBasicPrediction() {
         return ApiResponse.success(bodyPredictReadService.getBasicPrediction());
     }
 
+    // 기존 클라이언트용 : 작업으로 실행하고 요청 스레드는 반납, 대기 시간을 넘기면 202와 작업 ID 응답
     @PostMapping("/request-extra")
-    public ApiResponse<ExtraPredictionResponseDto> requestExtraAnalysis(@RequestBody ExerciseDetailDto dto)
-            throws JsonProcessingException {
-        ExtraPredictionResponseDto responseDto = bodyPredictWriteService.requestExtraAnalysis(dto);
-        if (responseDto == null) {
-            return ApiResponse.error(204, "추가 체형 정보가 없음");
-        } else {
-            return ApiResponse.success(responseDto, "추가 체형 예측 완료");
-        }
+    public DeferredResult<ApiResponse<ExtraPredictionResponseDto>> requestExtraAnalysis(@RequestBody ExerciseDetailDto dto) {
+        Long userId = SecurityUtil.getCurrentUserId();
+        String jobId = bodyPredictJobService.submit(userId, dto);
+
+        DeferredResult<ApiResponse<ExtraPredictionResponseDto>> deferredResult = new DeferredResult<>(extraWaitMillis,
+                () -> ApiResponse.success(202, null, jobId));
+        bodyPredictJobService.getResult(userId, jobId).whenComplete((responseDto, e) -> {
+            if (e != null) {
+                deferredResult.setErrorResult(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+            } else if (responseDto == null) {
+                deferredResult.setResult(ApiResponse.error(204, "추가 체형 정보가 없음"));
+            } else {
+                deferredResult.setResult(ApiResponse.success(responseDto, "추가 체형 예측 완료"));
+            }
+        });
+        return deferredResult;
+    }
+
+    @PostMapping("/extra-jobs")
+    public ApiResponse<ExtraPredictionJobResponseDto> submitExtraPrediction(@RequestBody ExerciseDetailDto dto) {
+        Long userId = SecurityUtil.getCurrentUserId();
+        String jobId = bodyPredictJobService.submit(userId, dto);
+        return ApiResponse.success(202, bodyPredictJobService.getJob(userId, jobId), "추가 체형 예측 요청 접수");
+    }
+
+    @GetMapping("/extra-jobs/{jobId}")
+    public ApiResponse<ExtraPredictionJobResponseDto> getExtraPredictionJob(@PathVariable String jobId) {
+        return ApiResponse.success(bodyPredictJobService.getJob(SecurityUtil.getCurrentUserId(), jobId));
+    }
+
+    @GetMapping(value = "/extra-jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeExtraPredictionJob(@PathVariable String jobId) {
+        return bodyPredictJobService.subscribe(SecurityUtil.getCurrentUserId(), jobId);
     }
 
     @PostMapping("/request-analysis")
-    public ApiResponse<Void> requestAnalysis() {
-        return ApiResponse.success(bodyPredictWriteService.requestPrediction(), "FastAPI Basic Request");
+    public ApiResponse<PredictionRunReportDto> requestAnalysis() {
+        return ApiResponse.success(bodyPredictDispatcher.dispatchBasicPredictions(), "FastAPI Basic Request");
     }
 }
@@ -1,16 +1,19 @@
 package com.ssafy.health.domain.body.BodyPredict.controller;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.ssafy.health.common.ApiResponse;
 import com.ssafy.health.domain.body.BodyPredict.dto.ExerciseDetailDto;
 import com.ssafy.health.domain.body.BodyPredict.dto.response.BasicPredictionResponseDto;
+import com.ssafy.health.domain.body.BodyPredict.dto.response.ExtraPredictionJobResponseDto;
 import com.ssafy.health.domain.body.BodyPredict.dto.response.ExtraPredictionResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Tag(name = "예측 체형 조회 컨트롤러", description = "30일, 90일 뒤의 체형 예측 정보를 조회하는 클래스")
 public interface BodyPredictControllerApi {
@@ -81,6 +84,23 @@ public interface BodyPredictControllerApi {
                     )
             )
     })
-    ApiResponse<ExtraPredictionResponseDto> requestExtraAnalysis(@RequestBody ExerciseDetailDto dto)
-            throws JsonProcessingException;
+    DeferredResult<ApiResponse<ExtraPredictionResponseDto>> requestExtraAnalysis(@RequestBody ExerciseDetailDto dto);
+
+    @Operation(
+            summary = "추가 체형 예측 작업 요청",
+            description = "추가 체형 예측 작업을 등록하고 작업 ID를 반환합니다. 같은 운동 정보로 진행 중인 작업이 있으면 그 작업 ID를 반환합니다."
+    )
+    ApiResponse<ExtraPredictionJobResponseDto> submitExtraPrediction(@RequestBody ExerciseDetailDto dto);
+
+    @Operation(
+            summary = "추가 체형 예측 작업 조회",
+            description = "작업 상태(PENDING, DONE, NO_DATA, FAILED)와 완료된 경우 예측 결과를 조회합니다."
+    )
+    ApiResponse<ExtraPredictionJobResponseDto> getExtraPredictionJob(@PathVariable String jobId);
+
+    @Operation(
+            summary = "추가 체형 예측 작업 구독",
+            description = "작업이 끝나면 prediction 이벤트(SSE)로 작업 조회와 같은 형식의 결과를 한 번 전송합니다."
+    )
+    SseEmitter subscribeExtraPredictionJob(@PathVariable String jobId);
 }
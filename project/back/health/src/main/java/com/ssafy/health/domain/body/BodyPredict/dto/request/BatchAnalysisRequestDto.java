@@ -0,0 +1,31 @@
+package com.ssafy.health.domain.body.BodyPredict.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchAnalysisRequestDto {
+
+    private List<Item> items;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+
+        @JsonProperty("user_id")
+        private Long userId;
+
+        @JsonProperty("exercise_data")
+        private List<AnalysisRequestDto.UserExerciseData> exerciseData;
+    }
+}
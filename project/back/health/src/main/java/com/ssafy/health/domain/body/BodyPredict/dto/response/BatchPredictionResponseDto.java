@@ -0,0 +1,15 @@
+package com.ssafy.health.domain.body.BodyPredict.dto.response;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+public class BatchPredictionResponseDto {
+
+    private List<Long> predicted = new ArrayList<>();
+    private List<Long> failed = new ArrayList<>();
+}
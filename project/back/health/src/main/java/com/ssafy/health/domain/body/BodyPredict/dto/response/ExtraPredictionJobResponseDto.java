@@ -0,0 +1,15 @@
+package com.ssafy.health.domain.body.BodyPredict.dto.response;
+
+import com.ssafy.health.domain.body.BodyPredict.entity.PredictionJobStatus;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class ExtraPredictionJobResponseDto {
+
+    private String jobId;
+    private PredictionJobStatus status;
+    private ExtraPredictionResponseDto result;
+    private String message;
+}
@@ -0,0 +1,23 @@
+package com.ssafy.health.domain.body.BodyPredict.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class PredictionRunReportDto {
+
+    // scanned : 입력이 바뀌었을 수 있어 확인한 유저, skipped : 운동 기록 없음, unchanged : 지난 실행과 요청 본문이 같음
+    private int scanned;
+    private int requested;
+    private int succeeded;
+    private int failed;
+    private int skipped;
+    private int unchanged;
+    private int retried;
+
+    private long elapsedMillis;
+    private double throughputPerSecond;
+    private long p50LatencyMillis;
+    private long p99LatencyMillis;
+}
@@ -0,0 +1,272 @@
+package com.ssafy.health.domain.body.BodyPredict.engine;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+// analysis 서버 main.py v12 체중 예측 모델(LSTM 32 → LSTM 32 → Dense 32 tanh → LayerNorm → Dense 90 sigmoid)의 JVM 추론 엔진
+// 가중치와 스케일러는 analysis/practice/dock/export_forecast_model.py 로 변환한 little-endian 바이너리에서 로드
+// 추론 중에는 Workspace 배열만 재사용하고, 행렬 곱은 가중치 행 단위 saxpy 루프로 작성해 JIT(C2)가 자동 벡터화하도록 함
+// 아직 예측 경로(BodyPredictDispatcher)에는 연결하지 않음, Keras 골든 검증 후 연결 예정
+public class WeightForecastModel {
+
+    private static final String MAGIC = "WFM1";
+    private static final int VERSION = 1;
+    // 성별 one-hot 뒤의 수치 입력 : 나이, BMI, 체중, 칼로리
+    private static final int NUMERIC_FEATURES = 4;
+
+    private final int timesteps;
+    private final int features;
+    private final int units1;
+    private final int units2;
+    private final int denseUnits;
+    private final int outputs;
+
+    // kernel은 [입력][출력] 행 우선, LSTM 게이트 순서는 Keras와 같은 i, f, c, o
+    private final float[] kernel1;
+    private final float[] recurrent1;
+    private final float[] bias1;
+    private final float[] kernel2;
+    private final float[] recurrent2;
+    private final float[] bias2;
+    private final float[] denseKernel;
+    private final float[] denseBias;
+    private final float[] gamma;
+    private final float[] beta;
+    private final float epsilon;
+    private final float[] outputKernel;
+    private final float[] outputBias;
+
+    private final double[] sexCategories;
+    // main.py preprocess_data(v12)와 같이 BMI/체중/칼로리 모두 scaler_bmi로 변환 (서버 예측값과 맞추기 위해 그대로 유지)
+    private final double inputScale;
+    private final double inputMin;
+    private final double weightScale;
+    private final double weightMin;
+
+    private WeightForecastModel(ByteBuffer buffer) throws IOException {
+        byte[] magic = new byte[MAGIC.length()];
+        buffer.get(magic);
+        int version = buffer.getInt();
+        if (!MAGIC.equals(new String(magic, StandardCharsets.US_ASCII)) || version != VERSION) {
+            throw new IOException("체중 예측 모델 파일 형식이 아님");
+        }
+
+        timesteps = buffer.getInt();
+        features = buffer.getInt();
+        units1 = buffer.getInt();
+        units2 = buffer.getInt();
+        denseUnits = buffer.getInt();
+        outputs = buffer.getInt();
+
+        kernel1 = readFloats(buffer, features * 4 * units1);
+        recurrent1 = readFloats(buffer, units1 * 4 * units1);
+        bias1 = readFloats(buffer, 4 * units1);
+        kernel2 = readFloats(buffer, units1 * 4 * units2);
+        recurrent2 = readFloats(buffer, units2 * 4 * units2);
+        bias2 = readFloats(buffer, 4 * units2);
+        denseKernel = readFloats(buffer, units2 * denseUnits);
+        denseBias = readFloats(buffer, denseUnits);
+        gamma = readFloats(buffer, denseUnits);
+        beta = readFloats(buffer, denseUnits);
+        epsilon = buffer.getFloat();
+        outputKernel = readFloats(buffer, denseUnits * outputs);
+        outputBias = readFloats(buffer, outputs);
+
+        sexCategories = new double[buffer.getInt()];
+        buffer.asDoubleBuffer().get(sexCategories);
+        buffer.position(buffer.position() + sexCategories.length * Double.BYTES);
+        inputScale = buffer.getDouble();
+        inputMin = buffer.getDouble();
+        weightScale = buffer.getDouble();
+        weightMin = buffer.getDouble();
+
+        if (features != sexCategories.length + NUMERIC_FEATURES || buffer.hasRemaining()) {
+            throw new IOException("체중 예측 모델 입력 크기가 맞지 않음");
+        }
+    }
+
+    public static WeightForecastModel load(Path path) throws IOException {
+        return load(Files.readAllBytes(path));
+    }
+
+    public static WeightForecastModel load(InputStream inputStream) throws IOException {
+        return load(inputStream.readAllBytes());
+    }
+
+    private static WeightForecastModel load(byte[] bytes) throws IOException {
+        try {
+            return new WeightForecastModel(ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN));
+        } catch (BufferUnderflowException | NegativeArraySizeException e) {
+            throw new IOException("체중 예측 모델 파일이 잘림", e);
+        }
+    }
+
+    public int timesteps() {
+        return timesteps;
+    }
+
+    public int features() {
+        return features;
+    }
+
+    public int outputs() {
+        return outputs;
+    }
+
+    // 스레드마다 하나씩 만들어 재사용 (배치 크기와 무관)
+    public Workspace newWorkspace() {
+        return new Workspace(units1, units2, denseUnits);
+    }
+
+    // 하루치 입력을 inputs[offset..offset+features)에 전처리 : [성별 one-hot, 나이(원본), BMI, 체중, 칼로리]
+    public void encodeDay(int sex, double age, double bmi, double weight, double calories, float[] inputs, int offset) {
+        int category = Arrays.binarySearch(sexCategories, sex);
+        if (category < 0) {
+            throw new IllegalArgumentException("알 수 없는 성별 값 : " + sex);
+        }
+        Arrays.fill(inputs, offset, offset + sexCategories.length, 0f);
+        inputs[offset + category] = 1f;
+
+        int numeric = offset + sexCategories.length;
+        inputs[numeric] = (float) age;
+        inputs[numeric + 1] = (float) (bmi * inputScale + inputMin);
+        inputs[numeric + 2] = (float) (weight * inputScale + inputMin);
+        inputs[numeric + 3] = (float) (calories * inputScale + inputMin);
+    }
+
+    // inputs : [batch][timesteps][features], out : [batch][outputs] (0~1 정규화 체중, 1~90일 뒤)
+    public void predict(float[] inputs, int batch, Workspace workspace, float[] out) {
+        int inputStride = timesteps * features;
+        if (inputs.length < batch * inputStride || out.length < batch * outputs) {
+            throw new IllegalArgumentException("배치 크기보다 입력/출력 배열이 작음");
+        }
+        for (int b = 0; b < batch; b++) {
+            forward(inputs, b * inputStride, workspace, out, b * outputs);
+        }
+    }
+
+    // inverse_weight_prediction : scaler_weight 역변환 (kg)
+    public double toWeight(float scaled) {
+        return (scaled - weightMin) / weightScale;
+    }
+
+    private void forward(float[] inputs, int inputOffset, Workspace workspace, float[] out, int outOffset) {
+        float[] h1 = workspace.h1;
+        float[] c1 = workspace.c1;
+        float[] h2 = workspace.h2;
+        float[] c2 = workspace.c2;
+        Arrays.fill(h1, 0f);
+        Arrays.fill(c1, 0f);
+        Arrays.fill(h2, 0f);
+        Arrays.fill(c2, 0f);
+
+        // 2층은 1층의 같은 시점 은닉 상태만 쓰므로 시점마다 두 층을 차례로 진행 (1층 출력 시퀀스 보관 불필요)
+        for (int t = 0; t < timesteps; t++) {
+            lstmStep(inputs, inputOffset + t * features, features, kernel1, recurrent1, bias1, h1, c1, workspace.gates);
+            lstmStep(h1, 0, units1, kernel2, recurrent2, bias2, h2, c2, workspace.gates);
+        }
+
+        // Dense tanh → LayerNormalization (마지막 축 평균/분산)
+        float[] dense = workspace.dense;
+        System.arraycopy(denseBias, 0, dense, 0, denseUnits);
+        for (int k = 0; k < units2; k++) {
+            axpy(h2[k], denseKernel, k * denseUnits, dense, 0, denseUnits);
+        }
+        float mean = 0f;
+        for (int j = 0; j < denseUnits; j++) {
+            dense[j] = tanh(dense[j]);
+            mean += dense[j];
+        }
+        mean /= denseUnits;
+        float variance = 0f;
+        for (int j = 0; j < denseUnits; j++) {
+            float diff = dense[j] - mean;
+            variance += diff * diff;
+        }
+        float inverseStd = (float) (1.0 / Math.sqrt(variance / denseUnits + epsilon));
+        for (int j = 0; j < denseUnits; j++) {
+            dense[j] = (dense[j] - mean) * inverseStd * gamma[j] + beta[j];
+        }
+
+        // 출력 Dense sigmoid
+        System.arraycopy(outputBias, 0, out, outOffset, outputs);
+        for (int k = 0; k < denseUnits; k++) {
+            axpy(dense[k], outputKernel, k * outputs, out, outOffset, outputs);
+        }
+        for (int j = outOffset; j < outOffset + outputs; j++) {
+            out[j] = sigmoid(out[j]);
+        }
+    }
+
+    // Keras LSTM 한 시점 : z = x·W + h·U + b, c = f*c + i*tanh(g), h = o*tanh(c) (h, c는 제자리 갱신)
+    private static void lstmStep(float[] x, int xOffset, int inputSize, float[] kernel, float[] recurrent,
+                                 float[] bias, float[] h, float[] c, float[] gates) {
+        int units = h.length;
+        int width = 4 * units;
+        System.arraycopy(bias, 0, gates, 0, width);
+        for (int k = 0; k < inputSize; k++) {
+            axpy(x[xOffset + k], kernel, k * width, gates, 0, width);
+        }
+        for (int k = 0; k < units; k++) {
+            axpy(h[k], recurrent, k * width, gates, 0, width);
+        }
+
+        for (int j = 0; j < units; j++) {
+            float input = sigmoid(gates[j]);
+            float forget = sigmoid(gates[units + j]);
+            float candidate = tanh(gates[2 * units + j]);
+            float output = sigmoid(gates[3 * units + j]);
+            c[j] = forget * c[j] + input * candidate;
+            h[j] = output * tanh(c[j]);
+        }
+    }
+
+    // acc[accOffset..) += a * matrix[rowOffset..) (분기 없는 본문이라 SIMD로 벡터화됨)
+    private static void axpy(float a, float[] matrix, int rowOffset, float[] acc, int accOffset, int length) {
+        for (int j = 0; j < length; j++) {
+            acc[accOffset + j] += a * matrix[rowOffset + j];
+        }
+    }
+
+    private static float sigmoid(float x) {
+        return (float) (1.0 / (1.0 + Math.exp(-x)));
+    }
+
+    private static float tanh(float x) {
+        return (float) Math.tanh(x);
+    }
+
+    private static float[] readFloats(ByteBuffer buffer, int count) {
+        float[] values = new float[count];
+        buffer.asFloatBuffer().get(values);
+        buffer.position(buffer.position() + count * Float.BYTES);
+        return values;
+    }
+
+    // 유저 한 명의 순전파에 쓰는 은닉 상태/게이트 배열 (스레드 간 공유 금지)
+    public static class Workspace {
+
+        private final float[] h1;
+        private final float[] c1;
+        private final float[] h2;
+        private final float[] c2;
+        private final float[] gates;
+        private final float[] dense;
+
+        private Workspace(int units1, int units2, int denseUnits) {
+            h1 = new float[units1];
+            c1 = new float[units1];
+            h2 = new float[units2];
+            c2 = new float[units2];
+            gates = new float[4 * Math.max(units1, units2)];
+            dense = new float[denseUnits];
+        }
+    }
+}
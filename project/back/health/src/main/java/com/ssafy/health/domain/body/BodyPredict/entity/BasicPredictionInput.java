@@ -0,0 +1,25 @@
+package com.ssafy.health.domain.body.BodyPredict.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 유저별 마지막 BASIC 예측 입력 (요청 본문 SHA-256, 운동 기록이 없어 건너뛰었으면 null)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BasicPredictionInput {
+
+    @Id
+    private Long userId;
+
+    @Column(length = 64)
+    private String payloadHash;
+
+    private LocalDateTime checkedAt;
+}
@@ -0,0 +1,27 @@
+package com.ssafy.health.domain.body.BodyPredict.entity;
+
+import com.ssafy.health.domain.body.BodyPredict.dto.response.ExtraPredictionResponseDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDateTime;
+
+// 추가 체형 예측 작업 상태 (작업을 실행하지 않는 서버에서도 작업 ID로 조회할 수 있도록 공유)
+@Getter
+@AllArgsConstructor
+@Document(collection = "predict_extra_job")
+public class PredictionJobRecord {
+
+    @Id
+    private String jobId;
+    @Field("user_id")
+    private Long userId;
+    private PredictionJobStatus status;
+    private String message;
+    private ExtraPredictionResponseDto result;
+    @Field("updated_at")
+    private LocalDateTime updatedAt;
+}
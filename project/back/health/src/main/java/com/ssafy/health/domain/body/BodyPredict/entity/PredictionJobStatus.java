@@ -0,0 +1,5 @@
+package com.ssafy.health.domain.body.BodyPredict.entity;
+
+public enum PredictionJobStatus {
+    PENDING, DONE, NO_DATA, FAILED
+}
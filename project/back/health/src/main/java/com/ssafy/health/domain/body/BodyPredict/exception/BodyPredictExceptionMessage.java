@@ -6,7 +6,8 @@ import org.springframework.http.HttpStatus;
 @Getter
 public enum BodyPredictExceptionMessage {
     BASIC_DATA_NOT_AVAILABLE("기본 체형 예측 정보가 존재하지 않습니다.", HttpStatus.NOT_FOUND.value()),
-    EXTRA_DATA_NOT_AVAILABLE("추가 체형 예측 정보가 존재하지 않습니다.", HttpStatus.NOT_FOUND.value());
+    EXTRA_DATA_NOT_AVAILABLE("추가 체형 예측 정보가 존재하지 않습니다.", HttpStatus.NOT_FOUND.value()),
+    PREDICTION_JOB_NOT_FOUND("체형 예측 작업이 존재하지 않습니다.", HttpStatus.NOT_FOUND.value());
 
     private final String message;
     private final int status;
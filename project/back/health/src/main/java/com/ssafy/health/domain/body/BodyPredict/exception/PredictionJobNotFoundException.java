@@ -0,0 +1,13 @@
+package com.ssafy.health.domain.body.BodyPredict.exception;
+
+public class PredictionJobNotFoundException extends RuntimeException {
+
+    @Override
+    public String getMessage() {
+        return BodyPredictExceptionMessage.PREDICTION_JOB_NOT_FOUND.getMessage();
+    }
+
+    public int getStatus() {
+        return BodyPredictExceptionMessage.PREDICTION_JOB_NOT_FOUND.getStatus();
+    }
+}
@@ -0,0 +1,30 @@
+package com.ssafy.health.domain.body.BodyPredict.repository;
+
+import com.ssafy.health.domain.body.BodyPredict.entity.BasicPredictionInput;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface BasicPredictionInputRepository extends JpaRepository<BasicPredictionInput, Long> {
+
+    @Query("SELECT i.userId, i.payloadHash FROM BasicPredictionInput i WHERE i.userId IN :userIds")
+    List<Object[]> findPayloadHashesByUserIdIn(Collection<Long> userIds);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO BasicPredictionInput (userId, payloadHash, checkedAt)
+            VALUES (:userId, :payloadHash, :checkedAt)
+            ON DUPLICATE KEY UPDATE
+                payloadHash = VALUES(payloadHash),
+                checkedAt = VALUES(checkedAt)
+            """, nativeQuery = true)
+    void upsert(Long userId, String payloadHash, LocalDateTime checkedAt);
+
+    @Modifying
+    @Query("DELETE FROM BasicPredictionInput i WHERE i.userId IN :userIds")
+    int deleteByUserIdIn(Collection<Long> userIds);
+}
@@ -0,0 +1,11 @@
+package com.ssafy.health.domain.body.BodyPredict.repository;
+
+import com.ssafy.health.domain.body.BodyPredict.entity.PredictionJobRecord;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.time.LocalDateTime;
+
+public interface PredictionJobRecordRepository extends MongoRepository<PredictionJobRecord, String> {
+
+    void deleteByUpdatedAtBefore(LocalDateTime updatedAt);
+}
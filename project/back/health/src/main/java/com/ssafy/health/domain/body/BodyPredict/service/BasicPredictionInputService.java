@@ -0,0 +1,68 @@
+package com.ssafy.health.domain.body.BodyPredict.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.health.domain.body.BodyPredict.dto.request.AnalysisRequestDto;
+import com.ssafy.health.domain.body.BodyPredict.repository.BasicPredictionInputRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+
+// BASIC 예측 입력 변경 추적 : 지난 실행과 요청 본문이 같은 유저는 FastAPI 요청을 건너뜀
+@Service
+@RequiredArgsConstructor
+public class BasicPredictionInputService {
+
+    private final BasicPredictionInputRepository basicPredictionInputRepository;
+    private final ObjectMapper objectMapper;
+
+    public Map<Long, String> hashPayloads(Map<Long, AnalysisRequestDto> payloads) {
+        Map<Long, String> hashes = new HashMap<>();
+        payloads.forEach((userId, payload) -> hashes.put(userId, hash(payload)));
+        return hashes;
+    }
+
+    @Transactional(readOnly = true)
+    public Map<Long, String> findPayloadHashes(Collection<Long> userIds) {
+        Map<Long, String> hashes = new HashMap<>();
+        if (userIds.isEmpty()) {
+            return hashes;
+        }
+        basicPredictionInputRepository.findPayloadHashesByUserIdIn(userIds)
+                .forEach(row -> hashes.put((Long) row[0], (String) row[1]));
+        return hashes;
+    }
+
+    // 값이 null이면 운동 기록이 없어 요청하지 않은 유저
+    @Transactional
+    public void markChecked(Map<Long, String> payloadHashes, LocalDateTime checkedAt) {
+        payloadHashes.forEach((userId, payloadHash) ->
+                basicPredictionInputRepository.upsert(userId, payloadHash, checkedAt));
+    }
+
+    // 예측에 실패한 유저는 기록을 지워 다음 실행에서 다시 요청
+    @Transactional
+    public void forget(Collection<Long> userIds) {
+        if (!userIds.isEmpty()) {
+            basicPredictionInputRepository.deleteByUserIdIn(userIds);
+        }
+    }
+
+    private String hash(AnalysisRequestDto payload) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsBytes(payload)));
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.ssafy.health.domain.body.BodyPredict.service;
+
+import com.ssafy.health.common.http.OutboundCallRejectedException;
+import com.ssafy.health.domain.account.entity.User;
+import com.ssafy.health.domain.account.repository.UserRepository;
+import com.ssafy.health.domain.body.BodyPredict.dto.request.AnalysisRequestDto;
+import com.ssafy.health.domain.body.BodyPredict.dto.response.BatchPredictionResponseDto;
+import com.ssafy.health.domain.body.BodyPredict.dto.response.PredictionRunReportDto;
+import com.ssafy.health.domain.exercise.service.ExerciseHistoryReadService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BodyPredictDispatcher {
+
+    private static final int PAGE_SIZE = 200;
+
+    private final UserRepository userRepository;
+    private final BodyPredictWriteService bodyPredictWriteService;
+    private final BasicPredictionInputService basicPredictionInputService;
+    private final ExerciseHistoryReadService exerciseHistoryReadService;
+
+    @Value("${health.analysis.prediction.concurrency:8}")
+    private int concurrency;
+
+    @Value("${health.analysis.prediction.batch-size:64}")
+    private int batchSize;
+
+    @Value("${health.analysis.prediction.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${health.analysis.prediction.backoff-millis:500}")
+    private long backoffMillis;
+
+    // 입력이 바뀌었을 수 있는 유저만 페이지 단위로 읽어 배치 요청 본문을 만들고, 지난 실행과 본문이 같으면 건너뜀
+    // 동시 요청 수를 제한하여 FastAPI로 전송
+    @Scheduled(cron = "0 30 4 * * *")
+    public PredictionRunReportDto dispatchBasicPredictions() {
+
+        RunStats stats = new RunStats();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        LocalDateTime windowChangedAt = exerciseHistoryReadService.getLastWeekWindowChangedAt();
+        long afterId = 0L;
+
+        try {
+            while (true) {
+                List<User> users = userRepository.findBasicPredictionCandidates(
+                        afterId, windowChangedAt, Limit.of(PAGE_SIZE));
+                if (users.isEmpty()) {
+                    break;
+                }
+                dispatchPage(users, executor, stats);
+
+                if (users.size() < PAGE_SIZE) {
+                    break;
+                }
+                afterId = users.get(users.size() - 1).getId();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        PredictionRunReportDto report = stats.toReport();
+        log.info("BASIC prediction run finished: {}", report);
+        return report;
+    }
+
+    private void dispatchPage(List<User> users, ExecutorService executor, RunStats stats) {
+        // 본문 생성에 실패한 페이지도 failed와 함께 scanned에 포함
+        stats.scanned.addAndGet(users.size());
+
+        Map<Long, AnalysisRequestDto> payloads;
+        try {
+            payloads = bodyPredictWriteService.buildBasicPredictionPayloads(users);
+        } catch (RuntimeException e) {
+            log.error("Failed to build prediction payloads for users {} ~ {}",
+                    users.get(0).getId(), users.get(users.size() - 1).getId(), e);
+            stats.failed.addAndGet(users.size());
+            return;
+        }
+
+        // 운동 기록이 없는 유저와 본문이 지난 실행과 같은 유저는 확인 시각만 기록
+        Map<Long, String> payloadHashes = basicPredictionInputService.hashPayloads(payloads);
+        Map<Long, String> previousHashes = basicPredictionInputService.findPayloadHashes(payloads.keySet());
+        Map<Long, String> checked = new HashMap<>();
+        for (User user : users) {
+            if (!payloads.containsKey(user.getId())) {
+                checked.put(user.getId(), null);
+            }
+        }
+        stats.skipped.addAndGet(checked.size());
+
+        Iterator<Map.Entry<Long, AnalysisRequestDto>> iterator = payloads.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Long userId = iterator.next().getKey();
+            if (Objects.equals(previousHashes.get(userId), payloadHashes.get(userId))) {
+                checked.put(userId, payloadHashes.get(userId));
+                iterator.remove();
+                stats.unchanged.incrementAndGet();
+            }
+        }
+        basicPredictionInputService.markChecked(checked, LocalDateTime.now());
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (Map<Long, AnalysisRequestDto> batch : partition(payloads)) {
+            futures.add(CompletableFuture.runAsync(() -> sendWithRetry(batch, payloadHashes, stats), executor));
+        }
+
+        // 다음 페이지를 읽기 전에 현재 페이지의 요청이 모두 끝나도록 대기하여 메모리 사용량을 제한
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+    }
+
+    private List<Map<Long, AnalysisRequestDto>> partition(Map<Long, AnalysisRequestDto> payloads) {
+        List<Map<Long, AnalysisRequestDto>> batches = new ArrayList<>();
+        Map<Long, AnalysisRequestDto> batch = new LinkedHashMap<>();
+
+        for (Map.Entry<Long, AnalysisRequestDto> entry : payloads.entrySet()) {
+            batch.put(entry.getKey(), entry.getValue());
+            if (batch.size() == batchSize) {
+                batches.add(batch);
+                batch = new LinkedHashMap<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    private void sendWithRetry(Map<Long, AnalysisRequestDto> batch, Map<Long, String> payloadHashes,
+                               RunStats stats) {
+
+        stats.requested.addAndGet(batch.size());
+
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            long start = System.nanoTime();
+            try {
+                BatchPredictionResponseDto response = bodyPredictWriteService.requestBasicPredictionBatch(batch);
+                stats.latencies.add((System.nanoTime() - start) / 1_000_000);
+
+                List<Long> failedUsers = response != null ? response.getFailed() : List.of();
+                stats.succeeded.addAndGet(batch.size() - failedUsers.size());
+                stats.failed.addAndGet(failedUsers.size());
+                if (!failedUsers.isEmpty()) {
+                    log.warn("BASIC prediction failed for users {}", failedUsers);
+                }
+                recordResult(batch, payloadHashes, failedUsers);
+                return;
+            } catch (OutboundCallRejectedException e) {
+                // 서킷이 열려 있으면 재시도해도 거절되므로 바로 실패 처리
+                log.warn("BASIC prediction batch of {} users rejected: {}", batch.size(), e.getMessage());
+                break;
+            } catch (ResourceAccessException | HttpServerErrorException e) {
+                // analysis 서버가 (user_id, 예측 날짜) 기준 upsert로 저장하므로 배치 전체를 다시 보내도 문서가 중복되지 않음
+                if (attempt == maxAttempts) {
+                    log.warn("BASIC prediction batch of {} users failed after {} attempts: {}",
+                            batch.size(), attempt, e.getMessage());
+                    break;
+                }
+                stats.retried.incrementAndGet();
+                if (!sleep(backoffMillis * (1L << (attempt - 1)))) {
+                    break;
+                }
+            } catch (Exception e) {
+                log.warn("BASIC prediction batch of {} users failed: {}", batch.size(), e.getMessage());
+                break;
+            }
+        }
+        stats.failed.addAndGet(batch.size());
+        recordResult(batch, payloadHashes, List.copyOf(batch.keySet()));
+    }
+
+    // 성공한 유저는 이번 본문 해시를 기록하고, 실패한 유저는 다음 실행에서 다시 요청하도록 기록 삭제
+    private void recordResult(Map<Long, AnalysisRequestDto> batch, Map<Long, String> payloadHashes,
+                              List<Long> failedUsers) {
+        try {
+            Map<Long, String> predicted = new HashMap<>();
+            batch.keySet().stream()
+                    .filter(userId -> !failedUsers.contains(userId))
+                    .forEach(userId -> predicted.put(userId, payloadHashes.get(userId)));
+            basicPredictionInputService.markChecked(predicted, LocalDateTime.now());
+            basicPredictionInputService.forget(failedUsers);
+        } catch (RuntimeException e) {
+            log.error("Failed to record BASIC prediction inputs for {} users", batch.size(), e);
+        }
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static class RunStats {
+
+        private final long startedAt = System.nanoTime();
+        private final AtomicInteger requested = new AtomicInteger();
+        private final AtomicInteger succeeded = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final AtomicInteger scanned = new AtomicInteger();
+        private final AtomicInteger skipped = new AtomicInteger();
+        private final AtomicInteger unchanged = new AtomicInteger();
+        private final AtomicInteger retried = new AtomicInteger();
+        private final ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+
+        private PredictionRunReportDto toReport() {
+            long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+            List<Long> sortedLatencies = latencies.stream().sorted().toList();
+
+            return PredictionRunReportDto.builder()
+                    .requested(requested.get())
+                    .succeeded(succeeded.get())
+                    .failed(failed.get())
+                    .scanned(scanned.get())
+                    .skipped(skipped.get())
+                    .unchanged(unchanged.get())
+                    .retried(retried.get())
+                    .elapsedMillis(elapsedMillis)
+                    .throughputPerSecond(elapsedMillis > 0 ? succeeded.get() * 1000.0 / elapsedMillis : 0)
+                    .p50LatencyMillis(percentile(sortedLatencies, 0.50))
+                    .p99LatencyMillis(percentile(sortedLatencies, 0.99))
+                    .build();
+        }
+
+        private static long percentile(List<Long> sortedValues, double percentile) {
+            if (sortedValues.isEmpty()) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sortedValues.size()) - 1;
+            return sortedValues.get(Math.max(index, 0));
+        }
+    }
+}
@@ -0,0 +1,357 @@
+package com.ssafy.health.domain.body.BodyPredict.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.health.domain.body.BodyPredict.dto.ExerciseDetailDto;
+import com.ssafy.health.domain.body.BodyPredict.dto.request.AnalysisRequestDto;
+import com.ssafy.health.domain.body.BodyPredict.dto.response.ExtraPredictionJobResponseDto;
+import com.ssafy.health.domain.body.BodyPredict.dto.response.ExtraPredictionResponseDto;
+import com.ssafy.health.domain.body.BodyPredict.entity.PredictionJobRecord;
+import com.ssafy.health.domain.body.BodyPredict.entity.PredictionJobStatus;
+import com.ssafy.health.domain.body.BodyPredict.exception.PredictionJobNotFoundException;
+import com.ssafy.health.domain.body.BodyPredict.repository.PredictionJobRecordRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// 추가 체형 예측을 요청 스레드 밖의 작업으로 실행 (작업 ID로 조회하거나 SSE로 결과 수신)
+// 같은 유저/운동 정보로 진행 중인 작업은 하나로 합치고, 같은 요청 본문의 결과는 해시 기준으로 캐싱
+// 작업은 요청을 받은 서버에서 실행하고, 상태는 Mongo에 공유해 다른 서버로 들어온 조회/SSE 요청도 처리
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BodyPredictJobService {
+
+    private final BodyPredictWriteService bodyPredictWriteService;
+    private final BodyPredictReadService bodyPredictReadService;
+    private final PredictionJobRecordRepository jobRecordRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${health.prediction.extra.workers:4}")
+    private int workerCount;
+
+    @Value("${health.prediction.extra.cache-max-size:1000}")
+    private int cacheMaxSize;
+
+    @Value("${health.prediction.extra.cache-ttl-seconds:600}")
+    private long cacheTtlSeconds;
+
+    @Value("${health.prediction.extra.job-retention-seconds:600}")
+    private long jobRetentionSeconds;
+
+    @Value("${health.prediction.extra.sse-timeout-millis:120000}")
+    private long sseTimeoutMillis;
+
+    private final Map<String, PredictionJob> jobs = new ConcurrentHashMap<>();
+    // 다른 서버가 실행 중인 작업의 SSE 구독 (작업 ID별, 맵 연산 안에서만 목록 변경)
+    private final Map<String, List<SseEmitter>> remoteSubscribers = new ConcurrentHashMap<>();
+    private final Map<JobKey, PredictionJob> inFlightJobs = new ConcurrentHashMap<>();
+    // 유저별 마지막 작업 (analysis 서버가 유저별 최신 추가 예측 하나만 저장하므로 같은 유저 작업은 순서대로 실행)
+    private final Map<Long, CompletableFuture<?>> userTails = new ConcurrentHashMap<>();
+
+    private final Map<String, CachedResult> resultCache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedResult> eldest) {
+            return size() > cacheMaxSize;
+        }
+    };
+
+    private ExecutorService workers;
+
+    private record JobKey(Long userId, ExerciseDetailDto exerciseDetail) {
+    }
+
+    private record CachedResult(ExtraPredictionResponseDto result, long expiresAt) {
+    }
+
+    private static class PredictionJob {
+
+        private final String jobId = UUID.randomUUID().toString();
+        private final JobKey key;
+        private final CompletableFuture<ExtraPredictionResponseDto> future = new CompletableFuture<>();
+        private volatile String errorMessage;
+        private volatile long finishedAt;
+
+        private PredictionJob(JobKey key) {
+            this.key = key;
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        workers = Executors.newFixedThreadPool(workerCount);
+    }
+
+    @PreDestroy
+    public void stop() {
+        workers.shutdown();
+    }
+
+    // 작업 ID 반환 (같은 유저/운동 정보의 작업이 진행 중이면 그 작업 ID)
+    public String submit(Long userId, ExerciseDetailDto exerciseDetail) {
+        JobKey key = new JobKey(userId, ExerciseDetailDto.builder()
+                .exerciseId(exerciseDetail.getExerciseId())
+                .count(exerciseDetail.getCount())
+                .duration(exerciseDetail.getDuration())
+                .build());
+
+        PredictionJob created = new PredictionJob(key);
+        PredictionJob inFlight = inFlightJobs.putIfAbsent(key, created);
+        if (inFlight != null) {
+            return inFlight.jobId;
+        }
+
+        jobs.put(created.jobId, created);
+        saveRecord(created);
+        created.future.whenComplete((result, e) -> saveRecord(created));
+        schedule(created);
+        return created.jobId;
+    }
+
+    public ExtraPredictionJobResponseDto getJob(Long userId, String jobId) {
+        PredictionJob job = jobs.get(jobId);
+        if (job == null) {
+            return toResponseDto(findRecord(userId, jobId));
+        }
+        return toResponseDto(checkOwner(job, userId));
+    }
+
+    // submit 직후 같은 서버에서만 호출 (작업을 실행하는 서버)
+    public CompletableFuture<ExtraPredictionResponseDto> getResult(Long userId, String jobId) {
+        return checkOwner(jobs.get(jobId), userId).future;
+    }
+
+    // 작업이 끝나면 prediction 이벤트 한 번 전송 후 종료
+    public SseEmitter subscribe(Long userId, String jobId) {
+        PredictionJob job = jobs.get(jobId);
+        if (job == null) {
+            return subscribeRemote(findRecord(userId, jobId));
+        }
+        checkOwner(job, userId);
+
+        SseEmitter emitter = new SseEmitter(sseTimeoutMillis);
+        job.future.whenComplete((result, e) -> send(emitter, toResponseDto(job)));
+        return emitter;
+    }
+
+    // 다른 서버가 실행 중인 작업을 구독한 SSE는 공유된 작업 상태를 주기적으로 확인해 전송
+    @Scheduled(fixedDelayString = "${health.prediction.extra.remote-poll-millis:1000}")
+    public void pollRemoteJobs() {
+        if (remoteSubscribers.isEmpty()) {
+            return;
+        }
+        for (PredictionJobRecord record : jobRecordRepository.findAllById(remoteSubscribers.keySet())) {
+            if (record.getStatus() == PredictionJobStatus.PENDING) {
+                continue;
+            }
+            List<SseEmitter> emitters = remoteSubscribers.remove(record.getJobId());
+            if (emitters != null) {
+                ExtraPredictionJobResponseDto responseDto = toResponseDto(record);
+                emitters.forEach(emitter -> send(emitter, responseDto));
+            }
+        }
+    }
+
+    // 끝난 작업은 보관 기간이 지나면 제거
+    @Scheduled(fixedDelay = 60000)
+    public void evictFinishedJobs() {
+        long threshold = System.currentTimeMillis() - jobRetentionSeconds * 1000;
+        jobs.values().removeIf(job -> job.finishedAt != 0 && job.finishedAt < threshold);
+        jobRecordRepository.deleteByUpdatedAtBefore(LocalDateTime.now().minusSeconds(jobRetentionSeconds));
+    }
+
+    private SseEmitter subscribeRemote(PredictionJobRecord record) {
+        SseEmitter emitter = new SseEmitter(sseTimeoutMillis);
+        if (record.getStatus() != PredictionJobStatus.PENDING) {
+            send(emitter, toResponseDto(record));
+            return emitter;
+        }
+
+        String jobId = record.getJobId();
+        remoteSubscribers.compute(jobId, (id, emitters) -> {
+            List<SseEmitter> subscribed = emitters != null ? emitters : new ArrayList<>();
+            subscribed.add(emitter);
+            return subscribed;
+        });
+        Runnable unsubscribe = () -> remoteSubscribers.computeIfPresent(jobId, (id, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(e -> unsubscribe.run());
+        return emitter;
+    }
+
+    private void send(SseEmitter emitter, ExtraPredictionJobResponseDto responseDto) {
+        try {
+            emitter.send(SseEmitter.event().name("prediction").data(responseDto));
+            emitter.complete();
+        } catch (IOException | IllegalStateException ex) {
+            emitter.completeWithError(ex);
+        }
+    }
+
+    // 작업 상태를 공유 저장소에 기록 (실패해도 이 서버의 작업 실행과 조회에는 영향 없음)
+    private void saveRecord(PredictionJob job) {
+        ExtraPredictionJobResponseDto responseDto = toResponseDto(job);
+        try {
+            jobRecordRepository.save(new PredictionJobRecord(job.jobId, job.key.userId(), responseDto.getStatus(),
+                    responseDto.getMessage(), responseDto.getResult(), LocalDateTime.now()));
+        } catch (RuntimeException e) {
+            log.warn("Failed to save EXTRA prediction job {}: {}", job.jobId, e.getMessage());
+        }
+    }
+
+    private void schedule(PredictionJob job) {
+        Long userId = job.key.userId();
+        CompletableFuture<?>[] scheduled = new CompletableFuture<?>[1];
+
+        userTails.compute(userId, (id, tail) -> {
+            CompletableFuture<?> previous = tail != null ? tail : CompletableFuture.completedFuture(null);
+            scheduled[0] = previous.handleAsync((ignored, e) -> {
+                execute(job);
+                return null;
+            }, workers);
+            return scheduled[0];
+        });
+        scheduled[0].whenComplete((ignored, e) -> {
+            userTails.remove(userId, scheduled[0]);
+            // 종료 중이라 실행되지 못한 작업
+            if (!job.future.isDone()) {
+                inFlightJobs.remove(job.key, job);
+                fail(job, e);
+            }
+        });
+    }
+
+    private void execute(PredictionJob job) {
+        try {
+            ExtraPredictionResponseDto result = predict(job.key);
+            inFlightJobs.remove(job.key, job);
+            job.finishedAt = System.currentTimeMillis();
+            job.future.complete(result);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("EXTRA prediction job {} for user {} failed: {}", job.jobId, job.key.userId(), e.getMessage());
+            inFlightJobs.remove(job.key, job);
+            fail(job, e);
+        }
+    }
+
+    private void fail(PredictionJob job, Throwable e) {
+        job.errorMessage = e != null ? e.getMessage() : "추가 체형 예측 작업 실패";
+        job.finishedAt = System.currentTimeMillis();
+        job.future.completeExceptionally(e != null ? e : new IllegalStateException(job.errorMessage));
+    }
+
+    private ExtraPredictionResponseDto predict(JobKey key) throws JsonProcessingException {
+        AnalysisRequestDto payload = bodyPredictWriteService.buildExtraPredictionPayload(key.userId(), key.exerciseDetail());
+        if (payload == null) {
+            return null;
+        }
+
+        String payloadHash = hash(key.userId(), payload);
+        ExtraPredictionResponseDto cached = getCached(payloadHash);
+        if (cached != null) {
+            return cached;
+        }
+
+        if (!bodyPredictWriteService.requestExtraPrediction(key.userId(), payload)) {
+            return null;
+        }
+        ExtraPredictionResponseDto result = bodyPredictReadService.getExtraPrediction(key.userId());
+        if (result != null) {
+            putCache(payloadHash, result);
+        }
+        return result;
+    }
+
+    private PredictionJob checkOwner(PredictionJob job, Long userId) {
+        if (job == null || !job.key.userId().equals(userId)) {
+            throw new PredictionJobNotFoundException();
+        }
+        return job;
+    }
+
+    private PredictionJobRecord findRecord(Long userId, String jobId) {
+        return jobRecordRepository.findById(jobId)
+                .filter(record -> record.getUserId().equals(userId))
+                .orElseThrow(PredictionJobNotFoundException::new);
+    }
+
+    private ExtraPredictionJobResponseDto toResponseDto(PredictionJob job) {
+        ExtraPredictionJobResponseDto.ExtraPredictionJobResponseDtoBuilder builder = ExtraPredictionJobResponseDto.builder()
+                .jobId(job.jobId);
+
+        if (!job.future.isDone()) {
+            return builder.status(PredictionJobStatus.PENDING).build();
+        }
+        if (job.future.isCompletedExceptionally()) {
+            return builder.status(PredictionJobStatus.FAILED).message(job.errorMessage).build();
+        }
+
+        ExtraPredictionResponseDto result = job.future.getNow(null);
+        if (result == null) {
+            return builder.status(PredictionJobStatus.NO_DATA).message("추가 체형 정보가 없음").build();
+        }
+        return builder.status(PredictionJobStatus.DONE).result(result).build();
+    }
+
+    private ExtraPredictionJobResponseDto toResponseDto(PredictionJobRecord record) {
+        return ExtraPredictionJobResponseDto.builder()
+                .jobId(record.getJobId())
+                .status(record.getStatus())
+                .result(record.getResult())
+                .message(record.getMessage())
+                .build();
+    }
+
+    private ExtraPredictionResponseDto getCached(String payloadHash) {
+        synchronized (resultCache) {
+            CachedResult cached = resultCache.get(payloadHash);
+            if (cached != null && cached.expiresAt() > System.currentTimeMillis()) {
+                return cached.result();
+            }
+            return null;
+        }
+    }
+
+    private void putCache(String payloadHash, ExtraPredictionResponseDto result) {
+        synchronized (resultCache) {
+            resultCache.put(payloadHash, new CachedResult(result, System.currentTimeMillis() + cacheTtlSeconds * 1000));
+        }
+    }
+
+    // 예측 URL에 유저 ID가 들어가므로 유저 ID와 요청 본문을 함께 해시
+    private String hash(Long userId, AnalysisRequestDto payload) throws JsonProcessingException {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(userId.toString().getBytes(StandardCharsets.UTF_8));
+            digest.update(objectMapper.writeValueAsBytes(payload));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.ssafy.health.domain.body.BodyPredict.service;
 
+import com.ssafy.health.common.cache.ReferenceDataCache;
 import com.ssafy.health.common.security.SecurityUtil;
 import com.ssafy.health.domain.account.entity.Gender;
 import com.ssafy.health.domain.account.entity.User;
@@ -14,12 +15,11 @@ import com.ssafy.health.domain.body.BodyPredict.entity.BodyBasicPrediction;
 import com.ssafy.health.domain.body.BodyPredict.entity.BodyExtraPrediction;
 import com.ssafy.health.domain.body.BodyPredict.repository.BodyBasicPredictRepository;
 import com.ssafy.health.domain.body.BodyPredict.repository.BodyExtraPredictRepository;
-import com.ssafy.health.domain.body.BodyType.entity.BodyType;
 import com.ssafy.health.domain.body.BodyType.exception.BodyTypeNotFoundException;
-import com.ssafy.health.domain.body.BodyType.repository.BodyTypeRepository;
-import com.ssafy.health.domain.character.respository.CharacterRepository;
+import com.ssafy.health.domain.character.exception.CharacterNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -30,8 +30,7 @@ public class BodyPredictReadService {
     private final BodyHistoryRepository bodyHistoryRepository;
     private final BodyBasicPredictRepository basicRepository;
     private final BodyExtraPredictRepository extraRepository;
-    private final BodyTypeRepository bodyTypeRepository;
-    private final CharacterRepository characterRepository;
+    private final ReferenceDataCache referenceDataCache;
     private final UserRepository userRepository;
 
     public BasicPredictionResponseDto getBasicPrediction() {
@@ -46,20 +45,11 @@ public class BodyPredictReadService {
             return basicPrediction.map(bodyBasicPrediction -> BasicPredictionResponseDto.builder()
                     .userId(bodyBasicPrediction.getUserId())
                     .current(bodyHistory.get().getWeight())
-                    .currentImage(characterRepository.findFirstByBodyTypeId(
-                            bodyHistory.get().getBodyType().getId()).getCharacterImage())
+                    .currentImage(findCharacterImage(bodyHistory.get().getBodyType().getId()))
                     .p30(bodyBasicPrediction.getP30())
-                    .p30Image(characterRepository.findFirstByBodyTypeId(findBodyTypeByBmi(
-                                    bodyHistory.get().getHeight(),
-                                    bodyBasicPrediction.getP30(),
-                                    user.getGender()))
-                            .getCharacterImage())
+                    .p30Image(findCharacterImageByBmi(bodyHistory.get().getHeight(), bodyBasicPrediction.getP30(), user.getGender()))
                     .p90(bodyBasicPrediction.getP90())
-                    .p90Image(characterRepository.findFirstByBodyTypeId(findBodyTypeByBmi(
-                                    bodyHistory.get().getHeight(),
-                                    bodyBasicPrediction.getP90(),
-                                    user.getGender()))
-                            .getCharacterImage())
+                    .p90Image(findCharacterImageByBmi(bodyHistory.get().getHeight(), bodyBasicPrediction.getP90(), user.getGender()))
                     .createdAt(bodyBasicPrediction.getCreatedAt())
                     .build()).orElse(null);
         } else {
@@ -67,9 +57,10 @@ public class BodyPredictReadService {
         }
     }
 
-    public ExtraPredictionResponseDto getExtraPrediction() {
+    // 예측 작업 스레드에서 호출되므로 유저 ID를 직접 받음 (체형 정보 지연 로딩을 위해 트랜잭션 필요)
+    @Transactional(readOnly = true)
+    public ExtraPredictionResponseDto getExtraPrediction(Long userId) {
 
-        Long userId = SecurityUtil.getCurrentUserId();
         User user = userRepository.findById(userId).orElseThrow(UserNotFoundException::new);
 
         Optional<BodyExtraPrediction> extraPrediction = extraRepository.findFirstByUserId(userId);
@@ -79,20 +70,11 @@ public class BodyPredictReadService {
             return extraPrediction.map(bodyExtraPrediction -> ExtraPredictionResponseDto.builder()
                     .userId(bodyExtraPrediction.getUserId())
                     .current(bodyHistory.get().getWeight())
-                    .currentImage(characterRepository.findFirstByBodyTypeId(
-                            bodyHistory.get().getBodyType().getId()).getCharacterImage())
+                    .currentImage(findCharacterImage(bodyHistory.get().getBodyType().getId()))
                     .p30(bodyExtraPrediction.getP30())
-                    .p30Image(characterRepository.findFirstByBodyTypeId(findBodyTypeByBmi(
-                                    bodyHistory.get().getHeight(),
-                                    bodyExtraPrediction.getP30(),
-                                    user.getGender()))
-                            .getCharacterImage())
+                    .p30Image(findCharacterImageByBmi(bodyHistory.get().getHeight(), bodyExtraPrediction.getP30(), user.getGender()))
                     .p90(bodyExtraPrediction.getP90())
-                    .p90Image(characterRepository.findFirstByBodyTypeId(findBodyTypeByBmi(
-                                    bodyHistory.get().getHeight(),
-                                    bodyExtraPrediction.getP90(),
-                                    user.getGender()))
-                            .getCharacterImage())
+                    .p90Image(findCharacterImageByBmi(bodyHistory.get().getHeight(), bodyExtraPrediction.getP90(), user.getGender()))
                     .exercise(ExerciseDetailDto.builder()
                             .exerciseId(bodyExtraPrediction.getExercise().getExerciseId())
                             .duration(bodyExtraPrediction.getExercise().getDuration())
@@ -105,15 +87,13 @@ public class BodyPredictReadService {
         }
     }
 
-    private Long findBodyTypeByBmi(Float height, Float weight, Gender gender) {
+    private String findCharacterImageByBmi(Float height, Float weight, Gender gender) {
 
         float bmi = weight / (height * height) * 10000;
-        Optional<BodyType> bodyType = bodyTypeRepository.findByBmiAndGender((int) bmi, gender);
+        return referenceDataCache.findCharacterImageByBmi((int) bmi, gender).orElseThrow(BodyTypeNotFoundException::new);
+    }
 
-        if (bodyType.isPresent()) {
-            return bodyType.get().getId();
-        } else {
-            throw new BodyTypeNotFoundException();
-        }
+    private String findCharacterImage(Long bodyTypeId) {
+        return referenceDataCache.getCharacterImageByBodyTypeId(bodyTypeId).orElseThrow(CharacterNotFoundException::new);
     }
 }
@@ -1,7 +1,6 @@
 package com.ssafy.health.domain.body.BodyPredict.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.ssafy.health.common.security.SecurityUtil;
 import com.ssafy.health.common.util.RequestUtil;
 import com.ssafy.health.domain.account.entity.Gender;
 import com.ssafy.health.domain.account.entity.User;
@@ -12,7 +11,8 @@ import com.ssafy.health.domain.body.BodyHistory.exception.BodyHistoryNotFoundExc
 import com.ssafy.health.domain.body.BodyHistory.repository.BodyHistoryRepository;
 import com.ssafy.health.domain.body.BodyPredict.dto.ExerciseDetailDto;
 import com.ssafy.health.domain.body.BodyPredict.dto.request.AnalysisRequestDto;
-import com.ssafy.health.domain.body.BodyPredict.dto.response.ExtraPredictionResponseDto;
+import com.ssafy.health.domain.body.BodyPredict.dto.request.BatchAnalysisRequestDto;
+import com.ssafy.health.domain.body.BodyPredict.dto.response.BatchPredictionResponseDto;
 import com.ssafy.health.domain.body.BodyPredict.entity.PredictionType;
 import com.ssafy.health.domain.exercise.dto.response.ExerciseHistoryListResponseDto;
 import com.ssafy.health.domain.exercise.entity.Exercise;
@@ -23,20 +23,23 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.Period;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class BodyPredictWriteService {
 
-    private final BodyPredictReadService bodyPredictReadService;
     @Value("${health.analysis.api.url}")
     private String fastApiUrl;
 
@@ -51,51 +54,68 @@ public class BodyPredictWriteService {
         return fastApiUrl + "/users/" + userId + "/body/prediction";
     }
 
-    @Scheduled(cron = "0 30 4 * * *")
-    public Void requestPrediction() {
+    // 한 페이지의 유저에 대한 BASIC 예측 요청 본문을 일괄 조회로 생성 (운동 기록이 없는 유저는 제외)
+    @Transactional(readOnly = true)
+    public Map<Long, AnalysisRequestDto> buildBasicPredictionPayloads(List<User> userList) {
 
-        List<User> userList = userRepository.findAll();
+        List<Long> userIds = userList.stream().map(User::getId).toList();
+        Map<Long, BodyHistory> bodyHistoryByUser = bodyRepository.findLatestByUserIdIn(userIds).stream()
+                .collect(Collectors.toMap(bodyHistory -> bodyHistory.getUser().getId(), Function.identity()));
+        Map<Long, List<Float>> burnedCaloriesByUser = exerciseReadService.getLastWeekBurnedCalories(userIds);
 
-        userList.forEach(user -> {
-            String apiUrl = apiBaseUrlBuilder(user.getId()) + "/fast-api";
+        Map<Long, AnalysisRequestDto> payloads = new LinkedHashMap<>();
+        for (User user : userList) {
+            BodyHistory bodyHistory = bodyHistoryByUser.get(user.getId());
+            List<Float> burnedCalories = burnedCaloriesByUser.getOrDefault(user.getId(), List.of());
 
-            ExerciseDetailDto dto = ExerciseDetailDto.builder().build();
-            AnalysisRequestDto requestDto = buildPredictionPayload(user.getId(), PredictionType.BASIC, dto);
-
-            if (requestDto != null) {
-                try {
-                    requestUtil.sendPostRequest(apiUrl, requestDto, String.class);
-                } catch (JsonProcessingException e) {
-                    throw new RuntimeException(e);
-                }
-            } else {
-                log.info("{} analysis for user {} is not requested since exercise history is null",
-                        user.getId(), PredictionType.BASIC);
+            if (bodyHistory == null || burnedCalories.isEmpty()) {
+                log.info("{} analysis for user {} is not requested since body or exercise history is null",
+                        PredictionType.BASIC, user.getId());
+                continue;
             }
-        });
-        return null;
+            payloads.put(user.getId(),
+                    buildPayload(user, bodyHistory, burnedCalories, PredictionType.BASIC, null));
+        }
+        return payloads;
     }
 
-    public ExtraPredictionResponseDto requestExtraAnalysis(ExerciseDetailDto exerciseDetail)
+    // 여러 유저의 BASIC 예측 요청을 하나의 배치 요청으로 묶어 전송
+    public BatchPredictionResponseDto requestBasicPredictionBatch(Map<Long, AnalysisRequestDto> payloads)
             throws JsonProcessingException {
 
-        Long userId = SecurityUtil.getCurrentUserId();
-        String apiUrl = apiBaseUrlBuilder(userId) + "/extra/fast-api";
+        String apiUrl = fastApiUrl + "/users/body/prediction/batch/fast-api";
 
-        AnalysisRequestDto requestDto = buildPredictionPayload(userId, PredictionType.EXTRA, exerciseDetail);
+        BatchAnalysisRequestDto requestDto = BatchAnalysisRequestDto.builder()
+                .items(payloads.entrySet().stream()
+                        .map(entry -> BatchAnalysisRequestDto.Item.builder()
+                                .userId(entry.getKey())
+                                .exerciseData(entry.getValue().getExerciseData())
+                                .build())
+                        .toList())
+                .build();
 
-        if (requestDto != null) {
-            ResponseEntity<?> response = requestUtil.sendPostRequest(apiUrl, requestDto, String.class);
-            if (response.getStatusCode().is2xxSuccessful()) {
-                return bodyPredictReadService.getExtraPrediction();
-            } else {
-                return null;
-            }
-        } else {
+        return requestUtil.sendPostRequest(apiUrl, requestDto, BatchPredictionResponseDto.class).getBody();
+    }
+
+    // 추가 예측 요청 본문 생성 (운동 기록이 없으면 null)
+    @Transactional(readOnly = true)
+    public AnalysisRequestDto buildExtraPredictionPayload(Long userId, ExerciseDetailDto exerciseDetail) {
+
+        AnalysisRequestDto requestDto = buildPredictionPayload(userId, PredictionType.EXTRA, exerciseDetail);
+        if (requestDto == null) {
             log.info("{} analysis for user {} is not requested since exercise history is null",
-                    userId, PredictionType.BASIC);
-            return null;
+                    PredictionType.EXTRA, userId);
         }
+        return requestDto;
+    }
+
+    // FastAPI가 예측 결과를 Mongo에 저장하면 true
+    public boolean requestExtraPrediction(Long userId, AnalysisRequestDto requestDto)
+            throws JsonProcessingException {
+
+        String apiUrl = apiBaseUrlBuilder(userId) + "/extra/fast-api";
+        ResponseEntity<?> response = requestUtil.sendPostRequest(apiUrl, requestDto, String.class);
+        return response.getStatusCode().is2xxSuccessful();
     }
 
     private AnalysisRequestDto buildPredictionPayload(
@@ -107,29 +127,37 @@ public class BodyPredictWriteService {
         BodyHistory bodyHistory = bodyRepository.findFirstByUserIdOrderByCreatedAtDesc(user.getId())
                 .orElseThrow(BodyHistoryNotFoundException::new);
 
-        List<AnalysisRequestDto.UserExerciseData> exerciseBasicList = exerciseHistory.getExerciseHistoryList()
-                .stream()
-                .map(exercise -> exerciseDataBuilder(user, bodyHistory, exercise.getBurnedCalories()))
+        List<Float> burnedCalories = exerciseHistory.getExerciseHistoryList().stream()
+                .map(ExerciseHistoryListResponseDto.ExerciseHistoryDetailDto::getBurnedCalories)
                 .toList();
 
-        if (!exerciseBasicList.isEmpty()) {
+        if (!burnedCalories.isEmpty()) {
+            return buildPayload(user, bodyHistory, burnedCalories, predictionType, exerciseDetail);
+        }
+        return null;
+    }
+
+    private AnalysisRequestDto buildPayload(User user, BodyHistory bodyHistory, List<Float> burnedCalories,
+                                            PredictionType predictionType, ExerciseDetailDto exerciseDetail) {
 
-            if (predictionType.equals(PredictionType.EXTRA) && exerciseBasicList.size() > 3) {
-                exerciseBasicList = exerciseBasicList.subList(0, 3);
-            } else if (predictionType.equals(PredictionType.BASIC) && exerciseBasicList.size() > 7) {
-                exerciseBasicList = exerciseBasicList.subList(0, 7);
-            }
+        List<AnalysisRequestDto.UserExerciseData> exerciseBasicList = burnedCalories.stream()
+                .map(calories -> exerciseDataBuilder(user, bodyHistory, calories))
+                .toList();
 
-            return AnalysisRequestDto.builder()
-                    .exerciseDetail(
-                            (predictionType.equals(PredictionType.EXTRA)) ? exerciseDetail : null)
-                    .exerciseData(exerciseBasicList)
-                    .extraExerciseData(
-                            (predictionType.equals(PredictionType.EXTRA)) ?
-                                    buildExtraPayload(user, bodyHistory, exerciseDetail) : null)
-                    .build();
+        if (predictionType.equals(PredictionType.EXTRA) && exerciseBasicList.size() > 3) {
+            exerciseBasicList = exerciseBasicList.subList(0, 3);
+        } else if (predictionType.equals(PredictionType.BASIC) && exerciseBasicList.size() > 7) {
+            exerciseBasicList = exerciseBasicList.subList(0, 7);
         }
-        return null;
+
+        return AnalysisRequestDto.builder()
+                .exerciseDetail(
+                        (predictionType.equals(PredictionType.EXTRA)) ? exerciseDetail : null)
+                .exerciseData(exerciseBasicList)
+                .extraExerciseData(
+                        (predictionType.equals(PredictionType.EXTRA)) ?
+                                buildExtraPayload(user, bodyHistory, exerciseDetail) : null)
+                .build();
     }
 
     private List<AnalysisRequestDto.UserExerciseData> buildExtraPayload(
@@ -11,7 +11,11 @@ import org.springframework.transaction.annotation.Transactional;
 public class BodyTypeReadService {
 
     public Float bodyTypeCoverter(BodyType bodyType) {
-        Long typeId = (bodyType.getId() > 10) ? bodyType.getId() - 10 : bodyType.getId();
+        return bodyTypeCoverter(bodyType.getId());
+    }
+
+    public Float bodyTypeCoverter(Long bodyTypeId) {
+        Long typeId = (bodyTypeId > 10) ? bodyTypeId - 10 : bodyTypeId;
         return typeId > 6 ? (float) typeId - 6 : (float) typeId;
     }
 }
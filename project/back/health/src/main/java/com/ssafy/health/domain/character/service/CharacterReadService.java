@@ -1,20 +1,17 @@
 package com.ssafy.health.domain.character.service;
 
+import com.ssafy.health.common.cache.ReferenceDataCache;
+import com.ssafy.health.common.cache.ReferenceDataCache.CharacterInfo;
 import com.ssafy.health.common.security.SecurityUtil;
 import com.ssafy.health.domain.character.dto.response.CharacterResponseDto;
 import com.ssafy.health.domain.character.dto.response.CharacterSnapshotResponseDto;
-import com.ssafy.health.domain.character.dto.response.PartsInfoDto;
 import com.ssafy.health.domain.character.dto.response.PartsListDto;
-import com.ssafy.health.domain.character.entity.Character;
 import com.ssafy.health.domain.character.entity.CharacterSet;
 import com.ssafy.health.domain.character.entity.CharacterSnapshot;
-import com.ssafy.health.domain.character.entity.Parts;
 import com.ssafy.health.domain.character.exception.CharacterNotFoundException;
 import com.ssafy.health.domain.character.exception.CharacterSetNotFoundException;
-import com.ssafy.health.domain.character.respository.CharacterRepository;
 import com.ssafy.health.domain.character.respository.CharacterSetRepository;
 import com.ssafy.health.domain.character.respository.CharacterSnapshotRepository;
-import com.ssafy.health.domain.character.respository.PartsRepository;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -27,8 +24,7 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class CharacterReadService {
 
-    private final PartsRepository partsRepository;
-    private final CharacterRepository characterRepository;
+    private final ReferenceDataCache referenceDataCache;
     private final CharacterSetRepository characterSetRepository;
     private final CharacterSnapshotRepository characterSnapshotRepository;
 
@@ -49,20 +45,17 @@ public class CharacterReadService {
         else{
             id = characterSet.getCharacter().getId() + (characterSet.getParts().getId() * 10);
         }
-        Character character = characterRepository.findById(id).orElseThrow(CharacterNotFoundException::new);
+        CharacterInfo character = referenceDataCache.getCharacter(id).orElseThrow(CharacterNotFoundException::new);
 
         return CharacterResponseDto.builder()
-                .characterUrl(character.getCharacterFile())
-                .bodyTypeId(character.getBodyType().getId())
-                .gender(character.getGender())
+                .characterUrl(character.characterFile())
+                .bodyTypeId(character.bodyTypeId())
+                .gender(character.gender())
                 .build();
     }
 
     public PartsListDto getParts(){
-        List<Parts> partsList = partsRepository.findAll();
-        List<PartsInfoDto> partsInfoDtoList = partsList.stream().map(PartsInfoDto::fromEntity).toList();
-
-        return PartsListDto.builder().partsList(partsInfoDtoList).build();
+        return PartsListDto.builder().partsList(referenceDataCache.getParts()).build();
     }
 
     public CharacterSnapshotResponseDto getCharacterSnapshot(){
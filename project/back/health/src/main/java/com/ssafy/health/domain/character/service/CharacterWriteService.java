@@ -1,7 +1,9 @@
 package com.ssafy.health.domain.character.service;
 
+import com.ssafy.health.common.cache.ReferenceDataCache;
 import com.ssafy.health.common.s3.service.S3Service;
 import com.ssafy.health.common.security.SecurityUtil;
+import com.ssafy.health.common.util.TransactionUtil;
 import com.ssafy.health.domain.account.entity.User;
 import com.ssafy.health.domain.account.exception.UserNotFoundException;
 import com.ssafy.health.domain.account.repository.UserRepository;
@@ -45,6 +47,7 @@ public class CharacterWriteService {
     private final CharacterReadService characterReadService;
     private final CharacterSetRepository characterSetRepository;
     private final CharacterSnapshotRepository characterSnapshotRepository;
+    private final ReferenceDataCache referenceDataCache;
 
     public CharacterSaveSuccessDto saveCharacter(CharacterSaveRequestDto requestDto, MultipartFile characterImage, MultipartFile characterFile)
             throws IOException {
@@ -60,6 +63,7 @@ public class CharacterWriteService {
                 .characterImage(savedCharacterImage)
                 .characterFile(savedCharacterFile)
                 .build());
+        TransactionUtil.afterCommit(referenceDataCache::reload);
 
         return new CharacterSaveSuccessDto();
     }
@@ -73,6 +77,7 @@ public class CharacterWriteService {
                 .cost(requestDto.getCost())
                 .partsImage(savedPartImage)
                 .build());
+        TransactionUtil.afterCommit(referenceDataCache::reload);
 
         return new PartsSaveSuccessDto();
     }
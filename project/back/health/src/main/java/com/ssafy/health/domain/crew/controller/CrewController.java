@@ -9,10 +9,10 @@ import com.ssafy.health.domain.battle.service.BattleReadService;
 import com.ssafy.health.domain.battle.service.BattleWriteService;
 import com.ssafy.health.domain.crew.dto.request.CreateCrewRequestDto;
 import com.ssafy.health.domain.crew.dto.response.*;
-import com.ssafy.health.domain.crew.service.CrewAnalysisRequestService;
 import com.ssafy.health.domain.crew.service.CrewReadService;
 import com.ssafy.health.domain.crew.service.CrewValidator;
 import com.ssafy.health.domain.crew.service.CrewWriteService;
+import com.ssafy.health.domain.recommendation.service.CrewRecommendationService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -32,7 +32,7 @@ public class CrewController implements CrewControllerApi {
     private final CrewWriteService crewWriteService;
     private final BattleReadService battleReadService;
     private final BattleWriteService battleWriteService;
-    private final CrewAnalysisRequestService crewAnalysisRequestService;
+    private final CrewRecommendationService crewRecommendationService;
 
     @PostMapping(value = "/crew", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ApiResponse<CreateCrewSuccessDto> createCrew(
@@ -122,6 +122,6 @@ public class CrewController implements CrewControllerApi {
 
     @PostMapping("/crew/recommendation/test")
     public void requestAnalysis() throws JsonProcessingException {
-        crewAnalysisRequestService.requestAnalysis();
+        crewRecommendationService.recommendCrews();
     }
 }
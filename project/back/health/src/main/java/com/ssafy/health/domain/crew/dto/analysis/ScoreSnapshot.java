@@ -0,0 +1,37 @@
+package com.ssafy.health.domain.crew.dto.analysis;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Builder
+public class ScoreSnapshot {
+    private Map<Long, ScoreData> userScores;
+    private Map<Long, List<Long>> crewIdsByUser;
+    private Map<Long, List<Long>> favoredExerciseIdsByUser;
+    private List<Long> surveyedUserIds;
+    private List<CrewData> crews;
+
+    public ScoreSnapshot withCrews(List<CrewData> crews) {
+        return ScoreSnapshot.builder()
+                .userScores(userScores)
+                .crewIdsByUser(crewIdsByUser)
+                .favoredExerciseIdsByUser(favoredExerciseIdsByUser)
+                .surveyedUserIds(surveyedUserIds)
+                .crews(crews)
+                .build();
+    }
+
+    public UserData toUserData(Long userId) {
+        return UserData.builder()
+                .userId(userId)
+                .score(userScores.get(userId))
+                .crewList(crewIdsByUser.getOrDefault(userId, Collections.emptyList()))
+                .favoriteSports(favoredExerciseIdsByUser.getOrDefault(userId, Collections.emptyList()))
+                .build();
+    }
+}
@@ -16,6 +16,7 @@ public class CrewDetailResponseDto {
     private Long crewRanking;
     private Long totalBattlesCount;
     private Long winCount;
+    private Integer winStreak;
     private Integer averageAge;
     private Float basicScore;
     private Float activityScore;
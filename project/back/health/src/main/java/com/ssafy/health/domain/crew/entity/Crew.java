@@ -2,14 +2,18 @@ package com.ssafy.health.domain.crew.entity;
 
 import com.ssafy.health.common.entity.BaseEntity;
 import com.ssafy.health.domain.crew.dto.request.CreateCrewRequestDto;
+import com.ssafy.health.domain.crew.service.CrewRankingListener;
 import com.ssafy.health.domain.exercise.entity.Exercise;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@DynamicUpdate
+@EntityListeners(CrewRankingListener.class)
 @Table(indexes = {
         @Index(name = "idx_exercise_id", columnList = "exercise_id"),
 })
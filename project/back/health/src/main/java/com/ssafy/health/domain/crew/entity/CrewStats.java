@@ -0,0 +1,23 @@
+package com.ssafy.health.domain.crew.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 크루 상세 조회용 배틀 전적 (정산 시 누적, Battle에서 재계산 가능)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CrewStats {
+
+    @Id
+    private Long crewId;
+
+    private Integer totalBattles;
+
+    private Integer wins;
+
+    private Integer currentStreak;
+}
@@ -1,10 +1,12 @@
 package com.ssafy.health.domain.crew.repository;
 
-import com.ssafy.health.domain.account.entity.User;
 import com.ssafy.health.domain.crew.entity.Crew;
-import com.ssafy.health.domain.exercise.entity.Exercise;
 import jakarta.persistence.LockModeType;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
@@ -18,12 +20,14 @@ public interface CrewRepository extends JpaRepository<Crew, Long> {
     @Query("select c from Crew c where c.id = :id")
     Crew findByIdWithOptimisticLock(Long id);
 
-    @Query("SELECT c FROM Crew c " +
-            "WHERE c.id NOT IN (SELECT b.homeCrew.id FROM Battle b WHERE b.status = 'STARTED')" +
-            "AND c.id NOT IN (SELECT b.awayCrew.id FROM Battle b WHERE b.status = 'STARTED')" +
-            "AND c.battleStatus = true " +
-            "AND c.id <> :currentCrewId")
-    List<Crew> findBattleReadyCrews(Long currentCrewId);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Crew c WHERE c.id IN :ids ORDER BY c.id ASC")
+    List<Crew> lockByIdIn(List<Long> ids);
+
+    @Query("SELECT c.id FROM Crew c " +
+            "WHERE c.battleStatus = true " +
+            "AND NOT EXISTS (SELECT b FROM Battle b WHERE b.status = 'STARTED' AND (b.homeCrew = c OR b.awayCrew = c))")
+    List<Long> findBattleReadyCrewIds();
 
     @Query("SELECT COUNT(c) FROM Crew c WHERE (c.basicScore + c.activityScore) >= :totalScore")
     Long countCrewsWithHigherOrEqualScore(Float totalScore);
@@ -34,8 +38,34 @@ public interface CrewRepository extends JpaRepository<Crew, Long> {
     @Query("SELECT c FROM Crew c JOIN FETCH c.exercise WHERE c.id = :crewId")
     Optional<Crew> findCrewWithExerciseById(Long crewId);
 
-    @Query("SELECT uc.crew FROM UserCrew uc WHERE uc.user = :user AND uc.crew.exercise = :exercise")
-    List<Crew> findCrewsByUserAndExercise(User user, Exercise exercise);
+    @Query("SELECT c FROM Crew c JOIN FETCH c.exercise WHERE c.id IN :crewIds")
+    List<Crew> findCrewsWithExerciseByIdIn(List<Long> crewIds);
+
+    @Query("SELECT uc.crew.id FROM UserCrew uc WHERE uc.user.id = :userId AND uc.crew.exercise.id = :exerciseId")
+    List<Long> findCrewIdsByUserIdAndExerciseId(Long userId, Long exerciseId);
+
+    // 읽고 쓰는 대신 DB에서 원자적으로 누적
+    // 점수 컬럼은 엔티티로 수정하지 않고(@DynamicUpdate) version도 올리지 않아 코인 등 엔티티 수정과 충돌하지 않음
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Crew c " +
+            "SET c.basicScore = c.basicScore + :basicScore " +
+            "WHERE c.id IN :crewIds")
+    int addBasicScoreByIdIn(List<Long> crewIds, Float basicScore);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Crew c " +
+            "SET c.basicScore = 0, c.activityScore = 0 " +
+            "WHERE c.id IN :crewIds")
+    int resetScoresByIdIn(List<Long> crewIds);
 
     Optional<Crew> findByName(String name);
+
+    @Query("SELECT c.id, c.exercise.id FROM Crew c")
+    List<Object[]> findAllCrewIdAndExerciseId();
+
+    @Query("SELECT c.id, c.exercise.id, (c.basicScore + c.activityScore) FROM Crew c")
+    List<Object[]> findAllCrewIdExerciseIdAndTotalScore();
+
+    @EntityGraph(attributePaths = "exercise")
+    Window<Crew> findAllByOrderByIdAsc(ScrollPosition position, Limit limit);
 }
@@ -0,0 +1,32 @@
+package com.ssafy.health.domain.crew.repository;
+
+import com.ssafy.health.domain.crew.entity.CrewStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface CrewStatsRepository extends JpaRepository<CrewStats, Long> {
+
+    // 정산된 배틀 한 건을 반영, 이기면 연승 +1 지면(무승부 포함) 0
+    @Modifying
+    @Query(value = """
+            INSERT INTO CrewStats (crewId, totalBattles, wins, currentStreak)
+            VALUES (:crewId, 1, :win, :win)
+            ON DUPLICATE KEY UPDATE
+                totalBattles = totalBattles + 1,
+                wins = wins + VALUES(wins),
+                currentStreak = IF(VALUES(wins) = 1, currentStreak + 1, 0)
+            """, nativeQuery = true)
+    void accumulate(Long crewId, int win);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO CrewStats (crewId, totalBattles, wins, currentStreak)
+            VALUES (:crewId, :totalBattles, :wins, :currentStreak)
+            ON DUPLICATE KEY UPDATE
+                totalBattles = VALUES(totalBattles),
+                wins = VALUES(wins),
+                currentStreak = VALUES(currentStreak)
+            """, nativeQuery = true)
+    void overwrite(Long crewId, int totalBattles, int wins, int currentStreak);
+}
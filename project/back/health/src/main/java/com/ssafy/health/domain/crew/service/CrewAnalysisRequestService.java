@@ -1,131 +1,122 @@
 package com.ssafy.health.domain.crew.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ssafy.health.common.util.RequestUtil;
 import com.ssafy.health.domain.account.entity.User;
-import com.ssafy.health.domain.account.entity.UserCrew;
-import com.ssafy.health.domain.account.repository.FavoredRepository;
-import com.ssafy.health.domain.account.repository.UserCrewRepository;
 import com.ssafy.health.domain.account.repository.UserRepository;
-import com.ssafy.health.domain.account.service.UserReadService;
-import com.ssafy.health.domain.crew.dto.analysis.*;
+import com.ssafy.health.domain.crew.dto.analysis.CrewData;
+import com.ssafy.health.domain.crew.dto.analysis.ScoreSnapshot;
 import com.ssafy.health.domain.crew.entity.Crew;
 import com.ssafy.health.domain.crew.repository.CrewRepository;
-import com.ssafy.health.domain.exercise.entity.Exercise;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class CrewAnalysisRequestService {
 
+    private static final int PAGE_SIZE = 500;
+
     private final RequestUtil requestUtil;
+    private final ObjectMapper objectMapper;
     private final UserRepository userRepository;
-    private final UserReadService userReadService;
-    private final UserCrewRepository userCrewRepository;
-    private final FavoredRepository favoredRepository;
     private final CrewRepository crewRepository;
+    private final CrewScoreSnapshotService crewScoreSnapshotService;
+    private final CrewProfileCache crewProfileCache;
 
     @Value("${health.analysis.api.url}")
     private String fastApiUrl;
 
-    @Scheduled(cron = "0 30 3 * * *")
-    public void requestAnalysis() throws JsonProcessingException {
+    // 스케줄은 CrewRecommendationService가 담당 (health.recommendation.engine.enabled=false일 때 호출)
+    public void requestAnalysis() {
 
         final String apiUrl = fastApiUrl + "/users/crew-recommendation/fast-api";
 
-        CrewAnalysisRequestDto requestDto = CrewAnalysisRequestDto.builder()
-                .totalUsers(buildUserData())
-                .totalCrews(buildCrewData())
-                .build();
-
-        requestUtil.sendPostRequest(apiUrl, requestDto, String.class);
-    }
-
-    private TotalUserDataDto buildUserData() {
-        return TotalUserDataDto.builder()
-                .users(userDataBuilder(userRepository.findALLBySurveyCompletedTrue()))
-                .build();
+        requestUtil.sendStreamingPostRequest(apiUrl, this::writePayload, String.class);
     }
 
-    private TotalCrewDataDto buildCrewData() {
-
-        List<Crew> crewList = crewRepository.findAll();
-        return TotalCrewDataDto.builder()
-                .crews(crewList.stream()
-                        .map(this::buildCrewData)
-                        .toList())
-                .build();
-    }
-
-    public CrewData buildCrewData(Crew crew) {
-
-        List<User> userList = userRepository.findUserByCrewId(crew.getId());
-        List<ScoreData> userScoreList = userList.stream()
-                .map(user -> userReadService.calculateUserScore(user.getId()))
-                .toList();
-
-        Long crewId = crew.getId();
-        Exercise crewSports = crew.getExercise();
-        ScoreData score = calculateCrewScore(userScoreList);
-
-        return CrewData.builder()
-                .crewId(crewId)
-                .crewSports(crewSports.getId())
-                .score(score)
-                .build();
+    // {"total_users":{"users":[...]},"total_crews":{"crews":[...]}} 형식을 페이지 단위로 직렬화
+    private void writePayload(OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+            generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+            generator.writeStartObject();
+
+            generator.writeObjectFieldStart("total_users");
+            generator.writeArrayFieldStart("users");
+            int userCount = writeUsers(generator);
+            generator.writeEndArray();
+            generator.writeEndObject();
+
+            generator.writeObjectFieldStart("total_crews");
+            generator.writeArrayFieldStart("crews");
+            int crewCount = writeCrews(generator);
+            generator.writeEndArray();
+            generator.writeEndObject();
+
+            generator.writeEndObject();
+            log.info("Crew analysis payload streamed: {} users, {} crews", userCount, crewCount);
+        }
     }
 
-    private List<UserData> userDataBuilder(List<User> userList) {
-        return userList.stream()
-                .map(user -> UserData.builder()
-                        .userId(user.getId())
-                        .score(userReadService.calculateUserScore(user.getId()))
-                        .crewList(userCrewRepository.findByUserIdWithCrew(user.getId())
-                                .stream()
-                                .map(UserCrew::getId)
-                                .toList())
-                        .favoriteSports(favoredRepository.findByUserId(user.getId())
-                                .stream()
-                                .map(favoredExercise -> favoredExercise.getExercise().getId())
-                                .toList())
-                        .build())
-                .toList();
+    private int writeUsers(JsonGenerator generator) throws IOException {
+        int count = 0;
+        ScrollPosition position = ScrollPosition.keyset();
+
+        while (true) {
+            Window<User> users = userRepository.findBySurveyCompletedTrueOrderByIdAsc(position, Limit.of(PAGE_SIZE));
+            if (users.isEmpty()) {
+                break;
+            }
+
+            ScoreSnapshot snapshot = crewScoreSnapshotService.takeSnapshot(users.getContent());
+            for (Long userId : snapshot.getSurveyedUserIds()) {
+                generator.writeObject(snapshot.toUserData(userId));
+                count++;
+            }
+            generator.flush();
+
+            if (!users.hasNext()) {
+                break;
+            }
+            position = users.positionAt(users.size() - 1);
+        }
+        return count;
     }
 
-    private ScoreData calculateCrewScore(List<ScoreData> scoreDataList) {
-
-        int userCount = scoreDataList.size();
-
-        float totalMType = 0;
-        float totalType = 0;
-        int totalAge = 0;
-        float totalBasicScore = 0;
-        float totalActivityScore = 0;
-        float totalIntakeScore = 0;
-
-        for (ScoreData scoreData : scoreDataList) {
-            totalMType += scoreData.getMType();
-            totalType += scoreData.getType();
-            totalAge += scoreData.getAge();
-            totalBasicScore += scoreData.getBasicScore();
-            totalActivityScore += scoreData.getActivityScore();
-            totalIntakeScore += scoreData.getIntakeScore();
+    private int writeCrews(JsonGenerator generator) throws IOException {
+        int count = 0;
+        ScrollPosition position = ScrollPosition.keyset();
+
+        while (true) {
+            Window<Crew> crews = crewRepository.findAllByOrderByIdAsc(position, Limit.of(PAGE_SIZE));
+            if (crews.isEmpty()) {
+                break;
+            }
+
+            List<CrewData> crewDataList = crewScoreSnapshotService.buildCrewData(crews.getContent());
+            crewProfileCache.putAll(crewDataList);
+            for (CrewData crewData : crewDataList) {
+                generator.writeObject(crewData);
+                count++;
+            }
+            generator.flush();
+
+            if (!crews.hasNext()) {
+                break;
+            }
+            position = crews.positionAt(crews.size() - 1);
         }
-
-        return ScoreData.builder()
-                .mType(totalMType / userCount)
-                .type(totalType / userCount)
-                .age(Math.round((float) totalAge / userCount))
-                .basicScore(totalBasicScore / userCount)
-                .activityScore(totalActivityScore / userCount)
-                .intakeScore(totalIntakeScore / userCount)
-                .build();
+        return count;
     }
 }
@@ -0,0 +1,121 @@
+package com.ssafy.health.domain.crew.service;
+
+import com.ssafy.health.domain.exercise.repository.ExerciseHistoryRepository;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+// 크루별 오늘 운동한 팀원과 합산 운동 시간을 운동 기록 저장 시점마다 누적 (크루 퀘스트 판정 O(1))
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CrewDailyProgressService {
+
+    private final ExerciseHistoryRepository exerciseHistoryRepository;
+
+    private final Map<Long, Progress> progressByCrew = new HashMap<>();
+    // 오늘 반영한 운동 기록 id, 복구 조회에 포함된 기록의 이벤트가 늦게 도착해도 한 번만 반영
+    private final Set<Long> countedHistoryIds = new HashSet<>();
+    // 복구 중에 들어온 운동 기록, 복구가 끝난 뒤 반영 (복구 중이 아니면 null)
+    private List<Workout> pendingWorkouts;
+    private LocalDate today;
+
+    private static class Progress {
+        private final Set<Long> activeMembers = new HashSet<>();
+        private long totalDuration;
+    }
+
+    private record Workout(List<Long> crewIds, Long userId, Long exerciseHistoryId, LocalDate exerciseDate,
+                           long duration) {
+    }
+
+    // 재시작 시 오늘 운동 기록에서 복구
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        synchronized (this) {
+            pendingWorkouts = new ArrayList<>();
+        }
+
+        LocalDate date = LocalDate.now();
+        List<Object[]> rows = List.of();
+        try {
+            rows = exerciseHistoryRepository.findCrewMemberWorkoutsByExerciseStartTimeBetween(
+                    date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+        } finally {
+            synchronized (this) {
+                progressByCrew.clear();
+                countedHistoryIds.clear();
+                today = date;
+                for (Object[] row : rows) {
+                    add((Long) row[0], (Long) row[1], ((Number) row[3]).longValue());
+                    countedHistoryIds.add((Long) row[2]);
+                }
+
+                // 조회 이전에 커밋된 기록은 이미 반영되어 있으므로 기록 id로 걸러짐
+                List<Workout> pending = pendingWorkouts;
+                pendingWorkouts = null;
+                pending.forEach(this::apply);
+            }
+        }
+        log.info("Crew daily progress recovered for {} crews", progressByCrew.size());
+    }
+
+    @Scheduled(cron = "0 0 0 * * *")
+    public synchronized void reset() {
+        progressByCrew.clear();
+        countedHistoryIds.clear();
+        today = LocalDate.now();
+    }
+
+    // 오늘 시작한 운동만 반영 (기존 쿼리와 같은 기준)
+    public synchronized void record(List<Long> crewIds, Long userId, Long exerciseHistoryId, LocalDate exerciseDate,
+                                    long duration) {
+        Workout workout = new Workout(crewIds, userId, exerciseHistoryId, exerciseDate, duration);
+        if (pendingWorkouts != null) {
+            pendingWorkouts.add(workout);
+            return;
+        }
+        apply(workout);
+    }
+
+    public synchronized boolean isCompleted(Long crewId, int minMembers, long minDuration) {
+        rollOver();
+        Progress progress = progressByCrew.get(crewId);
+        return progress != null
+                && progress.activeMembers.size() >= minMembers
+                && progress.totalDuration >= minDuration;
+    }
+
+    private void apply(Workout workout) {
+        rollOver();
+        if (!workout.exerciseDate().equals(today) || !countedHistoryIds.add(workout.exerciseHistoryId())) {
+            return;
+        }
+        workout.crewIds().forEach(crewId -> add(crewId, workout.userId(), workout.duration()));
+    }
+
+    private void rollOver() {
+        LocalDate now = LocalDate.now();
+        if (!now.equals(today)) {
+            progressByCrew.clear();
+            countedHistoryIds.clear();
+            today = now;
+        }
+    }
+
+    private void add(Long crewId, Long userId, long duration) {
+        Progress progress = progressByCrew.computeIfAbsent(crewId, key -> new Progress());
+        progress.activeMembers.add(userId);
+        progress.totalDuration += duration;
+    }
+}
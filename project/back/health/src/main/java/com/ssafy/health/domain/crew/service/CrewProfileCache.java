@@ -0,0 +1,70 @@
+package com.ssafy.health.domain.crew.service;
+
+import com.ssafy.health.domain.account.repository.UserCrewRepository;
+import com.ssafy.health.domain.crew.dto.analysis.CrewData;
+import com.ssafy.health.domain.crew.dto.analysis.ScoreData;
+import com.ssafy.health.domain.crew.entity.Crew;
+import com.ssafy.health.domain.recommendation.event.RecommendationRefreshEvent;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 크루 평균 ScoreData를 매일 분석 요청 시 계산한 값으로 캐싱 (크루 상세 조회 시 멤버별 계산 생략)
+// 멤버 구성, 멤버 점수, 멤버의 체형/나이/섭취 칼로리가 바뀌면 해당 크루를 제거하고 다음 조회 때 다시 계산
+@Component
+@RequiredArgsConstructor
+public class CrewProfileCache {
+
+    // 점수를 계산할 수 있는 멤버가 없는 크루의 평균 (CrewScoreSnapshotService.calculateCrewScore)
+    private static final ScoreData EMPTY_PROFILE = ScoreData.builder().build();
+
+    private final CrewScoreSnapshotService crewScoreSnapshotService;
+    private final UserCrewRepository userCrewRepository;
+
+    private final Map<Long, ScoreData> profiles = new ConcurrentHashMap<>();
+
+    // 빈 평균은 캐싱하지 않음, 멤버가 설문을 마치면 다음 조회에서 바로 반영
+    public void putAll(List<CrewData> crewDataList) {
+        crewDataList.forEach(crewData -> {
+            if (EMPTY_PROFILE.equals(crewData.getScore())) {
+                profiles.remove(crewData.getCrewId());
+            } else {
+                profiles.put(crewData.getCrewId(), crewData.getScore());
+            }
+        });
+    }
+
+    // 아직 분석 전인 크루는 멤버 수와 무관한 고정 개수의 쿼리로 계산 후 캐싱
+    public ScoreData getProfile(Crew crew) {
+        ScoreData profile = profiles.get(crew.getId());
+        if (profile != null) {
+            return profile;
+        }
+
+        List<CrewData> crewData = crewScoreSnapshotService.buildCrewData(List.of(crew));
+        putAll(crewData);
+        return crewData.get(0).getScore();
+    }
+
+    public void evict(Long crewId) {
+        profiles.remove(crewId);
+    }
+
+    public void evictAll(Collection<Long> crewIds) {
+        crewIds.forEach(profiles::remove);
+    }
+
+    public void clear() {
+        profiles.clear();
+    }
+
+    // 체형/생일/섭취 칼로리/선호 운동 설문이 커밋되면 유저가 속한 크루 평균도 바뀜
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleRefreshEvent(RecommendationRefreshEvent event) {
+        evictAll(userCrewRepository.findCrewIdsByUserId(event.userId()));
+    }
+}
@@ -0,0 +1,35 @@
+package com.ssafy.health.domain.crew.service;
+
+import com.ssafy.health.common.util.TransactionUtil;
+import com.ssafy.health.domain.crew.entity.Crew;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+// Crew 생성/삭제를 커밋 이후 순위 인덱스에 반영
+// 점수는 벌크 UPDATE로만 바뀌고 엔티티 값은 오래된 값일 수 있으므로 수정 시점에는 반영하지 않음 (addScore/update로 직접 반영)
+@Component
+@RequiredArgsConstructor
+public class CrewRankingListener {
+
+    // EntityManagerFactory 생성 중에 리스너가 만들어지므로 순환 참조를 피하기 위해 지연 조회
+    private final ObjectProvider<CrewRankingService> crewRankingService;
+
+    @PostPersist
+    public void onPersist(Crew crew) {
+        Long crewId = crew.getId();
+        Long exerciseId = crew.getExercise().getId();
+        float totalScore = crew.getBasicScore() + crew.getActivityScore();
+
+        TransactionUtil.afterCommit(() -> crewRankingService.getObject().update(crewId, exerciseId, totalScore));
+    }
+
+    @PostRemove
+    public void onRemove(Crew crew) {
+        Long crewId = crew.getId();
+
+        TransactionUtil.afterCommit(() -> crewRankingService.getObject().remove(crewId));
+    }
+}
@@ -0,0 +1,156 @@
+package com.ssafy.health.domain.crew.service;
+
+import com.ssafy.health.domain.crew.repository.CrewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 전체 / 종목별 크루 순위를 메모리에서 관리 (순위 조회, 페이지 조회 O(log n))
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CrewRankingService {
+
+    private final CrewRepository crewRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final CrewRankingTree globalRanking = new CrewRankingTree();
+    private final Map<Long, CrewRankingTree> exerciseRankings = new HashMap<>();
+    private final Map<Long, CrewRankingTree.Entry> entries = new HashMap<>();
+    private final Map<Long, Long> exerciseIds = new HashMap<>();
+    private volatile boolean ready;
+
+    // 인덱스는 인스턴스마다 따로 있으므로 다른 인스턴스에서 커밋된 점수 변경은 주기적으로 DB 값에 맞춤
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 */10 * * * *")
+    public void rebuild() {
+        List<Long> indexedCrewIds;
+        lock.readLock().lock();
+        try {
+            indexedCrewIds = new ArrayList<>(entries.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+        List<Object[]> rows = crewRepository.findAllCrewIdExerciseIdAndTotalScore();
+
+        lock.writeLock().lock();
+        try {
+            Set<Long> crewIds = new HashSet<>();
+            rows.forEach(row -> {
+                crewIds.add((Long) row[0]);
+                put((Long) row[0], (Long) row[1], ((Number) row[2]).floatValue());
+            });
+            // 조회 전부터 있던 크루 중 조회 결과에 없는 크루만 제거 (조회 도중 생성된 크루는 유지)
+            indexedCrewIds.stream()
+                    .filter(crewId -> !crewIds.contains(crewId))
+                    .forEach(this::removeEntry);
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Crew ranking index built with {} crews", rows.size());
+    }
+
+    public void update(Long crewId, Long exerciseId, float totalScore) {
+        lock.writeLock().lock();
+        try {
+            put(crewId, exerciseId, totalScore);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 벌크 UPDATE로 누적된 점수는 엔티티 리스너를 거치지 않으므로 변화량만 반영 (순서와 무관)
+    public void addScore(List<Long> crewIds, float delta) {
+        lock.writeLock().lock();
+        try {
+            crewIds.forEach(crewId -> {
+                CrewRankingTree.Entry previous = entries.get(crewId);
+                if (previous != null) {
+                    put(crewId, exerciseIds.get(crewId), previous.score() + delta);
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long crewId) {
+        lock.writeLock().lock();
+        try {
+            removeEntry(crewId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 점수가 같거나 높은 크루 수 (기존 COUNT 쿼리와 같은 기준)
+    public Optional<Long> getRanking(Long crewId) {
+        if (!ready) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            CrewRankingTree.Entry entry = entries.get(crewId);
+            return entry == null ? Optional.empty() : Optional.of((long) globalRanking.countAtLeast(entry.score()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Optional<List<Long>> getCrewIdsByExercise(Long exerciseId, int offset, int limit) {
+        if (!ready) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            CrewRankingTree ranking = exerciseRankings.get(exerciseId);
+            return Optional.of(ranking == null ? List.of() : ranking.page(offset, limit));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Optional<List<Long>> getCrewIdsByExercise(Long exerciseId) {
+        return getCrewIdsByExercise(exerciseId, 0, Integer.MAX_VALUE);
+    }
+
+    private void removeEntry(Long crewId) {
+        CrewRankingTree.Entry previous = entries.remove(crewId);
+        if (previous != null) {
+            globalRanking.remove(previous);
+            exerciseRankings.get(exerciseIds.remove(crewId)).remove(previous);
+        }
+    }
+
+    private void put(Long crewId, Long exerciseId, float totalScore) {
+        CrewRankingTree.Entry previous = entries.get(crewId);
+        if (previous != null) {
+            if (previous.score() == totalScore && exerciseId.equals(exerciseIds.get(crewId))) {
+                return;
+            }
+            globalRanking.remove(previous);
+            exerciseRankings.get(exerciseIds.get(crewId)).remove(previous);
+        }
+
+        CrewRankingTree.Entry entry = new CrewRankingTree.Entry(crewId, totalScore);
+        entries.put(crewId, entry);
+        exerciseIds.put(crewId, exerciseId);
+        globalRanking.insert(entry);
+        exerciseRankings.computeIfAbsent(exerciseId, key -> new CrewRankingTree()).insert(entry);
+    }
+}
@@ -0,0 +1,132 @@
+package com.ssafy.health.domain.crew.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 점수 내림차순, crewId 오름차순으로 정렬된 order-statistic treap (스레드 안전하지 않음)
+class CrewRankingTree {
+
+    record Entry(Long crewId, float score) implements Comparable<Entry> {
+
+        @Override
+        public int compareTo(Entry other) {
+            int compared = Float.compare(other.score, score);
+            return compared != 0 ? compared : Long.compare(crewId, other.crewId);
+        }
+    }
+
+    private static class Node {
+        private final Entry entry;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+        private Node left;
+        private Node right;
+        private int size = 1;
+
+        private Node(Entry entry) {
+            this.entry = entry;
+        }
+    }
+
+    private Node root;
+
+    public int size() {
+        return size(root);
+    }
+
+    public void insert(Entry entry) {
+        Node[] parts = split(root, entry, false);
+        root = merge(merge(parts[0], new Node(entry)), parts[1]);
+    }
+
+    public void remove(Entry entry) {
+        Node[] lower = split(root, entry, false);
+        Node[] upper = split(lower[1], entry, true);
+        root = merge(lower[0], upper[1]);
+    }
+
+    // 점수가 score 이상인 엔트리 수 (동점 포함)
+    public int countAtLeast(float score) {
+        int count = 0;
+        Node node = root;
+        while (node != null) {
+            if (node.entry.score() >= score) {
+                count += size(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return count;
+    }
+
+    // 순위 기준 offset번째부터 limit개의 crewId
+    public List<Long> page(int offset, int limit) {
+        List<Long> result = new ArrayList<>(Math.max(0, Math.min(limit, size() - offset)));
+        collect(root, offset, limit, result);
+        return result;
+    }
+
+    private void collect(Node node, int offset, int limit, List<Long> result) {
+        if (node == null || result.size() >= limit) {
+            return;
+        }
+
+        int leftSize = size(node.left);
+        if (offset < leftSize) {
+            collect(node.left, offset, limit, result);
+        }
+        if (offset <= leftSize && result.size() < limit) {
+            result.add(node.entry.crewId());
+        }
+        if (result.size() < limit) {
+            collect(node.right, Math.max(0, offset - leftSize - 1), limit, result);
+        }
+    }
+
+    // inclusive가 false면 [< entry, >= entry], true면 [<= entry, > entry]로 분리
+    private Node[] split(Node node, Entry entry, boolean inclusive) {
+        if (node == null) {
+            return new Node[]{null, null};
+        }
+
+        int compared = node.entry.compareTo(entry);
+        if (compared < 0 || (inclusive && compared == 0)) {
+            Node[] parts = split(node.right, entry, inclusive);
+            node.right = parts[0];
+            update(node);
+            return new Node[]{node, parts[1]};
+        }
+
+        Node[] parts = split(node.left, entry, inclusive);
+        node.left = parts[1];
+        update(node);
+        return new Node[]{parts[0], node};
+    }
+
+    private Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+
+    private static void update(Node node) {
+        node.size = size(node.left) + size(node.right) + 1;
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+}
@@ -4,29 +4,21 @@ import com.ssafy.health.common.security.SecurityUtil;
 import com.ssafy.health.domain.account.dto.response.UserExerciseTimeDto;
 import com.ssafy.health.domain.account.entity.User;
 import com.ssafy.health.domain.account.entity.UserCrew;
-import com.ssafy.health.domain.account.exception.UserNotFoundException;
 import com.ssafy.health.domain.account.repository.UserCrewRepository;
 import com.ssafy.health.domain.account.repository.UserRepository;
-import com.ssafy.health.domain.battle.dto.response.BattleStatsDto;
-import com.ssafy.health.domain.battle.repository.BattleRepository;
-import com.ssafy.health.domain.body.BodyHistory.entity.BodyHistory;
-import com.ssafy.health.domain.body.BodyHistory.repository.BodyHistoryRepository;
-import com.ssafy.health.domain.body.BodyPredict.service.BodyPredictWriteService;
-import com.ssafy.health.domain.body.BodyType.service.BodyTypeReadService;
 import com.ssafy.health.domain.character.entity.Character;
 import com.ssafy.health.domain.character.respository.CharacterSetRepository;
-import com.ssafy.health.domain.crew.dto.analysis.CrewData;
-import com.ssafy.health.domain.crew.dto.analysis.MaxScoresDto;
 import com.ssafy.health.domain.crew.dto.analysis.ScoreData;
 import com.ssafy.health.domain.crew.dto.response.*;
 import com.ssafy.health.domain.crew.dto.response.CrewListResponseDto.CrewInfo;
 import com.ssafy.health.domain.crew.entity.Crew;
 import com.ssafy.health.domain.crew.entity.CrewRole;
+import com.ssafy.health.domain.crew.entity.CrewStats;
 import com.ssafy.health.domain.crew.exception.CrewNotFoundException;
 import com.ssafy.health.domain.crew.repository.CrewRepository;
 import com.ssafy.health.domain.exercise.entity.Exercise;
 import com.ssafy.health.domain.exercise.exception.ExerciseNotFoundException;
-import com.ssafy.health.domain.exercise.repository.ExerciseHistoryRepository;
+import com.ssafy.health.domain.exercise.repository.ExerciseDailyRollupRepository;
 import com.ssafy.health.domain.exercise.repository.ExerciseRepository;
 import com.ssafy.health.domain.recommendation.dto.response.RecommendedCrewResponseDto;
 import com.ssafy.health.domain.recommendation.dto.response.ScoreDataDto;
@@ -35,8 +27,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.DayOfWeek;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
+import java.time.LocalDate;
 import java.time.temporal.TemporalAdjusters;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -49,14 +40,13 @@ public class CrewReadService {
     private final CrewValidator crewValidator;
     private final UserRepository userRepository;
     private final CrewRepository crewRepository;
-    private final BattleRepository battleRepository;
+    private final CrewRankingService crewRankingService;
+    private final CrewStatsService crewStatsService;
     private final ExerciseRepository exerciseRepository;
     private final UserCrewRepository userCrewRepository;
     private final CharacterSetRepository characterSetRepository;
-    private final ExerciseHistoryRepository exerciseHistoryRepository;
-    private final BodyHistoryRepository bodyHistoryRepository;
-    private final BodyPredictWriteService bodyPredictWriteService;
-    private final BodyTypeReadService bodyTypeReadService;
+    private final ExerciseDailyRollupRepository exerciseDailyRollupRepository;
+    private final CrewProfileCache crewProfileCache;
 
     public CrewListResponseDto getJoinedCrewList(Long userId) {
         List<UserCrew> userCrewList = userCrewRepository.findByUserIdWithCrew(userId);
@@ -72,17 +62,12 @@ public class CrewReadService {
 
     public CrewDetailResponseDto getCrewDetail(Long crewId) {
         Crew crew = crewRepository.findCrewWithExerciseById(crewId).orElseThrow(CrewNotFoundException::new);
-        Long crewRanking = getCrewRanking(crew.getActivityScore() + crew.getBasicScore());
+        Long crewRanking = getCrewRanking(crewId, crew.getActivityScore() + crew.getBasicScore());
 
-        Optional<BattleStatsDto> battleStats = battleRepository.countTotalAndWonBattles(crewId);
-
-        Long totalBattlesCount = 0L;
-        Long winCount = 0L;
-
-        if (battleStats.isPresent()) {
-            totalBattlesCount = battleStats.get().totalBattles();
-            winCount = battleStats.get().wonBattles();
-        }
+        Optional<CrewStats> crewStats = crewStatsService.getCrewStats(crewId);
+        Long totalBattlesCount = crewStats.map(stats -> stats.getTotalBattles().longValue()).orElse(0L);
+        Long winCount = crewStats.map(stats -> stats.getWins().longValue()).orElse(0L);
+        Integer winStreak = crewStats.map(CrewStats::getCurrentStreak).orElse(0);
 
         CrewRole crewRole = getCrewRole(crewId);
 
@@ -99,14 +84,15 @@ public class CrewReadService {
                 .crewRanking(crewRanking)
                 .totalBattlesCount(totalBattlesCount)
                 .winCount(winCount)
+                .winStreak(winStreak)
                 .role(crewRole)
                 .build();
     }
 
     public RecommendedCrewResponseDto getRecommendCrewDetail(Long crewId) {
         Crew crew = crewRepository.findCrewWithExerciseById(crewId).orElseThrow(CrewNotFoundException::new);
-        Long crewRanking = getCrewRanking(crew.getActivityScore() + crew.getBasicScore());
-        CrewData crewData = buildCrewData(crew);
+        Long crewRanking = getCrewRanking(crewId, crew.getActivityScore() + crew.getBasicScore());
+        ScoreData crewScore = crewProfileCache.getProfile(crew);
 
         return RecommendedCrewResponseDto.builder()
                 .crewId(crewId)
@@ -116,79 +102,11 @@ public class CrewReadService {
                 .crewProfileImage(crew.getProfileImage())
                 .crewCoins(crew.getCrewCoin())
                 .crewRanking(crewRanking)
-                .averageAge(crewData.getScore().getAge())
-                .averageBodyType(
-                        (crewData.getScore().getMType() + crewData.getScore().getType()) / 2)
-                .activityScore(crewData.getScore().getActivityScore())
-                .basicScore(crewData.getScore().getBasicScore())
-                .intakeScore(crewData.getScore().getIntakeScore())
-                .build();
-    }
-
-    private CrewData buildCrewData(Crew crew) {
-
-        List<User> userList = userRepository.findUserByCrewId(crew.getId());
-        List<ScoreData> userScoreList = userList.stream()
-                .map(user -> calculateUserScore(user.getId()))
-                .toList();
-
-        Long crewId = crew.getId();
-        Exercise crewSports = crew.getExercise();
-        ScoreData score = calculateCrewScore(userScoreList);
-
-        return CrewData.builder()
-                .crewId(crewId)
-                .crewSports(crewSports.getId())
-                .score(score)
-                .build();
-    }
-
-    private ScoreData calculateUserScore(Long userId) {
-        User user = userRepository.findById(userId).orElseThrow(UserNotFoundException::new);
-        BodyHistory bodyHistory = bodyHistoryRepository.findFirstByUserIdOrderByCreatedAtDesc(userId)
-                .orElse(null);
-        int age = bodyPredictWriteService.calculateAge(user.getBirthday());
-        float bodyType = bodyTypeReadService.bodyTypeCoverter(bodyHistory.getBodyType());
-
-        MaxScoresDto scoresDto = userCrewRepository.findMaxScoresByUserId(userId);
-
-        return ScoreData.builder()
-                .mType(bodyType > 6 ? bodyType : 0)
-                .type(bodyType > 6 ? 0 : bodyType)
-                .age(age)
-                .basicScore(scoresDto.getBasicScore())
-                .activityScore(scoresDto.getActivityScore())
-                .intakeScore((float) user.getDailyCaloricIntake())
-                .build();
-    }
-
-    private ScoreData calculateCrewScore(List<ScoreData> scoreDataList) {
-
-        int userCount = scoreDataList.size();
-
-        float totalMType = 0;
-        float totalType = 0;
-        int totalAge = 0;
-        float totalBasicScore = 0;
-        float totalActivityScore = 0;
-        float totalIntakeScore = 0;
-
-        for (ScoreData scoreData : scoreDataList) {
-            totalMType += scoreData.getMType();
-            totalType += scoreData.getType();
-            totalAge += scoreData.getAge();
-            totalBasicScore += scoreData.getBasicScore();
-            totalActivityScore += scoreData.getActivityScore();
-            totalIntakeScore += scoreData.getIntakeScore();
-        }
-
-        return ScoreData.builder()
-                .mType(totalMType / userCount)
-                .type(totalType / userCount)
-                .age(Math.round((float) totalAge / userCount))
-                .basicScore(totalBasicScore / userCount)
-                .activityScore(totalActivityScore / userCount)
-                .intakeScore(totalIntakeScore / userCount)
+                .averageAge(crewScore.getAge())
+                .averageBodyType((crewScore.getMType() + crewScore.getType()) / 2)
+                .activityScore(crewScore.getActivityScore())
+                .basicScore(crewScore.getBasicScore())
+                .intakeScore(crewScore.getIntakeScore())
                 .build();
     }
 
@@ -247,7 +165,9 @@ public class CrewReadService {
 
     public CrewListResponseDto getCrewRankingByExercise(Long exerciseId) {
         Exercise exercise = exerciseRepository.findById(exerciseId).orElseThrow(ExerciseNotFoundException::new);
-        List<Crew> crewList = crewRepository.findByExerciseIdOrderByTotalScoreDesc(exerciseId);
+        List<Crew> crewList = crewRankingService.getCrewIdsByExercise(exerciseId)
+                .map(this::findCrewsInOrder)
+                .orElseGet(() -> crewRepository.findByExerciseIdOrderByTotalScoreDesc(exerciseId));
 
         if (crewList.isEmpty()) {
             return CrewListResponseDto.builder().crewList(Collections.emptyList()).build();
@@ -309,10 +229,9 @@ public class CrewReadService {
     private List<UserExerciseTimeDto> getUserExerciseTimeList(Map<Long, User> userMap) {
         List<Long> userIdList = new ArrayList<>(userMap.keySet());
 
-        LocalDateTime startTime = getStartOfWeek();
-        LocalDateTime endTime = LocalDateTime.now();
+        LocalDate today = LocalDate.now();
 
-        return exerciseHistoryRepository.findUserExerciseTimes(userIdList, startTime, endTime);
+        return exerciseDailyRollupRepository.findUserExerciseTimes(userIdList, getStartOfWeek(), today);
     }
 
     private Map<Long, Character> getMembersCharacter(List<Long> crewMemberIdList) {
@@ -324,19 +243,13 @@ public class CrewReadService {
                 ));
     }
 
-    private LocalDateTime getStartOfWeek() {
-        LocalDateTime now = LocalDateTime.now();
-
-        return now.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
-                .with(LocalTime.MIN);
+    private LocalDate getStartOfWeek() {
+        return LocalDate.now().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
     }
 
     private Map<Long, Long> getMembersThisWeekExerciseTime(List<Long> userIdList) {
-        LocalDateTime startTime = getStartOfWeek();
-        LocalDateTime endTime = LocalDateTime.now();
-
-        List<Object[]> results = exerciseHistoryRepository.findUserExerciseDurationSumByUserIdInAndCreatedAtBetween(
-                userIdList, startTime, endTime);
+        List<Object[]> results = exerciseDailyRollupRepository.sumDurationByUserIdInAndExerciseDateBetween(
+                userIdList, getStartOfWeek(), LocalDate.now());
 
         return results.stream()
                 .collect(Collectors.toMap(
@@ -346,11 +259,10 @@ public class CrewReadService {
     }
 
     private Map<Long, Long> getMembersTodayExerciseTime(List<Long> userIdList) {
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime startTime = now.toLocalDate().atStartOfDay();
+        LocalDate today = LocalDate.now();
 
-        List<Object[]> results = exerciseHistoryRepository.findUserExerciseDurationSumByUserIdInAndCreatedAtBetween(
-                userIdList, startTime, now);
+        List<Object[]> results = exerciseDailyRollupRepository.sumDurationByUserIdInAndExerciseDateBetween(
+                userIdList, today, today);
 
         return results.stream()
                 .collect(Collectors.toMap(
@@ -359,8 +271,19 @@ public class CrewReadService {
                 ));
     }
 
-    private Long getCrewRanking(Float crewScore) {
-        return crewRepository.countCrewsWithHigherOrEqualScore(crewScore);
+    private Long getCrewRanking(Long crewId, Float crewScore) {
+        return crewRankingService.getRanking(crewId)
+                .orElseGet(() -> crewRepository.countCrewsWithHigherOrEqualScore(crewScore));
+    }
+
+    private List<Crew> findCrewsInOrder(List<Long> crewIds) {
+        Map<Long, Crew> crewMap = crewRepository.findAllById(crewIds).stream()
+                .collect(Collectors.toMap(Crew::getId, crew -> crew));
+
+        return crewIds.stream()
+                .map(crewMap::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     private CrewRole getCrewRole(Long crewId) {
@@ -0,0 +1,208 @@
+package com.ssafy.health.domain.crew.service;
+
+import com.ssafy.health.domain.account.entity.User;
+import com.ssafy.health.domain.account.repository.FavoredRepository;
+import com.ssafy.health.domain.account.repository.UserCrewRepository;
+import com.ssafy.health.domain.account.repository.UserRepository;
+import com.ssafy.health.domain.body.BodyHistory.repository.BodyHistoryRepository;
+import com.ssafy.health.domain.body.BodyPredict.service.BodyPredictWriteService;
+import com.ssafy.health.domain.body.BodyType.service.BodyTypeReadService;
+import com.ssafy.health.domain.crew.dto.analysis.CrewData;
+import com.ssafy.health.domain.crew.dto.analysis.MaxScoresDto;
+import com.ssafy.health.domain.crew.dto.analysis.ScoreData;
+import com.ssafy.health.domain.crew.dto.analysis.ScoreSnapshot;
+import com.ssafy.health.domain.crew.entity.Crew;
+import com.ssafy.health.domain.crew.repository.CrewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CrewScoreSnapshotService {
+
+    private final UserRepository userRepository;
+    private final CrewRepository crewRepository;
+    private final UserCrewRepository userCrewRepository;
+    private final FavoredRepository favoredRepository;
+    private final BodyHistoryRepository bodyHistoryRepository;
+    private final BodyTypeReadService bodyTypeReadService;
+    private final BodyPredictWriteService bodyPredictWriteService;
+
+    // 유저 수와 무관하게 고정된 개수의 쿼리로 전체 유저/크루의 ScoreData를 계산
+    public ScoreSnapshot takeSnapshot() {
+        Map<Long, List<Long>> crewIdsByUser = groupIdPairs(userCrewRepository.findAllUserIdAndCrewId());
+
+        ScoreSnapshot snapshot = assembleSnapshot(
+                userRepository.findAll(),
+                toIdMap(bodyHistoryRepository.findLatestBodyTypeIdOfAllUsers()),
+                toMaxScoresMap(userCrewRepository.findMaxScoresGroupByUserId()),
+                crewIdsByUser,
+                groupIdPairs(favoredRepository.findAllUserIdAndExerciseId()));
+        Map<Long, List<ScoreData>> memberScoresByCrew = groupMemberScores(snapshot.getUserScores(), crewIdsByUser);
+
+        List<CrewData> crews = crewRepository.findAllCrewIdAndExerciseId().stream()
+                .map(row -> CrewData.builder()
+                        .crewId((Long) row[0])
+                        .crewSports((Long) row[1])
+                        .score(calculateCrewScore(memberScoresByCrew.getOrDefault((Long) row[0], List.of())))
+                        .build())
+                .toList();
+        log.info("Score snapshot built for {} users and {} crews", snapshot.getUserScores().size(), crews.size());
+
+        return snapshot.withCrews(crews);
+    }
+
+    // 주어진 유저들만 대상으로 한 스냅샷 (크루 데이터 제외)
+    public ScoreSnapshot takeSnapshot(List<User> userList) {
+        if (userList.isEmpty()) {
+            return assembleSnapshot(userList, Map.of(), Map.of(), Map.of(), Map.of());
+        }
+        List<Long> userIds = userList.stream().map(User::getId).toList();
+
+        return assembleSnapshot(
+                userList,
+                toIdMap(bodyHistoryRepository.findLatestBodyTypeIdByUserIdIn(userIds)),
+                toMaxScoresMap(userCrewRepository.findMaxScoresGroupByUserIdIn(userIds)),
+                groupIdPairs(userCrewRepository.findUserIdAndCrewIdByUserIdIn(userIds)),
+                groupIdPairs(favoredRepository.findUserIdAndExerciseIdByUserIdIn(userIds)));
+    }
+
+    // 주어진 크루들의 멤버만 조회하여 크루 평균 ScoreData 계산
+    public List<CrewData> buildCrewData(List<Crew> crewList) {
+        if (crewList.isEmpty()) {
+            return List.of();
+        }
+        List<Long> crewIds = crewList.stream().map(Crew::getId).toList();
+        Map<Long, List<Long>> crewIdsByUser = groupIdPairs(userCrewRepository.findUserIdAndCrewIdByCrewIdIn(crewIds));
+
+        ScoreSnapshot members = takeSnapshot(userRepository.findAllById(crewIdsByUser.keySet()));
+        Map<Long, List<ScoreData>> memberScoresByCrew = groupMemberScores(members.getUserScores(), crewIdsByUser);
+
+        return crewList.stream()
+                .map(crew -> CrewData.builder()
+                        .crewId(crew.getId())
+                        .crewSports(crew.getExercise().getId())
+                        .score(calculateCrewScore(memberScoresByCrew.getOrDefault(crew.getId(), List.of())))
+                        .build())
+                .toList();
+    }
+
+    private ScoreSnapshot assembleSnapshot(List<User> userList, Map<Long, Long> bodyTypeIdByUser,
+                                           Map<Long, MaxScoresDto> maxScoresByUser,
+                                           Map<Long, List<Long>> crewIdsByUser,
+                                           Map<Long, List<Long>> favoredExerciseIdsByUser) {
+        Map<Long, ScoreData> userScores = new HashMap<>();
+        List<Long> surveyedUserIds = new ArrayList<>();
+
+        for (User user : userList) {
+            Long bodyTypeId = bodyTypeIdByUser.get(user.getId());
+            if (bodyTypeId == null || user.getBirthday() == null) {
+                continue;
+            }
+
+            userScores.put(user.getId(), buildUserScore(user, bodyTypeId, maxScoresByUser.get(user.getId())));
+            if (user.getSurveyCompleted()) {
+                surveyedUserIds.add(user.getId());
+            }
+        }
+
+        return ScoreSnapshot.builder()
+                .userScores(userScores)
+                .crewIdsByUser(crewIdsByUser)
+                .favoredExerciseIdsByUser(favoredExerciseIdsByUser)
+                .surveyedUserIds(surveyedUserIds)
+                .crews(List.of())
+                .build();
+    }
+
+    private Map<Long, List<ScoreData>> groupMemberScores(Map<Long, ScoreData> userScores,
+                                                         Map<Long, List<Long>> crewIdsByUser) {
+        Map<Long, List<ScoreData>> memberScoresByCrew = new HashMap<>();
+        crewIdsByUser.forEach((userId, crewIds) -> {
+            ScoreData userScore = userScores.get(userId);
+            if (userScore != null) {
+                crewIds.forEach(crewId -> memberScoresByCrew
+                        .computeIfAbsent(crewId, key -> new ArrayList<>())
+                        .add(userScore));
+            }
+        });
+        return memberScoresByCrew;
+    }
+
+    private ScoreData buildUserScore(User user, Long bodyTypeId, MaxScoresDto scoresDto) {
+        int age = bodyPredictWriteService.calculateAge(user.getBirthday());
+        float bodyType = bodyTypeReadService.bodyTypeCoverter(bodyTypeId);
+
+        return ScoreData.builder()
+                .mType(bodyType > 6 ? bodyType : 0)
+                .type(bodyType > 6 ? 0 : bodyType)
+                .age(age)
+                .basicScore(scoresDto != null && scoresDto.getBasicScore() != null ? scoresDto.getBasicScore() : 0F)
+                .activityScore(scoresDto != null && scoresDto.getActivityScore() != null ? scoresDto.getActivityScore() : 0F)
+                .intakeScore(user.getDailyCaloricIntake() != null ? (float) user.getDailyCaloricIntake() : 0F)
+                .build();
+    }
+
+    // 점수를 계산할 수 있는 멤버가 없는 크루(체형 기록/생일 없는 멤버만 있는 경우 포함)는 모든 지표 0
+    public static ScoreData calculateCrewScore(List<ScoreData> scoreDataList) {
+
+        int userCount = scoreDataList.size();
+        if (userCount == 0) {
+            return ScoreData.builder().build();
+        }
+
+        float totalMType = 0;
+        float totalType = 0;
+        int totalAge = 0;
+        float totalBasicScore = 0;
+        float totalActivityScore = 0;
+        float totalIntakeScore = 0;
+
+        for (ScoreData scoreData : scoreDataList) {
+            totalMType += scoreData.getMType();
+            totalType += scoreData.getType();
+            totalAge += scoreData.getAge();
+            totalBasicScore += scoreData.getBasicScore();
+            totalActivityScore += scoreData.getActivityScore();
+            totalIntakeScore += scoreData.getIntakeScore();
+        }
+
+        return ScoreData.builder()
+                .mType(totalMType / userCount)
+                .type(totalType / userCount)
+                .age(Math.round((float) totalAge / userCount))
+                .basicScore(totalBasicScore / userCount)
+                .activityScore(totalActivityScore / userCount)
+                .intakeScore(totalIntakeScore / userCount)
+                .build();
+    }
+
+    private static Map<Long, Long> toIdMap(List<Object[]> rows) {
+        Map<Long, Long> result = new HashMap<>();
+        rows.forEach(row -> result.put((Long) row[0], (Long) row[1]));
+        return result;
+    }
+
+    private static Map<Long, List<Long>> groupIdPairs(List<Object[]> rows) {
+        Map<Long, List<Long>> result = new HashMap<>();
+        rows.forEach(row -> result.computeIfAbsent((Long) row[0], key -> new ArrayList<>()).add((Long) row[1]));
+        return result;
+    }
+
+    private static Map<Long, MaxScoresDto> toMaxScoresMap(List<Object[]> rows) {
+        Map<Long, MaxScoresDto> result = new HashMap<>();
+        rows.forEach(row -> result.put((Long) row[0], new MaxScoresDto(
+                row[1] != null ? ((Number) row[1]).floatValue() : null,
+                row[2] != null ? ((Number) row[2]).floatValue() : null)));
+        return result;
+    }
+}
@@ -0,0 +1,121 @@
+package com.ssafy.health.domain.crew.service;
+
+import com.ssafy.health.domain.battle.entity.Battle;
+import com.ssafy.health.domain.battle.entity.BattleStatus;
+import com.ssafy.health.domain.battle.repository.BattleRepository;
+import com.ssafy.health.domain.crew.entity.CrewStats;
+import com.ssafy.health.domain.crew.repository.CrewStatsRepository;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CrewStatsService {
+
+    private static final int VERIFY_CHUNK_SIZE = 1000;
+
+    private final BattleRepository battleRepository;
+    private final CrewStatsRepository crewStatsRepository;
+
+    public Optional<CrewStats> getCrewStats(Long crewId) {
+        return crewStatsRepository.findById(crewId);
+    }
+
+    // 배틀 정산 트랜잭션 안에서 호출되어 FINISHED 처리와 함께 커밋됨 (재시작해도 중복 반영 없음)
+    @Transactional
+    public void recordResults(List<Battle> battles) {
+        battles.forEach(battle -> {
+            crewStatsRepository.accumulate(battle.getHomeCrew().getId(),
+                    battle.getHomeCrewScore() > battle.getAwayCrewScore() ? 1 : 0);
+            crewStatsRepository.accumulate(battle.getAwayCrew().getId(),
+                    battle.getAwayCrewScore() > battle.getHomeCrewScore() ? 1 : 0);
+        });
+    }
+
+    // 처음 배포되어 전적이 비어 있으면 기존 배틀로 채움 (BattleSettlementService가 시작 시 정산할 배틀이 없을 때 호출)
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public void backfillIfEmpty(LocalDateTime cutoff) {
+        if (crewStatsRepository.count() == 0 && battleRepository.existsByStatus(BattleStatus.FINISHED)) {
+            verify(cutoff);
+        }
+    }
+
+    // 주간 정산이 끝난 뒤 Battle에서 전적을 다시 계산해 누적값과 비교하고 다르면 보정 (BattleSettlementService가 정산 직후 호출)
+    // 배틀과 전적을 같은 스냅샷(REPEATABLE READ)에서 읽고, cutoff 이전 STARTED 배틀이 남아 있으면
+    // 다른 인스턴스가 아직 정산 중이므로 커밋될 청크를 오래된 값으로 덮어쓰지 않도록 건너뜀
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public void verify(LocalDateTime cutoff) {
+        if (battleRepository.existsByStatusAndCreatedAtBefore(BattleStatus.STARTED, cutoff)) {
+            log.info("Crew stats verification skipped: battles started before {} are still being settled", cutoff);
+            return;
+        }
+
+        Map<Long, int[]> expected = new HashMap<>();
+        Long lastId = 0L;
+        List<Object[]> rows;
+        do {
+            rows = battleRepository.findResultsByStatusAndIdGreaterThan(
+                    BattleStatus.FINISHED, lastId, Limit.of(VERIFY_CHUNK_SIZE));
+            for (Object[] row : rows) {
+                float homeScore = (Float) row[2];
+                float awayScore = (Float) row[4];
+                apply(expected.computeIfAbsent((Long) row[1], key -> new int[3]), homeScore > awayScore);
+                apply(expected.computeIfAbsent((Long) row[3], key -> new int[3]), awayScore > homeScore);
+                lastId = (Long) row[0];
+            }
+        } while (rows.size() == VERIFY_CHUNK_SIZE);
+
+        Map<Long, CrewStats> actual = new HashMap<>();
+        crewStatsRepository.findAll().forEach(stats -> actual.put(stats.getCrewId(), stats));
+
+        int mismatches = 0;
+        for (Map.Entry<Long, int[]> entry : expected.entrySet()) {
+            int[] stats = entry.getValue();
+            if (!matches(actual.get(entry.getKey()), stats)) {
+                crewStatsRepository.overwrite(entry.getKey(), stats[0], stats[1], stats[2]);
+                mismatches++;
+            }
+        }
+        // 끝난 배틀이 없는 크루의 전적 행 제거
+        List<Long> orphanCrewIds = actual.keySet().stream()
+                .filter(crewId -> !expected.containsKey(crewId))
+                .toList();
+        if (!orphanCrewIds.isEmpty()) {
+            crewStatsRepository.deleteAllByIdInBatch(orphanCrewIds);
+            mismatches += orphanCrewIds.size();
+        }
+        if (mismatches > 0) {
+            log.warn("Crew stats corrected for {} of {} crews", mismatches, expected.size());
+        } else {
+            log.info("Crew stats verified for {} crews", expected.size());
+        }
+    }
+
+    // stats: [전체 배틀 수, 승리 수, 현재 연승]
+    private static void apply(int[] stats, boolean won) {
+        stats[0]++;
+        if (won) {
+            stats[1]++;
+            stats[2]++;
+        } else {
+            stats[2] = 0;
+        }
+    }
+
+    private static boolean matches(CrewStats crewStats, int[] stats) {
+        return crewStats != null
+                && crewStats.getTotalBattles() == stats[0]
+                && crewStats.getWins() == stats[1]
+                && crewStats.getCurrentStreak() == stats[2];
+    }
+}
@@ -2,11 +2,13 @@ package com.ssafy.health.domain.crew.service;
 
 import com.ssafy.health.common.s3.service.S3Service;
 import com.ssafy.health.common.security.SecurityUtil;
+import com.ssafy.health.common.util.TransactionUtil;
 import com.ssafy.health.domain.account.entity.User;
 import com.ssafy.health.domain.account.entity.UserCrew;
 import com.ssafy.health.domain.account.exception.UserNotFoundException;
 import com.ssafy.health.domain.account.repository.UserCrewRepository;
 import com.ssafy.health.domain.account.repository.UserRepository;
+import com.ssafy.health.domain.battle.service.BattleMatchmakingService;
 import com.ssafy.health.domain.coin.service.CoinService;
 import com.ssafy.health.domain.coin.service.CoinValidator;
 import com.ssafy.health.domain.crew.dto.request.CreateCrewRequestDto;
@@ -43,6 +45,8 @@ public class CrewWriteService {
     private final ExerciseRepository exerciseRepository;
     private final UserCrewRepository userCrewRepository;
     private final CrewValidator crewValidator;
+    private final BattleMatchmakingService battleMatchmakingService;
+    private final CrewProfileCache crewProfileCache;
 
     public CreateCrewSuccessDto createCrew(CreateCrewRequestDto requestDto, MultipartFile profileImage) throws IOException {
         Exercise exercise = exerciseRepository.findById(requestDto.getExerciseId()).orElseThrow(ExerciseNotFoundException::new);
@@ -68,6 +72,7 @@ public class CrewWriteService {
 
         crew.updateAverageAge(calculateAge(user.getBirthday()));
         crew.increaseMemberCount();
+        TransactionUtil.afterCommit(() -> crewProfileCache.evict(crewId));
 
         return new JoinCrewSuccessDto();
     }
@@ -93,11 +98,13 @@ public class CrewWriteService {
 
         if(crewValidator.isBattleReady(crew)){
             crew.deActiveBattleStatus();
+            battleMatchmakingService.leave(crewId);
             return new BattleUnReadySuccessDto();
         }
 
         coinValidator.validateSufficientCoins(crew.getCrewCoin(), START_BATTLE.getAmount());
         crew.activeBattleStatus();
+        battleMatchmakingService.enter(crewId);
         return new BattleReadySuccessDto();
     }
 
@@ -0,0 +1,33 @@
+package com.ssafy.health.domain.exercise.entity;
+
+import com.ssafy.health.domain.account.entity.User;
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_user_exercise_date", columnNames = {"user_id", "exerciseDate"})
+})
+public class ExerciseDailyRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    private LocalDate exerciseDate;
+
+    private Long totalDuration;
+
+    private Float totalBurnedCalories;
+
+    private Integer exerciseCount;
+}
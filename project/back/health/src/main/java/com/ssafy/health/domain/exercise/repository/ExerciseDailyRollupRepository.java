@@ -0,0 +1,61 @@
+package com.ssafy.health.domain.exercise.repository;
+
+import com.ssafy.health.domain.account.dto.response.UserExerciseTimeDto;
+import com.ssafy.health.domain.exercise.entity.ExerciseDailyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ExerciseDailyRollupRepository extends JpaRepository<ExerciseDailyRollup, Long> {
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO ExerciseDailyRollup (user_id, exerciseDate, totalDuration, totalBurnedCalories, exerciseCount)
+            VALUES (:userId, :exerciseDate, :duration, :burnedCalories, 1)
+            ON DUPLICATE KEY UPDATE
+                totalDuration = totalDuration + VALUES(totalDuration),
+                totalBurnedCalories = totalBurnedCalories + VALUES(totalBurnedCalories),
+                exerciseCount = exerciseCount + 1
+            """, nativeQuery = true)
+    void accumulate(Long userId, LocalDate exerciseDate, Long duration, Float burnedCalories);
+
+    // 유저 ID 구간 하나를 별도 트랜잭션으로 재계산 (유저-날짜 그룹이 구간 사이에 나뉘지 않음)
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO ExerciseDailyRollup (user_id, exerciseDate, totalDuration, totalBurnedCalories, exerciseCount)
+            SELECT eh.user_id, DATE(eh.exerciseStartTime), SUM(eh.exerciseDuration), SUM(eh.burnedCalories), COUNT(*)
+            FROM ExerciseHistory eh
+            WHERE eh.user_id BETWEEN :fromUserId AND :toUserId
+            GROUP BY eh.user_id, DATE(eh.exerciseStartTime)
+            ON DUPLICATE KEY UPDATE
+                totalDuration = VALUES(totalDuration),
+                totalBurnedCalories = VALUES(totalBurnedCalories),
+                exerciseCount = VALUES(exerciseCount)
+            """, nativeQuery = true)
+    int rebuildByUserIdBetween(Long fromUserId, Long toUserId);
+
+    @Query("SELECT COALESCE(SUM(r.totalDuration), 0) FROM ExerciseDailyRollup r WHERE r.user.id = :userId")
+    Long sumDurationByUserId(Long userId);
+
+    @Query("SELECT COALESCE(SUM(r.totalDuration), 0) FROM ExerciseDailyRollup r " +
+            "WHERE r.user.id = :userId AND r.exerciseDate BETWEEN :startDate AND :endDate")
+    Long sumDurationByUserIdAndExerciseDateBetween(Long userId, LocalDate startDate, LocalDate endDate);
+
+    @Query("SELECT r.user.id, SUM(r.totalDuration) FROM ExerciseDailyRollup r " +
+            "WHERE r.user.id IN :userIdList AND r.exerciseDate BETWEEN :startDate AND :endDate " +
+            "GROUP BY r.user.id")
+    List<Object[]> sumDurationByUserIdInAndExerciseDateBetween(List<Long> userIdList, LocalDate startDate,
+                                                              LocalDate endDate);
+
+    @Query("SELECT new com.ssafy.health.domain.account.dto.response.UserExerciseTimeDto(r.user.id, SUM(r.totalDuration)) " +
+            "FROM ExerciseDailyRollup r " +
+            "WHERE r.user.id IN :userIdList AND r.exerciseDate BETWEEN :startDate AND :endDate " +
+            "GROUP BY r.user.id " +
+            "ORDER BY SUM(r.totalDuration) DESC")
+    List<UserExerciseTimeDto> findUserExerciseTimes(List<Long> userIdList, LocalDate startDate, LocalDate endDate);
+}
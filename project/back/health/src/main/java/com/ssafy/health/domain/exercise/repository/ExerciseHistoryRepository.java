@@ -1,6 +1,5 @@
 package com.ssafy.health.domain.exercise.repository;
 
-import com.ssafy.health.domain.account.dto.response.UserExerciseTimeDto;
 import com.ssafy.health.domain.crew.dto.response.CrewMemberInfo;
 import com.ssafy.health.domain.exercise.entity.ExerciseHistory;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -13,29 +12,26 @@ import java.util.List;
 public interface ExerciseHistoryRepository extends JpaRepository<ExerciseHistory, Long> {
     List<ExerciseHistory> findByUserId(Long userId);
 
+    @Query("SELECT MAX(eh.user.id) FROM ExerciseHistory eh")
+    Long findMaxUserId();
+
     List<ExerciseHistory> findByUserIdAndExerciseStartTimeBetween(Long userId, LocalDateTime startTime,
                                                                   LocalDateTime endTime);
 
-    @Query("SELECT exerciseHistory.user.id, SUM(exerciseHistory.exerciseDuration) " +
-            "FROM ExerciseHistory exerciseHistory " +
-            "WHERE exerciseHistory.user.id IN :userIdList " +
-            "AND exerciseHistory.exerciseStartTime BETWEEN :startTime AND :endTime " +
-            "GROUP BY exerciseHistory.user.id " +
-            "ORDER BY exerciseHistory.user.nickname ASC")
-    List<Object[]> findUserExerciseDurationSumByUserIdInAndCreatedAtBetween(List<Long> userIdList, LocalDateTime startTime, LocalDateTime endTime);
-
-    @Query("SELECT new com.ssafy.health.domain.account.dto.response.UserExerciseTimeDto(exerciseHistory.user.id, SUM (exerciseHistory.exerciseDuration))" +
-            "FROM ExerciseHistory exerciseHistory " +
-            "WHERE exerciseHistory.user.id IN :userIdList AND exerciseHistory.exerciseStartTime BETWEEN :startTime AND :endTime " +
-            "GROUP BY exerciseHistory.user.id " +
-            "ORDER BY SUM(exerciseHistory.exerciseDuration) DESC ")
-    List<UserExerciseTimeDto> findUserExerciseTimes(
-            List<Long> userIdList,
-            LocalDateTime startTime,
-            LocalDateTime endTime);
-
     List<ExerciseHistory> findByUserIdAndCreatedAtBetween(Long userId, LocalDateTime startDateTime, LocalDateTime endDateTime);
 
+    // 크루 일일 진행도 복구용: (crew_id, user_id, 운동 기록 id, 운동 시간), 기록 id로 복구 중 들어온 이벤트와 중복 제거
+    @Query("SELECT uc.crew.id, eh.user.id, eh.id, eh.exerciseDuration FROM ExerciseHistory eh " +
+            "JOIN UserCrew uc ON uc.user = eh.user " +
+            "WHERE eh.exerciseStartTime >= :startTime AND eh.exerciseStartTime < :endTime")
+    List<Object[]> findCrewMemberWorkoutsByExerciseStartTimeBetween(LocalDateTime startTime, LocalDateTime endTime);
+
+    @Query("SELECT eh.user.id, eh.burnedCalories FROM ExerciseHistory eh " +
+            "WHERE eh.user.id IN :userIds AND eh.createdAt BETWEEN :startDateTime AND :endDateTime " +
+            "ORDER BY eh.id ASC")
+    List<Object[]> findBurnedCaloriesByUserIdInAndCreatedAtBetween(List<Long> userIds, LocalDateTime startDateTime,
+                                                                   LocalDateTime endDateTime);
+
     @Query("SELECT new com.ssafy.health.domain.crew.dto.response.CrewMemberInfo(u.id, u.nickname, u.profileImage, SUM(eh.exerciseDuration)) " +
             "FROM Crew c " +
             "JOIN UserCrew uc ON uc.crew = c " +
@@ -47,17 +43,4 @@ public interface ExerciseHistoryRepository extends JpaRepository<ExerciseHistory
             "ORDER BY SUM(eh.exerciseDuration) DESC")
     List<CrewMemberInfo> findUserRankingsByCrewAndDateTime(@Param("crewId") Long crewId,
                                                            @Param("dateTime") LocalDateTime dateTime);
-
-    @Query("""
-            SELECT CASE
-                WHEN COUNT(DISTINCT eh.user) >= 2 AND SUM(eh.exerciseDuration) > 3600
-                THEN true ELSE false
-            END
-            FROM Crew c
-            JOIN UserCrew uc ON uc.crew = c
-            JOIN ExerciseHistory eh ON eh.user = uc.user
-            WHERE c.id = :crewId
-            AND eh.exerciseStartTime >=:startOfDay AND eh.exerciseStartTime < :endOfDay
-            """)
-    Boolean isCrewExerciseQuestCompleted(Long crewId, LocalDateTime startOfDay, LocalDateTime endOfDay);
 }
\ No newline at end of file
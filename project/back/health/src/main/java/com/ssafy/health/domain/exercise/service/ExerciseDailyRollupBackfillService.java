@@ -0,0 +1,50 @@
+package com.ssafy.health.domain.exercise.service;
+
+import com.ssafy.health.domain.exercise.repository.ExerciseDailyRollupRepository;
+import com.ssafy.health.domain.exercise.repository.ExerciseHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExerciseDailyRollupBackfillService {
+
+    private final ExerciseDailyRollupRepository exerciseDailyRollupRepository;
+    private final ExerciseHistoryRepository exerciseHistoryRepository;
+
+    // 한 트랜잭션에서 재계산하는 유저 ID 구간 크기 (운동 기록 전체를 한 번에 잠그지 않도록)
+    @Value("${health.exercise.rollup.rebuild-user-chunk:500}")
+    private long userChunkSize;
+
+    // 롤업 테이블이 비어 있으면 기존 운동 기록으로 채움 (최초 배포 시)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (exerciseDailyRollupRepository.count() == 0) {
+            rebuild();
+        }
+    }
+
+    // 주 1회 운동 기록 원본 기준으로 롤업을 다시 계산하여 누적 오차를 보정
+    @Scheduled(cron = "0 0 5 * * Mon")
+    public void rebuild() {
+        Long maxUserId = exerciseHistoryRepository.findMaxUserId();
+        if (maxUserId == null) {
+            return;
+        }
+
+        long affectedRows = 0;
+        int chunks = 0;
+        for (long fromUserId = 0; fromUserId <= maxUserId; fromUserId += userChunkSize) {
+            affectedRows += exerciseDailyRollupRepository.rebuildByUserIdBetween(
+                    fromUserId, fromUserId + userChunkSize - 1);
+            chunks++;
+        }
+        log.info("Exercise daily rollups rebuilt in {} chunks, {} rows affected", chunks, affectedRows);
+    }
+}
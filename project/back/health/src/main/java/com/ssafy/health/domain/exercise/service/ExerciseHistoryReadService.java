@@ -6,6 +6,7 @@ import com.ssafy.health.common.util.WeeklyRequestDto;
 import com.ssafy.health.domain.exercise.dto.response.ExerciseHistoryListResponseDto;
 import com.ssafy.health.domain.exercise.dto.response.WeeklyAndDailyExerciseTimeResponseDto;
 import com.ssafy.health.domain.exercise.entity.ExerciseHistory;
+import com.ssafy.health.domain.exercise.repository.ExerciseDailyRollupRepository;
 import com.ssafy.health.domain.exercise.repository.ExerciseHistoryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,9 +16,12 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.*;
 import java.time.temporal.TemporalAdjusters;
 import java.time.temporal.WeekFields;
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
 import static java.time.temporal.TemporalAdjusters.firstDayOfMonth;
 import static java.time.temporal.TemporalAdjusters.lastDayOfMonth;
@@ -29,6 +33,7 @@ import static java.time.temporal.TemporalAdjusters.lastDayOfMonth;
 public class ExerciseHistoryReadService {
 
     private final ExerciseHistoryRepository exerciseHistoryRepository;
+    private final ExerciseDailyRollupRepository exerciseDailyRollupRepository;
 
     public WeeklyAndDailyExerciseTimeResponseDto getWeeklyAndDailyExerciseTime(final Long userId) {
         Long weeklyAccumulatedExerciseTime = getWeeklyAccumulatedExerciseTime(userId);
@@ -57,6 +62,27 @@ public class ExerciseHistoryReadService {
     }
 
     public ExerciseHistoryListResponseDto getLastWeekExerciseHistory(Long userId) {
+        return getExerciseHistoryListResponseDto(userId, calculateLastWeekDateTimeRange());
+    }
+
+    // 지난 주 운동 기록의 소모 칼로리를 유저별로 한 번에 조회
+    public Map<Long, List<Float>> getLastWeekBurnedCalories(List<Long> userIds) {
+        LocalDateTime[] dateTimes = calculateLastWeekDateTimeRange();
+
+        Map<Long, List<Float>> burnedCaloriesByUser = new HashMap<>();
+        exerciseHistoryRepository.findBurnedCaloriesByUserIdInAndCreatedAtBetween(userIds, dateTimes[0], dateTimes[1])
+                .forEach(row -> burnedCaloriesByUser
+                        .computeIfAbsent((Long) row[0], key -> new ArrayList<>())
+                        .add((Float) row[1]));
+        return burnedCaloriesByUser;
+    }
+
+    // 지난 주 집계 구간이 마지막으로 바뀐 시각 (이번 주 시작)
+    public LocalDateTime getLastWeekWindowChangedAt() {
+        return calculateLastWeekDateTimeRange()[1].plusSeconds(1);
+    }
+
+    private LocalDateTime[] calculateLastWeekDateTimeRange() {
 
         LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
 
@@ -72,7 +98,7 @@ public class ExerciseHistoryReadService {
                 .toLocalDateTime();
         LocalDateTime endDateTime = startDateTime.plusWeeks(1).minusSeconds(1);
         log.info("Getting exercise data from time window {} to {}", startDateTime, endDateTime);
-        return getExerciseHistoryListResponseDto(userId, new LocalDateTime[]{startDateTime, endDateTime});
+        return new LocalDateTime[]{startDateTime, endDateTime};
     }
 
     public ExerciseHistoryListResponseDto getMonthlyExerciseHistory(MonthlyRequestDto requestDto) {
@@ -109,41 +135,27 @@ public class ExerciseHistoryReadService {
     }
 
     private Long getTotalExerciseTime(final Long userId) {
-        return calculateExerciseTime(exerciseHistoryRepository.findByUserId(userId));
+        return exerciseDailyRollupRepository.sumDurationByUserId(userId);
     }
 
     private Long getDailyAccumulatedExerciseTime(final Long userId) {
-        LocalDateTime today = LocalDateTime.now();
-        LocalDateTime startTime = today.toLocalDate().atStartOfDay();
-        LocalDateTime endTime = today.toLocalDate().atTime(23, 59, 59);
+        LocalDate today = LocalDate.now();
 
-        return calculateExerciseTime(exerciseHistoryRepository.findByUserIdAndExerciseStartTimeBetween(
-                userId, startTime, endTime));
+        return exerciseDailyRollupRepository.sumDurationByUserIdAndExerciseDateBetween(userId, today, today);
     }
 
     private Long getWeeklyAccumulatedExerciseTime(final Long userId) {
-        LocalDateTime today = LocalDateTime.now();
-        LocalDateTime startTime = today.with(DayOfWeek.MONDAY).toLocalDate().atStartOfDay();
-        LocalDateTime endTime = today.with(DayOfWeek.SUNDAY).toLocalDate().atTime(23, 59, 59);
+        LocalDate today = LocalDate.now();
 
-        return calculateExerciseTime(exerciseHistoryRepository.findByUserIdAndExerciseStartTimeBetween(
-                userId, startTime, endTime));
+        return exerciseDailyRollupRepository.sumDurationByUserIdAndExerciseDateBetween(
+                userId, today.with(DayOfWeek.MONDAY), today.with(DayOfWeek.SUNDAY));
     }
 
     private Long getMonthlyAccumulatedExerciseTime(final Long userId) {
-        LocalDateTime today = LocalDateTime.now();
-        LocalDateTime startTime = today.with(firstDayOfMonth()).with(LocalTime.MIN);
-        LocalDateTime endTime = today.with(lastDayOfMonth()).with(LocalTime.MAX);
-
-        return calculateExerciseTime(exerciseHistoryRepository.findByUserIdAndExerciseStartTimeBetween(
-                userId, startTime, endTime));
-    }
-
-    private long calculateExerciseTime(List<ExerciseHistory> exerciseHistoryList) {
+        LocalDate today = LocalDate.now();
 
-        return exerciseHistoryList.stream()
-                .mapToLong(ExerciseHistory::getExerciseDuration)
-                .sum();
+        return exerciseDailyRollupRepository.sumDurationByUserIdAndExerciseDateBetween(
+                userId, today.with(firstDayOfMonth()), today.with(lastDayOfMonth()));
     }
 
     private LocalDateTime[] calculateWeekDateTimeRange() {
@@ -1,7 +1,8 @@
 package com.ssafy.health.domain.exercise.service;
 
+import com.ssafy.health.common.cache.ReferenceDataCache;
 import com.ssafy.health.common.security.SecurityUtil;
-import com.ssafy.health.common.util.CrewBasicScoreLockException;
+import com.ssafy.health.common.util.TransactionUtil;
 import com.ssafy.health.domain.account.entity.User;
 import com.ssafy.health.domain.account.exception.UserNotFoundException;
 import com.ssafy.health.domain.account.repository.UserCrewRepository;
@@ -9,27 +10,27 @@ import com.ssafy.health.domain.account.repository.UserRepository;
 import com.ssafy.health.domain.body.BodyHistory.entity.BodyHistory;
 import com.ssafy.health.domain.body.BodyHistory.exception.BodyHistoryNotFoundException;
 import com.ssafy.health.domain.body.BodyHistory.repository.BodyHistoryRepository;
-import com.ssafy.health.domain.crew.entity.Crew;
 import com.ssafy.health.domain.crew.repository.CrewRepository;
+import com.ssafy.health.domain.crew.service.CrewDailyProgressService;
+import com.ssafy.health.domain.crew.service.CrewProfileCache;
+import com.ssafy.health.domain.crew.service.CrewRankingService;
 import com.ssafy.health.domain.exercise.dto.request.ExerciseHistorySaveRequestDto;
 import com.ssafy.health.domain.exercise.dto.response.ExerciseHistorySaveResponseDto;
 import com.ssafy.health.domain.exercise.entity.Exercise;
 import com.ssafy.health.domain.exercise.entity.ExerciseHistory;
 import com.ssafy.health.domain.exercise.exception.ExerciseNotFoundException;
+import com.ssafy.health.domain.exercise.repository.ExerciseDailyRollupRepository;
 import com.ssafy.health.domain.exercise.repository.ExerciseHistoryRepository;
 import com.ssafy.health.domain.exercise.repository.ExerciseRepository;
-import com.ssafy.health.domain.quest.entity.QuestStatus;
-import com.ssafy.health.domain.quest.service.QuestWriteService;
-import jakarta.persistence.OptimisticLockException;
+import com.ssafy.health.domain.quest.entity.QuestTrigger;
+import com.ssafy.health.domain.quest.event.QuestEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.List;
-import java.util.concurrent.ExecutionException;
 
 @Slf4j
 @Service
@@ -43,7 +44,12 @@ public class ExerciseHistoryWriteService {
     private final ExerciseRepository exerciseRepository;
     private final BodyHistoryRepository bodyHistoryRepository;
     private final ExerciseHistoryRepository exerciseHistoryRepository;
-    private final QuestWriteService questWriteService;
+    private final ExerciseDailyRollupRepository exerciseDailyRollupRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CrewRankingService crewRankingService;
+    private final CrewDailyProgressService crewDailyProgressService;
+    private final CrewProfileCache crewProfileCache;
+    private final ReferenceDataCache referenceDataCache;
 
     private final Float OXYGEN_INTAKE = 3.5F;
 
@@ -51,33 +57,33 @@ public class ExerciseHistoryWriteService {
         return OXYGEN_INTAKE;
     }
 
-    public ExerciseHistorySaveResponseDto saveExerciseHistory(ExerciseHistorySaveRequestDto exerciseHistorySaveRequestDto)
-            throws InterruptedException, ExecutionException {
+    public ExerciseHistorySaveResponseDto saveExerciseHistory(ExerciseHistorySaveRequestDto exerciseHistorySaveRequestDto) {
         User user = findUserById(SecurityUtil.getCurrentUserId());
         Exercise exercise = findExerciseById(exerciseHistorySaveRequestDto.getExerciseId());
         Float burnedCalories = calculateBurnedCalories(user, exercise, exerciseHistorySaveRequestDto.getExerciseTime());
 
         ExerciseHistory exerciseHistory = buildExerciseHistory(exerciseHistorySaveRequestDto, user, exercise, burnedCalories);
         exerciseHistoryRepository.save(exerciseHistory);
+        exerciseDailyRollupRepository.accumulate(user.getId(), exerciseHistory.getExerciseStartTime().toLocalDate(),
+                exerciseHistory.getExerciseDuration(), exerciseHistory.getBurnedCalories());
 
-        questWriteService.updateUserQuestStatus(user, "운동하기", QuestStatus.CREATED);
-
-        // 크루 퀘스트
-        LocalDate today = LocalDate.now();
-        LocalDateTime startOfDay = today.atStartOfDay();
-        LocalDateTime endOfDay = today.plusDays(1).atStartOfDay();
-        List<Crew> crewList = crewRepository.findCrewsByUserAndExercise(user, exercise);
-
-        crewList.forEach(crew -> {
-            if (exerciseHistoryRepository.isCrewExerciseQuestCompleted(crew.getId(), startOfDay, endOfDay)) {
-                questWriteService.updateCrewQuestStatus(crew, "크루 내 2명", QuestStatus.CREATED);
-            }
-        });
-
+        List<Long> crewIds = crewRepository.findCrewIdsByUserIdAndExerciseId(user.getId(), exercise.getId());
 
         Float basicScore = calculateBasicScore(burnedCalories);
         updateUserCrewBasicScore(user, exercise, basicScore);
-        updateCrewBasicScore(user, exercise, basicScore);
+        updateCrewBasicScore(crewIds, basicScore);
+
+        // 크루 퀘스트는 종목과 관계없이 팀원의 하루 운동을 합산하므로 소속된 모든 크루에 반영
+        List<Long> memberCrewIds = userCrewRepository.findCrewIdsByUserId(user.getId());
+        // 유저의 크루 점수가 바뀌었으므로 소속 크루 평균 프로필도 다시 계산
+        TransactionUtil.afterCommit(() -> crewProfileCache.evictAll(memberCrewIds));
+        TransactionUtil.afterCommit(() -> crewDailyProgressService.record(memberCrewIds, user.getId(),
+                exerciseHistory.getId(), exerciseHistory.getExerciseStartTime().toLocalDate(),
+                exerciseHistory.getExerciseDuration()));
+
+        // 퀘스트 평가는 커밋 이후 QuestEvaluationService에서 비동기로 처리
+        eventPublisher.publishEvent(QuestEvent.ofUser(QuestTrigger.EXERCISE_LOGGED, user.getId(), 1));
+        eventPublisher.publishEvent(QuestEvent.ofCrews(QuestTrigger.CREW_DAILY_MINUTES, memberCrewIds));
 
         return ExerciseHistorySaveResponseDto.builder()
                 .burnedCalories(exerciseHistory.getBurnedCalories())
@@ -88,28 +94,13 @@ public class ExerciseHistoryWriteService {
         userCrewRepository.updateBasicScoreByUserAndExercise(user, exercise, basicScore);
     }
 
-    private void updateCrewBasicScore(User user, Exercise exercise, Float basicScore) throws InterruptedException {
-        int maxRetries = 5;
-        int retryCount = 0;
-
-        while (retryCount < maxRetries) {
-            try {
-                List<Crew> crews = crewRepository.findCrewsByUserAndExercise(user, exercise);
-
-                crews.forEach(crew -> {
-                    crew.updateBasicScore(basicScore);
-                    crewRepository.save(crew);
-                });
-
-                return;
-
-            } catch (OptimisticLockException e) {
-                retryCount++;
-                Thread.sleep(50); // 대기 시간
-            }
+    private void updateCrewBasicScore(List<Long> crewIds, Float basicScore) {
+        if (crewIds.isEmpty()) {
+            return;
         }
 
-        throw new CrewBasicScoreLockException();
+        crewRepository.addBasicScoreByIdIn(crewIds, basicScore);
+        TransactionUtil.afterCommit(() -> crewRankingService.addScore(crewIds, basicScore));
     }
 
     private ExerciseHistory buildExerciseHistory(ExerciseHistorySaveRequestDto exerciseHistorySaveRequestDto, User user, Exercise exercise, Float burnedCalories) {
@@ -126,14 +117,18 @@ public class ExerciseHistoryWriteService {
     private Float calculateBurnedCalories(User user, Exercise exercise, Long exerciseTime) {
         BodyHistory bodyHistory = findBodyHistoryById(user.getId());
         Float weight = bodyHistory.getWeight();
-        Float met = exercise.getMet();
+        Float met = referenceDataCache.getExerciseMet(exercise.getId()).orElseThrow(ExerciseNotFoundException::new);
 
         //(met * 3.5 * kg * min) / 1000 * 5 -> Kcal
         return (met * OXYGEN_INTAKE * weight * msToMin(exerciseTime)) / 1000 * 5;
     }
 
     private Exercise findExerciseById(Long exerciseId) {
-        return exerciseRepository.findById(exerciseId).orElseThrow(ExerciseNotFoundException::new);
+        // 운동 존재 여부는 캐시로 확인하고, 엔티티는 조회 없이 참조만 연결
+        if (!referenceDataCache.existsExercise(exerciseId)) {
+            throw new ExerciseNotFoundException();
+        }
+        return exerciseRepository.getReferenceById(exerciseId);
     }
 
     private User findUserById(Long userId) {
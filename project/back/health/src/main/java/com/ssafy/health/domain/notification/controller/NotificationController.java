@@ -49,7 +49,7 @@ public class NotificationController implements NotificationControllerApi {
     }
 
     @PostMapping("/test/{type}")
-    public ApiResponse<?> testNotification(@PathVariable("type") String type) throws ExecutionException, InterruptedException {
+    public ApiResponse<?> testNotification(@PathVariable("type") String type) {
         Long userId = SecurityUtil.getCurrentUserId();
         User user = userRepository.findById(userId).orElseThrow(UserNotFoundException::new);
 
@@ -73,13 +73,8 @@ public class NotificationController implements NotificationControllerApi {
             List<QuestStatus> questStatus = Arrays.asList(QuestStatus.CREATED, QuestStatus.COMPLETED);
             List<UserQuest> userQuestList = userQuestRepository.findAllByUserAndStatus(user, questStatus);
 
-            userQuestList.forEach(quest -> {
-                try {
-                    notificationWriteService.createUserQuestNotification(NotificationType.QUEST, user, quest.getId());
-                } catch (ExecutionException | InterruptedException e) {
-                    throw new RuntimeException(e);
-                }
-            });
+            userQuestList.forEach(quest ->
+                    notificationWriteService.createUserQuestNotification(NotificationType.QUEST, user, quest.getId()));
         } else {
             return ApiResponse.error(405, "Unknown parameter: " + type);
         }
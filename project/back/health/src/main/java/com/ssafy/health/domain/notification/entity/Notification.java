@@ -35,6 +35,19 @@ public class Notification extends BaseEntity {
 
     private LocalDateTime checkedTime;
 
+    private String pushTitle;
+
+    @Enumerated(EnumType.STRING)
+    private PushStatus pushStatus;
+
+    // 전송을 선점한 배치 토큰과 시각, 전송 시도 횟수
+    @Column(length = 36)
+    private String pushClaimToken;
+
+    private LocalDateTime pushClaimedAt;
+
+    private Integer pushAttempts;
+
     @Type(JsonType.class)
     @Column(columnDefinition = "JSON")
     private Map<String, Object> additionalData;
@@ -0,0 +1,5 @@
+package com.ssafy.health.domain.notification.entity;
+
+public enum PushStatus {
+    PENDING, SENDING, SENT, FAILED, SKIPPED
+}
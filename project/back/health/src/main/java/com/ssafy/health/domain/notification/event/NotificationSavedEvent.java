@@ -0,0 +1,6 @@
+package com.ssafy.health.domain.notification.event;
+
+import java.util.List;
+
+public record NotificationSavedEvent(List<Long> notificationIds) {
+}
@@ -2,9 +2,14 @@ package com.ssafy.health.domain.notification.repository;
 
 import com.ssafy.health.domain.notification.entity.Notification;
 import com.ssafy.health.domain.notification.entity.NotificationStatus;
+import com.ssafy.health.domain.notification.entity.PushStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
@@ -12,4 +17,58 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     @Query("SELECT n FROM Notification n WHERE n.user.id = :userId AND n.notificationStatus = :status " +
             "ORDER BY n.createdAt DESC")
     List<Notification> findByUserIdAndNotificationStatus(Long userId, NotificationStatus status);
+
+    @Query("""
+            SELECT n.id, n.pushTitle, n.content, n.user.deviceToken FROM Notification n
+            WHERE n.pushClaimToken = :claimToken AND n.pushStatus = com.ssafy.health.domain.notification.entity.PushStatus.SENDING
+            """)
+    List<Object[]> findPushTargetsByPushClaimToken(String claimToken);
+
+    @Query("SELECT n.id FROM Notification n WHERE n.pushStatus = :status AND n.createdAt < :createdAt " +
+            "ORDER BY n.id ASC")
+    List<Long> findIdsByPushStatusAndCreatedAtBefore(PushStatus status, LocalDateTime createdAt, Limit limit);
+
+    @Query("""
+            SELECT n.id FROM Notification n
+            WHERE n.pushStatus = com.ssafy.health.domain.notification.entity.PushStatus.FAILED
+              AND COALESCE(n.pushAttempts, 0) < :maxAttempts AND n.pushClaimedAt < :claimedAt
+            ORDER BY n.id ASC
+            """)
+    List<Long> findRetryableFailedIds(int maxAttempts, LocalDateTime claimedAt, Limit limit);
+
+    // 전송 시도가 maxAttempts 미만인 PENDING 또는 FAILED 알림만 SENDING으로 선점 (다른 워커/서버가 먼저 선점한 알림은 제외)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE Notification n
+            SET n.pushStatus = com.ssafy.health.domain.notification.entity.PushStatus.SENDING, n.pushClaimToken = :claimToken,
+                n.pushClaimedAt = :claimedAt, n.pushAttempts = COALESCE(n.pushAttempts, 0) + 1
+            WHERE n.id IN :ids
+              AND n.pushStatus IN (com.ssafy.health.domain.notification.entity.PushStatus.PENDING,
+                                   com.ssafy.health.domain.notification.entity.PushStatus.FAILED)
+              AND COALESCE(n.pushAttempts, 0) < :maxAttempts
+            """)
+    int claimForPush(List<Long> ids, String claimToken, LocalDateTime claimedAt, int maxAttempts);
+
+    // 선점한 배치가 아직 가지고 있는 알림에만 결과 반영
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE Notification n SET n.pushStatus = :status
+            WHERE n.id IN :ids AND n.pushClaimToken = :claimToken AND n.pushStatus = com.ssafy.health.domain.notification.entity.PushStatus.SENDING
+            """)
+    int completePush(List<Long> ids, String claimToken, PushStatus status);
+
+    // 전송 중 서버가 종료되어 SENDING으로 남은 알림을 다시 PENDING으로 (시도 횟수를 다 쓴 알림은 FAILED로 종료)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE Notification n
+            SET n.pushStatus = CASE WHEN COALESCE(n.pushAttempts, 0) < :maxAttempts
+                                    THEN com.ssafy.health.domain.notification.entity.PushStatus.PENDING
+                                    ELSE com.ssafy.health.domain.notification.entity.PushStatus.FAILED END,
+                n.pushClaimToken = NULL
+            WHERE n.pushStatus = com.ssafy.health.domain.notification.entity.PushStatus.SENDING AND n.pushClaimedAt < :claimedAt
+            """)
+    int releaseStaleClaims(LocalDateTime claimedAt, int maxAttempts);
 }
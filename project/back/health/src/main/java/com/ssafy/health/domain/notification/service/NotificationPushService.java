@@ -0,0 +1,165 @@
+package com.ssafy.health.domain.notification.service;
+
+import com.ssafy.health.common.fcm.dto.request.FcmRequestDto;
+import com.ssafy.health.common.fcm.service.FcmSender;
+import com.ssafy.health.domain.notification.entity.PushStatus;
+import com.ssafy.health.domain.notification.event.NotificationSavedEvent;
+import com.ssafy.health.domain.notification.repository.NotificationRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationPushService {
+
+    private static final int SWEEP_LIMIT = 5000;
+
+    private final NotificationRepository notificationRepository;
+    private final FcmSender fcmSender;
+
+    @Value("${health.notification.push.workers:2}")
+    private int workerCount;
+
+    @Value("${health.notification.push.queue-capacity:10000}")
+    private int queueCapacity;
+
+    // 전송 시도가 이 횟수에 도달한 알림은 PENDING으로 되돌아와도 더 이상 선점하지 않음 (최종 실패)
+    @Value("${health.notification.push.max-attempts:3}")
+    private int maxAttempts;
+
+    // SENDING 상태로 이 시간이 지나면 전송 중 종료된 것으로 보고 PENDING으로 되돌림 (FAILED 재시도 간격도 동일)
+    @Value("${health.notification.push.claim-timeout-minutes:5}")
+    private long claimTimeoutMinutes;
+
+    private BlockingQueue<Long> queue;
+    private ExecutorService workers;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        workers = Executors.newFixedThreadPool(workerCount);
+        running = true;
+
+        for (int i = 0; i < workerCount; i++) {
+            workers.submit(this::drainLoop);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        workers.shutdownNow();
+    }
+
+    // 알림 저장 트랜잭션이 커밋된 뒤에만 전송 대기열에 등록
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleNotificationSaved(NotificationSavedEvent event) {
+        enqueue(event.notificationIds());
+    }
+
+    // 대기열이 가득 차 등록되지 못했거나 서버 재시작으로 유실된 PENDING 알림과 재시도할 FAILED 알림을 재등록
+    // 이미 대기열에 있거나 다른 서버가 전송 중인 알림이 다시 등록돼도 deliver의 선점 단계에서 걸러짐
+    @Scheduled(fixedDelay = 60000)
+    public void sweepPendingNotifications() {
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(claimTimeoutMinutes);
+        int released = notificationRepository.releaseStaleClaims(threshold, maxAttempts);
+        if (released > 0) {
+            log.warn("Released {} push notifications left in SENDING", released);
+        }
+
+        enqueue(notificationRepository.findIdsByPushStatusAndCreatedAtBefore(
+                PushStatus.PENDING, threshold, Limit.of(SWEEP_LIMIT)));
+        enqueue(notificationRepository.findRetryableFailedIds(maxAttempts, threshold, Limit.of(SWEEP_LIMIT)));
+    }
+
+    public void enqueue(List<Long> notificationIds) {
+        int dropped = 0;
+        for (Long notificationId : notificationIds) {
+            if (!queue.offer(notificationId)) {
+                dropped++;
+            }
+        }
+        if (dropped > 0) {
+            log.warn("Push queue is full, {} notifications are left for the next sweep", dropped);
+        }
+    }
+
+    private void drainLoop() {
+        while (running) {
+            try {
+                Long first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                List<Long> batch = new ArrayList<>();
+                batch.add(first);
+                queue.drainTo(batch, FcmSender.MAX_BATCH_SIZE - 1);
+                deliver(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Failed to deliver push batch", e);
+            }
+        }
+    }
+
+    // 조건부 UPDATE로 선점한 알림만 전송 (같은 알림을 두 워커/서버가 동시에 보내지 않음)
+    void deliver(List<Long> notificationIds) {
+        String claimToken = UUID.randomUUID().toString();
+        if (notificationRepository.claimForPush(notificationIds, claimToken, LocalDateTime.now(), maxAttempts) == 0) {
+            return;
+        }
+        List<Object[]> targets = notificationRepository.findPushTargetsByPushClaimToken(claimToken);
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        List<FcmRequestDto> requests = targets.stream()
+                .map(row -> FcmRequestDto.builder()
+                        .title((String) row[1])
+                        .body((String) row[2])
+                        .token((String) row[3])
+                        .build())
+                .toList();
+        List<Boolean> results = fcmSender.sendEach(requests);
+
+        List<Long> sentIds = new ArrayList<>();
+        List<Long> failedIds = new ArrayList<>();
+        for (int i = 0; i < targets.size(); i++) {
+            Long notificationId = (Long) targets.get(i)[0];
+            if (Boolean.TRUE.equals(results.get(i))) {
+                sentIds.add(notificationId);
+            } else {
+                failedIds.add(notificationId);
+            }
+        }
+
+        if (!sentIds.isEmpty()) {
+            notificationRepository.completePush(sentIds, claimToken, PushStatus.SENT);
+        }
+        if (!failedIds.isEmpty()) {
+            notificationRepository.completePush(failedIds, claimToken, PushStatus.FAILED);
+        }
+    }
+}
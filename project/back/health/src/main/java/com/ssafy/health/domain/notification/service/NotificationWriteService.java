@@ -1,8 +1,6 @@
 package com.ssafy.health.domain.notification.service;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
-import com.ssafy.health.common.fcm.dto.request.FcmRequestDto;
-import com.ssafy.health.common.fcm.service.FcmService;
 import com.ssafy.health.domain.account.entity.User;
 import com.ssafy.health.domain.account.repository.UserRepository;
 import com.ssafy.health.domain.battle.dto.response.BattleMatchResponseDto;
@@ -16,6 +14,8 @@ import com.ssafy.health.domain.notification.dto.response.StatusUpdateResponseDto
 import com.ssafy.health.domain.notification.entity.Notification;
 import com.ssafy.health.domain.notification.entity.NotificationStatus;
 import com.ssafy.health.domain.notification.entity.NotificationType;
+import com.ssafy.health.domain.notification.entity.PushStatus;
+import com.ssafy.health.domain.notification.event.NotificationSavedEvent;
 import com.ssafy.health.domain.notification.repository.NotificationRepository;
 import com.ssafy.health.domain.quest.entity.CrewQuest;
 import com.ssafy.health.domain.quest.entity.QuestType;
@@ -26,6 +26,7 @@ import com.ssafy.health.domain.quest.repository.UserQuestRepository;
 import lombok.Builder;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
@@ -37,7 +38,6 @@ import java.time.temporal.TemporalAdjusters;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ExecutionException;
 
 import static com.ssafy.health.domain.notification.entity.NotificationMessage.*;
 
@@ -47,7 +47,7 @@ public class NotificationWriteService {
 
     private final BodyHistoryRepository bodyHistoryRepository;
     private final NotificationRepository notificationRepository;
-    private final FcmService fcmService;
+    private final ApplicationEventPublisher eventPublisher;
     private final UserQuestRepository userQuestRepository;
     private final CrewQuestRepository crewQuestRepository;
     private final UserRepository userRepository;
@@ -58,18 +58,11 @@ public class NotificationWriteService {
         LocalDateTime dueDate = LocalDateTime.now().minusDays(14);
         List<User> usersToSend = userRepository.findAllByBodyHistoryAvailability(dueDate);
 
-        usersToSend.forEach(user -> {
-            try {
-                createBodySurveyNotification(user);
-            } catch (ExecutionException | InterruptedException e) {
-                throw new RuntimeException(e);
-            }
-        });
+        usersToSend.forEach(this::createBodySurveyNotification);
     }
 
 
-    public void createBodySurveyNotification(User user)
-            throws ExecutionException, InterruptedException {
+    public void createBodySurveyNotification(User user) {
 
         Map<String, Object> additionalData = new HashMap<>();
         String lastSurveyedDate = null;
@@ -84,15 +77,12 @@ public class NotificationWriteService {
         additionalData.put("lastSurveyedDate", lastSurveyedDate);
 
         Notification notification = notificationBuilder(
-                NotificationType.SURVEY, user, SURVEY.getMessage(), additionalData);
-        notificationRepository.save(notification);
-
-        sendFcmMessage(user, "체형 입력 알림", SURVEY.getMessage());
+                NotificationType.SURVEY, user, "체형 입력 알림", SURVEY.getMessage(), additionalData);
+        saveAndPublish(List.of(notification));
     }
 
     public NotificationRequestDto createBattleNotification(
-            NotificationType notificationType, User user, Battle battle, Crew crew, Integer coinAmount)
-            throws ExecutionException, InterruptedException {
+            NotificationType notificationType, User user, Battle battle, Crew crew, Integer coinAmount) {
 
         Map<String, Object> additionalData = new HashMap<>();
 
@@ -152,18 +142,11 @@ public class NotificationWriteService {
 
     public void saveNotification(List<NotificationRequestDto> requestDtoList) {
         List<Notification> battleNotificationList = requestDtoList.stream()
-                .map(dto -> {
-                    try {
-                        sendFcmMessage(dto.getUser(), "배틀 알림", dto.getMessage());
-                    } catch (ExecutionException | InterruptedException e) {
-                        throw new RuntimeException(e);
-                    }
-                    return notificationBuilder(dto.getNotificationType(),
-                            dto.getUser(), dto.getMessage(), dto.getAdditionalData());
-                })
+                .map(dto -> notificationBuilder(dto.getNotificationType(),
+                        dto.getUser(), "배틀 알림", dto.getMessage(), dto.getAdditionalData()))
                 .toList();
 
-        notificationRepository.saveAll(battleNotificationList);
+        saveAndPublish(battleNotificationList);
     }
 
 
@@ -175,8 +158,7 @@ public class NotificationWriteService {
         private int myCoin;
     }
 
-    public void createUserQuestNotification(NotificationType notificationType, User user, Long questId)
-            throws ExecutionException, InterruptedException {
+    public void createUserQuestNotification(NotificationType notificationType, User user, Long questId) {
 
         Map<String, Object> additionalData = new HashMap<>();
 
@@ -195,14 +177,11 @@ public class NotificationWriteService {
 
         additionalData.put("questDetail", questDetail);
         Notification questNotification = notificationBuilder(
-                notificationType, user, messageBuilder.toString(), additionalData);
-        notificationRepository.save(questNotification);
-
-        sendFcmMessage(user, "퀘스트 알림", messageBuilder.toString());
+                notificationType, user, "퀘스트 알림", messageBuilder.toString(), additionalData);
+        saveAndPublish(List.of(questNotification));
     }
 
-    public void createCrewQuestNotification(NotificationType notificationType, User user, Crew crew, Long questId)
-            throws ExecutionException, InterruptedException {
+    public void createCrewQuestNotification(NotificationType notificationType, User user, Crew crew, Long questId) {
 
         Map<String, Object> additionalData = new HashMap<>();
 
@@ -220,10 +199,8 @@ public class NotificationWriteService {
 
         additionalData.put("questDetail", questDetail);
         Notification questNotification = notificationBuilder(
-                notificationType, user, messageBuilder.toString(), additionalData);
-        notificationRepository.save(questNotification);
-
-        sendFcmMessage(user, "퀘스트 알림", messageBuilder.toString());
+                notificationType, user, "퀘스트 알림", messageBuilder.toString(), additionalData);
+        saveAndPublish(List.of(questNotification));
     }
 
     @Data
@@ -258,27 +235,28 @@ public class NotificationWriteService {
                 .build();
     }
 
-    public void sendFcmMessage(User user, String title, String body) throws ExecutionException, InterruptedException {
-        String token = user.getDeviceToken();
+    // 알림을 먼저 저장하고, FCM 전송은 커밋 이후 NotificationPushService가 비동기로 처리
+    private void saveAndPublish(List<Notification> notificationList) {
+        List<Long> notificationIds = notificationRepository.saveAll(notificationList).stream()
+                .filter(notification -> notification.getPushStatus().equals(PushStatus.PENDING))
+                .map(Notification::getId)
+                .toList();
 
-        if (token != null) {
-            FcmRequestDto fcmRequestDto = FcmRequestDto.builder()
-                    .token(token)
-                    .title(title)
-                    .body(body)
-                    .build();
-            fcmService.sendMessageToDevice(fcmRequestDto);
+        if (!notificationIds.isEmpty()) {
+            eventPublisher.publishEvent(new NotificationSavedEvent(notificationIds));
         }
     }
 
-    public Notification notificationBuilder(
-            NotificationType notificationType, User user, String message, Map<String, Object> additionalData) {
+    public Notification notificationBuilder(NotificationType notificationType, User user, String pushTitle,
+                                            String message, Map<String, Object> additionalData) {
         return Notification.builder()
                 .notificationType(notificationType)
                 .notificationStatus(NotificationStatus.UNREAD)
                 .content(message)
                 .user(user)
                 .additionalData(additionalData)
+                .pushTitle(pushTitle)
+                .pushStatus(user.getDeviceToken() != null ? PushStatus.PENDING : PushStatus.SKIPPED)
                 .build();
     }
 
@@ -1,6 +1,7 @@
 package com.ssafy.health.domain.quest.dto.request;
 
 import com.ssafy.health.domain.quest.entity.QuestPeriod;
+import com.ssafy.health.domain.quest.entity.QuestTrigger;
 import com.ssafy.health.domain.quest.entity.QuestType;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -17,4 +18,6 @@ public class QuestCreateRequestDto {
     private String title;
     private QuestPeriod questPeriod;
     private Integer coins;
+    private QuestTrigger triggerType;
+    private Integer threshold;
 }
@@ -29,4 +29,9 @@ public class Quest extends BaseEntity {
 
     @NotNull
     private Integer completionCoins;
+
+    @Enumerated(EnumType.STRING)
+    private QuestTrigger triggerType;
+
+    private Integer threshold;
 }
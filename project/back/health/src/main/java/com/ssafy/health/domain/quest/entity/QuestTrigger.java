@@ -0,0 +1,28 @@
+package com.ssafy.health.domain.quest.entity;
+
+import java.util.Arrays;
+import java.util.Optional;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum QuestTrigger {
+    BODY_RECORDED(QuestType.INDIVIDUAL, 1, "몸무게 입력"),
+    EXERCISE_LOGGED(QuestType.INDIVIDUAL, 1, "운동하기"),
+    ATTENDANCE_COUNT(QuestType.INDIVIDUAL, 14, "2주 이상 출석"),
+    CREW_DAILY_MINUTES(QuestType.CREW, 60, "크루 내 2명");
+
+    private final QuestType questType;
+    private final int defaultThreshold;
+    private final String legacyTitleKeyword;
+
+    // 트리거가 지정되지 않은 기존 퀘스트는 제목으로 트리거를 추정
+    // 크루 퀘스트 제목에도 "운동하기"가 들어가므로 같은 퀘스트 종류의 트리거 안에서만 찾음
+    public static Optional<QuestTrigger> fromLegacyTitle(QuestType questType, String title) {
+        return Arrays.stream(values())
+                .filter(trigger -> trigger.questType == questType)
+                .filter(trigger -> title.contains(trigger.legacyTitleKeyword))
+                .findFirst();
+    }
+}
@@ -0,0 +1,15 @@
+package com.ssafy.health.domain.quest.event;
+
+import com.ssafy.health.domain.quest.entity.QuestTrigger;
+import java.util.List;
+
+public record QuestEvent(QuestTrigger trigger, Long userId, List<Long> crewIds, long value) {
+
+    public static QuestEvent ofUser(QuestTrigger trigger, Long userId, long value) {
+        return new QuestEvent(trigger, userId, List.of(), value);
+    }
+
+    public static QuestEvent ofCrews(QuestTrigger trigger, List<Long> crewIds) {
+        return new QuestEvent(trigger, null, crewIds, 0);
+    }
+}
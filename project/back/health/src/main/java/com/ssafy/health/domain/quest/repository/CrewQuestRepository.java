@@ -8,7 +8,9 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface CrewQuestRepository extends JpaRepository<CrewQuest, Long> {
 
@@ -19,10 +21,26 @@ public interface CrewQuestRepository extends JpaRepository<CrewQuest, Long> {
     @Query("UPDATE CrewQuest cq SET cq.status = :after WHERE cq.quest.period = :period AND cq.status = :before")
     void updateAllStatusByPeriod(QuestPeriod period, QuestStatus before, QuestStatus after);
 
-    @Query("""
-            SELECT DISTINCT cq FROM CrewQuest cq JOIN FETCH cq.quest q
-            WHERE cq.crew = :crew AND cq.status = :status AND q.title LIKE %:title%
-            ORDER BY cq.createdAt DESC
-            """)
-    CrewQuest findCrewQuestWithCriteria(Crew crew, QuestStatus status, String title);
+    // 해당 주기의 크루 퀘스트를 모든 크루에게 한 번의 INSERT ... SELECT로 할당
+    @Modifying
+    @Query(value = """
+            INSERT INTO CrewQuest (status, createdAt, quest_id, crew_id)
+            SELECT 'CREATED', :createdAt, q.id, c.id
+            FROM Quest q CROSS JOIN Crew c
+            WHERE q.period = :period AND q.type = 'CREW'
+            """, nativeQuery = true)
+    int insertCreatedQuests(String period, LocalDateTime createdAt);
+
+    // 진행 중인 퀘스트 인덱스 구성용: cq.id, crew_id, triggerType, threshold, title
+    @Query("SELECT cq.id, cq.crew.id, q.triggerType, q.threshold, q.title FROM CrewQuest cq JOIN cq.quest q " +
+            "WHERE cq.status = :status")
+    List<Object[]> findOpenQuests(QuestStatus status);
+
+    // 동시에 평가되어도 한 번만 완료 처리되도록 상태 조건을 걸어 갱신
+    @Modifying
+    @Query("UPDATE CrewQuest cq SET cq.status = :after WHERE cq.id = :id AND cq.status = :before")
+    int updateStatusByIdAndStatus(Long id, QuestStatus before, QuestStatus after);
+
+    @Query("SELECT cq FROM CrewQuest cq JOIN FETCH cq.quest JOIN FETCH cq.crew WHERE cq.id = :id")
+    Optional<CrewQuest> findByIdWithQuestAndCrew(Long id);
 }
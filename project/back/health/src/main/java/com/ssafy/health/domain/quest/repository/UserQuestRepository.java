@@ -8,7 +8,9 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface UserQuestRepository extends JpaRepository<UserQuest, Long> {
 
@@ -19,10 +21,26 @@ public interface UserQuestRepository extends JpaRepository<UserQuest, Long> {
     @Query("UPDATE UserQuest uq SET uq.status = :after WHERE uq.quest.period = :period AND uq.status = :before")
     void updateAllStatusByPeriod(QuestPeriod period, QuestStatus before, QuestStatus after);
 
-    @Query("""
-            SELECT DISTINCT uq FROM UserQuest uq JOIN FETCH uq.quest q
-            WHERE uq.user = :user AND uq.status = :status AND q.title LIKE %:title%
-            ORDER BY uq.createdAt DESC
-            """)
-    UserQuest findUserQuestWithCriteria(User user, QuestStatus status, String title);
+    // 해당 주기의 개인 퀘스트를 모든 사용자에게 한 번의 INSERT ... SELECT로 할당
+    @Modifying
+    @Query(value = """
+            INSERT INTO UserQuest (status, createdAt, quest_id, user_id)
+            SELECT 'CREATED', :createdAt, q.id, u.id
+            FROM Quest q CROSS JOIN `User` u
+            WHERE q.period = :period AND q.type = 'INDIVIDUAL'
+            """, nativeQuery = true)
+    int insertCreatedQuests(String period, LocalDateTime createdAt);
+
+    // 진행 중인 퀘스트 인덱스 구성용: uq.id, user_id, triggerType, threshold, title
+    @Query("SELECT uq.id, uq.user.id, q.triggerType, q.threshold, q.title FROM UserQuest uq JOIN uq.quest q " +
+            "WHERE uq.status = :status")
+    List<Object[]> findOpenQuests(QuestStatus status);
+
+    // 동시에 평가되어도 한 번만 완료 처리되도록 상태 조건을 걸어 갱신
+    @Modifying
+    @Query("UPDATE UserQuest uq SET uq.status = :after WHERE uq.id = :id AND uq.status = :before")
+    int updateStatusByIdAndStatus(Long id, QuestStatus before, QuestStatus after);
+
+    @Query("SELECT uq FROM UserQuest uq JOIN FETCH uq.quest JOIN FETCH uq.user WHERE uq.id = :id")
+    Optional<UserQuest> findByIdWithQuestAndUser(Long id);
 }
@@ -0,0 +1,113 @@
+package com.ssafy.health.domain.quest.service;
+
+import com.ssafy.health.domain.quest.entity.QuestStatus;
+import com.ssafy.health.domain.quest.entity.QuestTrigger;
+import com.ssafy.health.domain.quest.entity.QuestType;
+import com.ssafy.health.domain.quest.repository.CrewQuestRepository;
+import com.ssafy.health.domain.quest.repository.UserQuestRepository;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// 사용자/크루별 진행 중인 퀘스트를 트리거 기준으로 관리 (이벤트 평가 시 DB 조회 없이 대상 확인)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OpenQuestIndex {
+
+    private final UserQuestRepository userQuestRepository;
+    private final CrewQuestRepository crewQuestRepository;
+
+    private Map<Long, List<OpenQuest>> userQuests = new HashMap<>();
+    private Map<Long, List<OpenQuest>> crewQuests = new HashMap<>();
+    private boolean loaded;
+
+    public record OpenQuest(Long id, QuestTrigger trigger, int threshold) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Map<Long, List<OpenQuest>> users = group(QuestType.INDIVIDUAL,
+                userQuestRepository.findOpenQuests(QuestStatus.CREATED));
+        Map<Long, List<OpenQuest>> crews = group(QuestType.CREW,
+                crewQuestRepository.findOpenQuests(QuestStatus.CREATED));
+
+        synchronized (this) {
+            userQuests = users;
+            crewQuests = crews;
+            loaded = true;
+        }
+        log.info("Open quest index built with {} users, {} crews", users.size(), crews.size());
+    }
+
+    public List<OpenQuest> findUserQuests(Long userId, QuestTrigger trigger) {
+        ensureLoaded();
+        synchronized (this) {
+            return filter(userQuests.get(userId), trigger);
+        }
+    }
+
+    public List<OpenQuest> findCrewQuests(Long crewId, QuestTrigger trigger) {
+        ensureLoaded();
+        synchronized (this) {
+            return filter(crewQuests.get(crewId), trigger);
+        }
+    }
+
+    public synchronized void removeUserQuest(Long userId, Long userQuestId) {
+        remove(userQuests, userId, userQuestId);
+    }
+
+    public synchronized void removeCrewQuest(Long crewId, Long crewQuestId) {
+        remove(crewQuests, crewId, crewQuestId);
+    }
+
+    private void ensureLoaded() {
+        boolean needsLoad;
+        synchronized (this) {
+            needsLoad = !loaded;
+        }
+        if (needsLoad) {
+            rebuild();
+        }
+    }
+
+    private static Map<Long, List<OpenQuest>> group(QuestType questType, List<Object[]> rows) {
+        Map<Long, List<OpenQuest>> grouped = new HashMap<>();
+        rows.forEach(row -> resolveTrigger(questType, (QuestTrigger) row[2], (String) row[4]).ifPresent(trigger -> {
+            int threshold = row[3] != null ? (Integer) row[3] : trigger.getDefaultThreshold();
+            grouped.computeIfAbsent((Long) row[1], key -> new ArrayList<>())
+                    .add(new OpenQuest((Long) row[0], trigger, threshold));
+        }));
+        return grouped;
+    }
+
+    private static Optional<QuestTrigger> resolveTrigger(QuestType questType, QuestTrigger trigger, String title) {
+        return trigger != null ? Optional.of(trigger) : QuestTrigger.fromLegacyTitle(questType, title);
+    }
+
+    private static List<OpenQuest> filter(List<OpenQuest> quests, QuestTrigger trigger) {
+        if (quests == null) {
+            return List.of();
+        }
+        return quests.stream().filter(quest -> quest.trigger() == trigger).toList();
+    }
+
+    private static void remove(Map<Long, List<OpenQuest>> index, Long ownerId, Long questId) {
+        List<OpenQuest> quests = index.get(ownerId);
+        if (quests == null) {
+            return;
+        }
+        quests.removeIf(quest -> quest.id().equals(questId));
+        if (quests.isEmpty()) {
+            index.remove(ownerId);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.ssafy.health.domain.quest.service;
+
+import com.ssafy.health.domain.crew.service.CrewDailyProgressService;
+import com.ssafy.health.domain.quest.entity.QuestTrigger;
+import com.ssafy.health.domain.quest.event.QuestEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 활동 이벤트를 커밋 이후 별도 스레드에서 진행 중인 퀘스트와 대조해 완료 처리
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QuestEvaluationService {
+
+    private static final int CREW_QUEST_MIN_MEMBERS = 2;
+    private static final long MILLIS_PER_MINUTE = 60_000L;
+
+    private final OpenQuestIndex openQuestIndex;
+    private final QuestWriteService questWriteService;
+    private final CrewDailyProgressService crewDailyProgressService;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void start() {
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdown();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleQuestEvent(QuestEvent event) {
+        try {
+            executor.submit(() -> evaluate(event));
+        } catch (RejectedExecutionException e) {
+            log.warn("Quest evaluation skipped during shutdown: {}", event);
+        }
+    }
+
+    void evaluate(QuestEvent event) {
+        try {
+            if (event.userId() != null) {
+                evaluateUserQuests(event);
+            }
+            event.crewIds().forEach(crewId -> evaluateCrewQuests(crewId, event.trigger()));
+        } catch (RuntimeException e) {
+            log.error("Failed to evaluate quests for {}", event, e);
+        }
+    }
+
+    private void evaluateUserQuests(QuestEvent event) {
+        openQuestIndex.findUserQuests(event.userId(), event.trigger()).stream()
+                .filter(quest -> event.value() >= quest.threshold())
+                .forEach(quest -> {
+                    questWriteService.completeUserQuest(quest.id());
+                    openQuestIndex.removeUserQuest(event.userId(), quest.id());
+                });
+    }
+
+    private void evaluateCrewQuests(Long crewId, QuestTrigger trigger) {
+        openQuestIndex.findCrewQuests(crewId, trigger).stream()
+                .filter(quest -> crewDailyProgressService.isCompleted(
+                        crewId, CREW_QUEST_MIN_MEMBERS, quest.threshold() * MILLIS_PER_MINUTE))
+                .forEach(quest -> {
+                    questWriteService.completeCrewQuest(quest.id());
+                    openQuestIndex.removeCrewQuest(crewId, quest.id());
+                });
+    }
+}
@@ -1,5 +1,6 @@
 package com.ssafy.health.domain.quest.service;
 
+import com.ssafy.health.common.util.TransactionUtil;
 import com.ssafy.health.domain.account.entity.User;
 import com.ssafy.health.domain.account.repository.UserRepository;
 import com.ssafy.health.domain.coin.service.CoinService;
@@ -14,14 +15,15 @@ import com.ssafy.health.domain.quest.repository.CrewQuestRepository;
 import com.ssafy.health.domain.quest.repository.QuestRepository;
 import com.ssafy.health.domain.quest.repository.UserQuestRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.concurrent.ExecutionException;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -34,13 +36,16 @@ public class QuestWriteService {
     private final CrewQuestRepository crewQuestRepository;
     private final CoinService coinService;
     private final NotificationWriteService notificationWriteService;
+    private final OpenQuestIndex openQuestIndex;
 
     public Quest createQuest(QuestCreateRequestDto requestDto) {
         return questRepository.save(questBuilder(
                 requestDto.getQuestType(),
                 requestDto.getTitle(),
                 requestDto.getQuestPeriod(),
-                requestDto.getCoins()));
+                requestDto.getCoins(),
+                requestDto.getTriggerType(),
+                requestDto.getThreshold()));
     }
 
     @Scheduled(cron = "0 0 0 * * *")
@@ -57,61 +62,43 @@ public class QuestWriteService {
         buildQuestList(QuestPeriod.MONTHLY);
     }
 
+    // 엔티티를 만들지 않고 DB 안에서 바로 할당 (사용자 수와 무관하게 메모리, 왕복 횟수 일정)
     private void buildQuestList(QuestPeriod period) {
 
-        List<Quest> questList = questRepository.findAllByPeriod(period);
-        List<User> userList = userRepository.findAll();
-        List<Crew> crewList = crewRepository.findAll();
-
-        List<UserQuest> userQuestList = new ArrayList<>();
-        List<CrewQuest> crewQuestList = new ArrayList<>();
-
-        questList.forEach(quest -> {
-            if (quest.getType().equals(QuestType.INDIVIDUAL)) {
-                userList.forEach(user -> userQuestList.add(UserQuest.builder()
-                        .quest(quest)
-                        .user(user)
-                        .build()));
-            } else if (quest.getType().equals(QuestType.CREW)) {
-                crewList.forEach(crew -> crewQuestList.add(CrewQuest.builder()
-                        .quest(quest)
-                        .crew(crew)
-                        .build()));
-            }
-        });
-
-        userQuestRepository.saveAll(userQuestList);
-        crewQuestRepository.saveAll(crewQuestList);
+        LocalDateTime createdAt = LocalDateTime.now();
+        int userQuestCount = userQuestRepository.insertCreatedQuests(period.name(), createdAt);
+        int crewQuestCount = crewQuestRepository.insertCreatedQuests(period.name(), createdAt);
+        log.info("{} quests assigned: {} user quests, {} crew quests", period, userQuestCount, crewQuestCount);
+        TransactionUtil.afterCommit(openQuestIndex::rebuild);
     }
 
-    public void updateUserQuestStatus(User user, String title, QuestStatus status)
-            throws ExecutionException, InterruptedException {
-        UserQuest quest = userQuestRepository.findUserQuestWithCriteria(user, status, title);
-        if (quest != null) {
-            quest.updateStatus(QuestStatus.COMPLETED);
-            coinService.grantCoinsToUser(user, quest.getQuest().getCompletionCoins());
-
-            notificationWriteService.createUserQuestNotification(NotificationType.QUEST, user, quest.getId());
+    // 다른 스레드가 먼저 완료 처리했으면 보상 없이 종료
+    public boolean completeUserQuest(Long userQuestId) {
+        if (userQuestRepository.updateStatusByIdAndStatus(userQuestId, QuestStatus.CREATED, QuestStatus.COMPLETED) == 0) {
+            return false;
         }
-    }
 
-    public void updateCrewQuestStatus(Crew crew, String title, QuestStatus status) {
-        CrewQuest quest = crewQuestRepository.findCrewQuestWithCriteria(crew, status, title);
-        if (quest != null) {
-            quest.updateStatus(QuestStatus.COMPLETED);
-            coinService.grantCoinsToCrew(crew, quest.getQuest().getCompletionCoins());
+        UserQuest quest = userQuestRepository.findByIdWithQuestAndUser(userQuestId).orElseThrow(QuestNotFoundException::new);
+        User user = quest.getUser();
+        coinService.grantCoinsToUser(user, quest.getQuest().getCompletionCoins());
 
-            List<User> userList = userRepository.findUserByCrewId(crew.getId());
-            userList.forEach(user -> {
-                try {
-                    notificationWriteService.createCrewQuestNotification(NotificationType.QUEST, user, crew, quest.getId());
-                } catch (ExecutionException | InterruptedException e) {
-                    throw new RuntimeException(e);
-                }
-            });
-        } else {
-            throw new QuestNotFoundException();
+        notificationWriteService.createUserQuestNotification(NotificationType.QUEST, user, quest.getId());
+        return true;
+    }
+
+    public boolean completeCrewQuest(Long crewQuestId) {
+        if (crewQuestRepository.updateStatusByIdAndStatus(crewQuestId, QuestStatus.CREATED, QuestStatus.COMPLETED) == 0) {
+            return false;
         }
+
+        CrewQuest quest = crewQuestRepository.findByIdWithQuestAndCrew(crewQuestId).orElseThrow(QuestNotFoundException::new);
+        Crew crew = quest.getCrew();
+        coinService.grantCoinsToCrew(crew, quest.getQuest().getCompletionCoins());
+
+        List<User> userList = userRepository.findUserByCrewId(crew.getId());
+        userList.forEach(user -> notificationWriteService.createCrewQuestNotification(
+                NotificationType.QUEST, user, crew, quest.getId()));
+        return true;
     }
 
     private void endQuests(QuestPeriod period) {
@@ -120,12 +107,15 @@ public class QuestWriteService {
         crewQuestRepository.updateAllStatusByPeriod(period, QuestStatus.CREATED, QuestStatus.FINISHED);
     }
 
-    private Quest questBuilder(QuestType type, String title, QuestPeriod period, Integer coins) {
+    private Quest questBuilder(QuestType type, String title, QuestPeriod period, Integer coins,
+                               QuestTrigger triggerType, Integer threshold) {
         return Quest.builder()
                 .type(type)
                 .period(period)
                 .title(title)
                 .completionCoins(coins)
+                .triggerType(triggerType)
+                .threshold(threshold)
                 .build();
     }
 
@@ -149,12 +139,8 @@ public class QuestWriteService {
                     quest.updateStatus(QuestStatus.COMPLETED);
                     coinService.grantCoinsToUser(user, quest.getQuest().getCompletionCoins());
 
-                    try {
-                        notificationWriteService.createUserQuestNotification(
-                                NotificationType.QUEST, user, quest.getId());
-                    } catch (ExecutionException | InterruptedException e) {
-                        throw new RuntimeException(e);
-                    }
+                    notificationWriteService.createUserQuestNotification(
+                            NotificationType.QUEST, user, quest.getId());
                 });
             });
 
@@ -170,14 +156,8 @@ public class QuestWriteService {
                     coinService.grantCoinsToCrew(crew, quest.getQuest().getCompletionCoins());
 
                     List<User> userList = userRepository.findUserByCrewId(crew.getId());
-                    userList.forEach(user -> {
-                        try {
-                            notificationWriteService.createCrewQuestNotification(
-                                    NotificationType.QUEST, user, crew, quest.getId());
-                        } catch (ExecutionException | InterruptedException e) {
-                            throw new RuntimeException(e);
-                        }
-                    });
+                    userList.forEach(user -> notificationWriteService.createCrewQuestNotification(
+                            NotificationType.QUEST, user, crew, quest.getId()));
                 });
             });
         }
@@ -0,0 +1,331 @@
+package com.ssafy.health.domain.recommendation.engine;
+
+import com.ssafy.health.domain.crew.dto.analysis.CrewData;
+import com.ssafy.health.domain.crew.dto.analysis.UserData;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntPredicate;
+
+// analysis 서버의 recommend_crews 점수 규칙을 열 단위 배열 위에서 계산하는 크루 추천 엔진
+// 크루 루프는 분기 없이 열 하나씩 작은 본문으로 나눠 JIT(C2)가 언롤 후 SIMD로 자동 벡터화하도록 작성
+public class CrewRecommender {
+
+    static final int TOTAL_SPORTS = 30;
+
+    private static final int CANDIDATE_LIMIT = 20;
+    private static final float MIN_SIMILARITY = 0.2f;
+    private static final int TOP_N = 6;
+    private static final int RANDOM_PICKS = 3;
+    private static final int USERS_PER_TASK = 256;
+
+    // 최종 점수 = 0.7 * (0.7 * 거리 유사도 + 0.3 * 체형 유사도) + 0.3 * 멤버 코사인 유사도 평균
+    private static final float DISTANCE_WEIGHT = 0.7f * 0.7f;
+    private static final float BODY_WEIGHT = 0.7f * 0.3f;
+    private static final float CONTENT_WEIGHT = 0.3f;
+
+    private final long[] userIds;
+    private final long[] crewIds;
+    private final ScoreColumns users;
+    private final ScoreColumns crews;
+    // 유저별 선호 운동 인덱스(0~29) / 가입한 크루 인덱스
+    private final int[][] userSports;
+    private final int[][] joinedCrews;
+    private final Map<Long, Integer> crewIndex = new HashMap<>();
+    // [운동][크루] : 크루 멤버 선호 운동 벡터(정규화)의 평균 → 유저 벡터와 내적하면 멤버 코사인 유사도 평균
+    private final float[][] sportCentroids;
+    // 전체 크루 벡터의 해시, 크루 하나라도 바뀌면 모든 유저의 추천 입력이 바뀐 것으로 봄
+    private final int crewSetFingerprint;
+
+    public record Candidate(Long crewId, float similarity) {
+    }
+
+    public record Recommendation(Long userId, List<Candidate> crews) {
+    }
+
+    public CrewRecommender(List<UserData> userDataList, List<CrewData> crewDataList) {
+        userIds = userDataList.stream().mapToLong(UserData::getUserId).toArray();
+        crewIds = crewDataList.stream().mapToLong(CrewData::getCrewId).toArray();
+        users = ScoreColumns.of(userDataList.stream().map(UserData::getScore).toList());
+        crews = ScoreColumns.of(crewDataList.stream().map(CrewData::getScore).toList());
+
+        for (int j = 0; j < crewIds.length; j++) {
+            crewIndex.putIfAbsent(crewIds[j], j);
+        }
+
+        userSports = new int[userIds.length][];
+        joinedCrews = new int[userIds.length][];
+        for (int u = 0; u < userIds.length; u++) {
+            UserData userData = userDataList.get(u);
+            userSports[u] = toSportIndices(userData.getFavoriteSports());
+            joinedCrews[u] = toCrewIndices(userData.getCrewList(), crewIndex);
+        }
+        sportCentroids = buildSportCentroids();
+        crewSetFingerprint = buildCrewSetFingerprint();
+    }
+
+    public int userCount() {
+        return userIds.length;
+    }
+
+    // 최소 유사도 이상인 상위 20개 크루 (무작위 선택 전, 동점은 입력 순서 유지)
+    public List<Candidate> rank(int userIndex) {
+        return rank(userIndex, new Workspace(crewIds.length));
+    }
+
+    // 배치 이후 정보가 바뀐 유저 한 명을 현재 크루 벡터로 추천 (정규화는 배치 때의 유저 최솟값/범위 기준)
+    public Recommendation recommend(UserData userData, long seed) {
+        List<Candidate> ranked = rank(users.scaleRow(userData.getScore()),
+                toSportIndices(userData.getFavoriteSports()),
+                toCrewIndices(userData.getCrewList(), crewIndex),
+                new Workspace(crewIds.length));
+        return pick(userData.getUserId(), ranked, seed);
+    }
+
+    // 유저 추천 입력(정규화된 유저 벡터, 선호 운동, 가입 크루, 전체 크루 벡터)의 해시, 같으면 추천 후보도 같음
+    public int userFingerprint(int userIndex) {
+        return fingerprint(users.row(userIndex), userSports[userIndex], joinedCrews[userIndex]);
+    }
+
+    // 배치 이후 정보가 바뀐 유저 한 명의 해시 (recommend(UserData, long)와 같은 정규화 기준)
+    public int userFingerprint(UserData userData) {
+        return fingerprint(users.scaleRow(userData.getScore()),
+                toSportIndices(userData.getFavoriteSports()),
+                toCrewIndices(userData.getCrewList(), crewIndex));
+    }
+
+    public List<Recommendation> recommendAll(ForkJoinPool pool, long seed) {
+        return recommendAll(pool, seed, userIndex -> true);
+    }
+
+    // target을 만족하는 유저만 계산, 건너뛴 유저 자리는 null (입력 유저 순서 유지)
+    public List<Recommendation> recommendAll(ForkJoinPool pool, long seed, IntPredicate target) {
+        Recommendation[] results = new Recommendation[userIds.length];
+        pool.invoke(new RecommendTask(0, userIds.length, seed, target, results));
+        return Arrays.asList(results);
+    }
+
+    // 후보가 9개 이상이면 상위 6개 + 나머지 중 무작위 3개 (시드가 같으면 같은 결과)
+    private Recommendation pick(Long userId, List<Candidate> ranked, long seed) {
+        Random random = new Random(seed * 31 + userId);
+
+        List<Candidate> picked;
+        if (ranked.size() >= TOP_N + RANDOM_PICKS) {
+            picked = new ArrayList<>(ranked.subList(0, TOP_N));
+            List<Candidate> rest = new ArrayList<>(ranked.subList(TOP_N, ranked.size()));
+            Collections.shuffle(rest, random);
+            picked.addAll(rest.subList(0, RANDOM_PICKS));
+        } else {
+            picked = new ArrayList<>(ranked);
+        }
+        Collections.shuffle(picked, random);
+        return new Recommendation(userId, picked);
+    }
+
+    private List<Candidate> rank(int userIndex, Workspace workspace) {
+        return rank(users.row(userIndex), userSports[userIndex], joinedCrews[userIndex], workspace);
+    }
+
+    private List<Candidate> rank(float[] row, int[] sports, int[] joined, Workspace workspace) {
+        float[] scores = workspace.scores;
+        score(row, sports, workspace);
+        for (int j : joined) {
+            scores[j] = Float.NEGATIVE_INFINITY;
+        }
+
+        // 후보가 차기 전에는 최소 유사도, 찬 뒤에는 20위 점수보다 커야 삽입 (비교 한 번으로 대부분 건너뜀)
+        int[] top = new int[CANDIDATE_LIMIT];
+        int size = 0;
+        float floor = Math.nextDown(MIN_SIMILARITY);
+        for (int j = 0; j < scores.length; j++) {
+            float score = scores[j];
+            if (score <= floor) {
+                continue;
+            }
+            if (size < CANDIDATE_LIMIT) {
+                size++;
+            }
+            int position = size - 1;
+            while (position > 0 && scores[top[position - 1]] < score) {
+                top[position] = top[position - 1];
+                position--;
+            }
+            top[position] = j;
+            if (size == CANDIDATE_LIMIT) {
+                floor = scores[top[size - 1]];
+            }
+        }
+
+        List<Candidate> ranked = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ranked.add(new Candidate(crewIds[top[i]], scores[top[i]]));
+        }
+        return ranked;
+    }
+
+    private void score(float[] row, int[] sports, Workspace workspace) {
+        float[] scores = workspace.scores;
+        float[] distances = workspace.distances;
+
+        // 멤버 코사인 유사도 합 : 유저 선호 운동에 해당하는 크루 centroid 행을 더함
+        Arrays.fill(scores, 0f);
+        for (int sport : sports) {
+            float[] centroid = sportCentroids[sport];
+            for (int j = 0; j < scores.length; j++) {
+                scores[j] += centroid[j];
+            }
+        }
+        float contentWeight = sports.length == 0 ? 0f : CONTENT_WEIGHT / (float) Math.sqrt(sports.length);
+
+        // 6개 지표 유클리드 거리 제곱
+        Arrays.fill(distances, 0f);
+        for (int k = 0; k < ScoreColumns.DIMENSIONS; k++) {
+            float[] column = crews.columns[k];
+            float value = row[k];
+            for (int j = 0; j < distances.length; j++) {
+                float diff = value - column[j];
+                distances[j] += diff * diff;
+            }
+        }
+
+        // 근육형(m_type)이면 m_type 기준, 아니면 type 기준으로 크루 체형과 비교
+        float mType = row[0];
+        float body = mType != 0 ? mType : row[1];
+        float mTypeWeight = mType != 0 ? 0.4f : 0.35f;
+        float typeWeight = mType != 0 ? 0.6f : 0.65f;
+        float[] crewMType = crews.columns[0];
+        float[] crewType = crews.columns[1];
+        for (int j = 0; j < scores.length; j++) {
+            float bodyDistance = Math.abs(body - crewMType[j]) * mTypeWeight + Math.abs(body - crewType[j]) * typeWeight;
+            scores[j] = DISTANCE_WEIGHT / (1f + (float) Math.sqrt(distances[j]))
+                    + BODY_WEIGHT * (1f - bodyDistance)
+                    + contentWeight * scores[j];
+        }
+    }
+
+    private float[][] buildSportCentroids() {
+        float[][] centroids = new float[TOTAL_SPORTS][crewIds.length];
+        int[] memberCounts = new int[crewIds.length];
+        for (int u = 0; u < userIds.length; u++) {
+            int[] sports = userSports[u];
+            float norm = sports.length == 0 ? 0f : 1f / (float) Math.sqrt(sports.length);
+            for (int j : joinedCrews[u]) {
+                memberCounts[j]++;
+                for (int sport : sports) {
+                    centroids[sport][j] += norm;
+                }
+            }
+        }
+        for (float[] centroid : centroids) {
+            for (int j = 0; j < centroid.length; j++) {
+                centroid[j] = memberCounts[j] == 0 ? 0f : centroid[j] / memberCounts[j];
+            }
+        }
+        return centroids;
+    }
+
+    private int fingerprint(float[] row, int[] sports, int[] joined) {
+        int hash = 31 * crewSetFingerprint + users.scaleHash();
+        for (float value : row) {
+            hash = 31 * hash + Float.floatToIntBits(value);
+        }
+        for (int sport : sports) {
+            hash = 31 * hash + sport;
+        }
+        for (int j : joined) {
+            hash = 31 * hash + Long.hashCode(crewIds[j]);
+        }
+        return hash;
+    }
+
+    // 크루 ID와 크루별 정규화 벡터, 멤버 운동 centroid를 입력 순서대로 누적
+    private int buildCrewSetFingerprint() {
+        int hash = crews.scaleHash();
+        for (int j = 0; j < crewIds.length; j++) {
+            hash = 31 * hash + Long.hashCode(crewIds[j]);
+            for (float[] column : crews.columns) {
+                hash = 31 * hash + Float.floatToIntBits(column[j]);
+            }
+            for (float[] centroid : sportCentroids) {
+                hash = 31 * hash + Float.floatToIntBits(centroid[j]);
+            }
+        }
+        return hash;
+    }
+
+    // 운동 ID는 1~30 (범위 밖은 무시, 중복은 한 번만)
+    private static int[] toSportIndices(List<Long> favoriteSports) {
+        if (favoriteSports == null) {
+            return new int[0];
+        }
+        return favoriteSports.stream()
+                .filter(sportId -> sportId != null && sportId >= 1 && sportId <= TOTAL_SPORTS)
+                .mapToInt(sportId -> (int) (sportId - 1))
+                .distinct()
+                .toArray();
+    }
+
+    private static int[] toCrewIndices(List<Long> crewList, Map<Long, Integer> crewIndex) {
+        if (crewList == null) {
+            return new int[0];
+        }
+        return crewList.stream()
+                .map(crewIndex::get)
+                .filter(index -> index != null)
+                .mapToInt(Integer::intValue)
+                .distinct()
+                .toArray();
+    }
+
+    // 유저마다 재사용하는 크루 수 크기의 작업 배열
+    private static class Workspace {
+
+        private final float[] scores;
+        private final float[] distances;
+
+        private Workspace(int crewCount) {
+            scores = new float[crewCount];
+            distances = new float[crewCount];
+        }
+    }
+
+    // 유저 구간을 나눠 병렬 처리, 구간마다 작업 배열 하나를 재사용
+    private class RecommendTask extends RecursiveAction {
+
+        private final int from;
+        private final int to;
+        private final long seed;
+        private final IntPredicate target;
+        private final Recommendation[] results;
+
+        private RecommendTask(int from, int to, long seed, IntPredicate target, Recommendation[] results) {
+            this.from = from;
+            this.to = to;
+            this.seed = seed;
+            this.target = target;
+            this.results = results;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= USERS_PER_TASK) {
+                Workspace workspace = new Workspace(crewIds.length);
+                for (int u = from; u < to; u++) {
+                    if (target.test(u)) {
+                        results[u] = pick(userIds[u], rank(u, workspace), seed);
+                    }
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new RecommendTask(from, middle, seed, target, results),
+                    new RecommendTask(middle, to, seed, target, results));
+        }
+    }
+}
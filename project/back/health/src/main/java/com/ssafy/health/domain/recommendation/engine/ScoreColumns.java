@@ -0,0 +1,89 @@
+package com.ssafy.health.domain.recommendation.engine;
+
+import com.ssafy.health.domain.crew.dto.analysis.ScoreData;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+// ScoreData 6개 지표를 열 단위 float 배열로 보관 (열마다 min-max 정규화, NaN 및 값이 모두 같은 열은 0)
+final class ScoreColumns {
+
+    static final int DIMENSIONS = 6;
+
+    private static final List<ToDoubleFunction<ScoreData>> GETTERS = List.of(
+            ScoreData::getMType,
+            ScoreData::getType,
+            ScoreData::getAge,
+            ScoreData::getBasicScore,
+            ScoreData::getActivityScore,
+            ScoreData::getIntakeScore);
+
+    final int size;
+    final float[][] columns;
+    // 열별 최솟값과 범위 (범위 0이면 정규화 값은 항상 0)
+    private final double[] mins;
+    private final double[] ranges;
+
+    private ScoreColumns(int size, float[][] columns, double[] mins, double[] ranges) {
+        this.size = size;
+        this.columns = columns;
+        this.mins = mins;
+        this.ranges = ranges;
+    }
+
+    static ScoreColumns of(List<ScoreData> scores) {
+        float[][] columns = new float[DIMENSIONS][scores.size()];
+        double[] mins = new double[DIMENSIONS];
+        double[] ranges = new double[DIMENSIONS];
+
+        for (int k = 0; k < DIMENSIONS; k++) {
+            double[] raw = new double[scores.size()];
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < raw.length; i++) {
+                raw[i] = GETTERS.get(k).applyAsDouble(scores.get(i));
+                if (Double.isFinite(raw[i])) {
+                    min = Math.min(min, raw[i]);
+                    max = Math.max(max, raw[i]);
+                }
+            }
+
+            double range = max - min;
+            mins[k] = min;
+            ranges[k] = range > 0 && Double.isFinite(range) ? range : 0;
+            for (int i = 0; i < raw.length; i++) {
+                columns[k][i] = scale(raw[i], mins[k], ranges[k]);
+            }
+        }
+        return new ScoreColumns(scores.size(), columns, mins, ranges);
+    }
+
+    float[] row(int index) {
+        float[] row = new float[DIMENSIONS];
+        for (int k = 0; k < DIMENSIONS; k++) {
+            row[k] = columns[k][index];
+        }
+        return row;
+    }
+
+    // 배치 때의 최솟값/범위로 새 행을 정규화 (범위를 벗어난 값은 0~1 밖으로 나감)
+    float[] scaleRow(ScoreData score) {
+        float[] row = new float[DIMENSIONS];
+        for (int k = 0; k < DIMENSIONS; k++) {
+            row[k] = scale(GETTERS.get(k).applyAsDouble(score), mins[k], ranges[k]);
+        }
+        return row;
+    }
+
+    // 정규화 기준(열별 최솟값/범위)의 해시, 정규화 값과 함께 원래 점수를 구분
+    int scaleHash() {
+        return 31 * Arrays.hashCode(mins) + Arrays.hashCode(ranges);
+    }
+
+    private static float scale(double value, double min, double range) {
+        if (range == 0 || !Double.isFinite(value)) {
+            return 0f;
+        }
+        return (float) ((value - min) / range);
+    }
+}
@@ -0,0 +1,17 @@
+package com.ssafy.health.domain.recommendation.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+// 유저별로 마지막 크루 추천을 저장했을 때의 추천 입력 해시 (같으면 전체 추천 배치에서 재계산 생략)
+@Getter
+@AllArgsConstructor
+@Document(collection = "crew_recommend_fingerprint")
+public class RecommendationFingerprint {
+
+    @Id
+    private Long userId;
+    private Integer fingerprint;
+}
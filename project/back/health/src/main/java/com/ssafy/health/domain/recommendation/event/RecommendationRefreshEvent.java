@@ -0,0 +1,4 @@
+package com.ssafy.health.domain.recommendation.event;
+
+public record RecommendationRefreshEvent(Long userId) {
+}
@@ -0,0 +1,7 @@
+package com.ssafy.health.domain.recommendation.repository.mongodb;
+
+import com.ssafy.health.domain.recommendation.entity.RecommendationFingerprint;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface RecommendationFingerprintRepository extends MongoRepository<RecommendationFingerprint, Long> {
+}
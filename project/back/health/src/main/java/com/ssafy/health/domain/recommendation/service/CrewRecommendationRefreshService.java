@@ -0,0 +1,85 @@
+package com.ssafy.health.domain.recommendation.service;
+
+import com.ssafy.health.domain.recommendation.event.RecommendationRefreshEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 유저 정보 변경 커밋 후 해당 유저의 크루 추천만 다시 계산 (연속 변경은 마지막 변경 후 한 번만)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CrewRecommendationRefreshService {
+
+    private final CrewRecommendationService crewRecommendationService;
+
+    @Value("${health.recommendation.refresh.debounce-millis:3000}")
+    private long debounceMillis;
+
+    private final Map<Long, PendingRefresh> pendingRefreshes = new ConcurrentHashMap<>();
+    private ScheduledExecutorService scheduler;
+
+    // 예약된 재계산 한 건, 실행 시 자기 자신일 때만 맵에서 제거 (그 사이 새로 예약된 재계산은 유지)
+    private class PendingRefresh implements Runnable {
+        private final Long userId;
+        private ScheduledFuture<?> future;
+
+        private PendingRefresh(Long userId) {
+            this.userId = userId;
+        }
+
+        @Override
+        public void run() {
+            pendingRefreshes.remove(userId, this);
+            refresh(userId);
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdown();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleRefreshEvent(RecommendationRefreshEvent event) {
+        Long userId = event.userId();
+        try {
+            pendingRefreshes.compute(userId, (key, pending) -> {
+                if (pending != null) {
+                    pending.future.cancel(false);
+                }
+                PendingRefresh refresh = new PendingRefresh(userId);
+                refresh.future = scheduler.schedule(refresh, debounceMillis, TimeUnit.MILLISECONDS);
+                return refresh;
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("Crew recommendation refresh skipped during shutdown: user {}", userId);
+        }
+    }
+
+    private void refresh(Long userId) {
+        try {
+            if (crewRecommendationService.refreshUser(userId)) {
+                log.info("Crew recommendation refreshed for user {}", userId);
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to refresh crew recommendation for user {}", userId, e);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.ssafy.health.domain.recommendation.service;
+
+import com.ssafy.health.domain.account.repository.UserRepository;
+import com.ssafy.health.domain.crew.dto.analysis.CrewData;
+import com.ssafy.health.domain.crew.dto.analysis.ScoreData;
+import com.ssafy.health.domain.crew.dto.analysis.ScoreSnapshot;
+import com.ssafy.health.domain.crew.dto.analysis.UserData;
+import com.ssafy.health.domain.crew.service.CrewAnalysisRequestService;
+import com.ssafy.health.domain.crew.service.CrewProfileCache;
+import com.ssafy.health.domain.crew.service.CrewScoreSnapshotService;
+import com.ssafy.health.domain.recommendation.engine.CrewRecommender;
+import com.ssafy.health.domain.recommendation.engine.CrewRecommender.Candidate;
+import com.ssafy.health.domain.recommendation.engine.CrewRecommender.Recommendation;
+import com.ssafy.health.domain.recommendation.entity.RecommendationFingerprint;
+import com.ssafy.health.domain.recommendation.entity.RecommendedCrew;
+import com.ssafy.health.domain.recommendation.entity.RecommendedCrew.RecommendedCrewInfo;
+import com.ssafy.health.domain.recommendation.repository.mongodb.RecommendationFingerprintRepository;
+import com.ssafy.health.domain.recommendation.repository.mongodb.RecommendedCrewRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CrewRecommendationService {
+
+    private static final int WRITE_CHUNK_SIZE = 1000;
+
+    private final CrewScoreSnapshotService crewScoreSnapshotService;
+    private final CrewProfileCache crewProfileCache;
+    private final CrewAnalysisRequestService crewAnalysisRequestService;
+    private final RecommendedCrewRepository recommendedCrewRepository;
+    private final RecommendationFingerprintRepository recommendationFingerprintRepository;
+    private final UserRepository userRepository;
+
+    // false면 기존처럼 analysis 서버(FastAPI)에 추천을 요청
+    @Value("${health.recommendation.engine.enabled:true}")
+    private boolean engineEnabled;
+
+    // 전체 추천 계산에 쓰는 스레드 수, 요청 처리 스레드와 공용 풀(parallel stream 등)에 CPU를 남겨 둠
+    @Value("${health.recommendation.engine.parallelism:2}")
+    private int parallelism;
+
+    private ForkJoinPool recommendPool;
+
+    // 마지막 배치로 만든 크루 벡터 인덱스 (유저 한 명 추천에 재사용)
+    private volatile CrewIndex crewIndex;
+
+    private record CrewIndex(CrewRecommender recommender, Map<Long, RecommendedCrew.ScoreData> crewScores) {
+    }
+
+    @PostConstruct
+    public void start() {
+        recommendPool = new ForkJoinPool(Math.max(1, Math.min(parallelism, Runtime.getRuntime().availableProcessors())));
+    }
+
+    @PreDestroy
+    public void stop() {
+        recommendPool.shutdown();
+    }
+
+    // 추천 입력 해시가 저장된 값과 다른 유저만 다시 계산 (유저 쪽 변경은 refreshUser로 즉시 반영)
+    @Scheduled(cron = "0 30 3 * * *")
+    public synchronized void recommendCrews() {
+        if (!engineEnabled) {
+            crewAnalysisRequestService.requestAnalysis();
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        ScoreSnapshot snapshot = crewScoreSnapshotService.takeSnapshot();
+        List<UserData> users = snapshot.getSurveyedUserIds().stream().map(snapshot::toUserData).toList();
+        List<CrewData> crews = snapshot.getCrews();
+        crewProfileCache.putAll(crews);
+
+        CrewRecommender recommender = new CrewRecommender(users, crews);
+        crewIndex = new CrewIndex(recommender, toCrewScores(crews));
+
+        Map<Long, Integer> published = new HashMap<>();
+        recommendationFingerprintRepository.findAll()
+                .forEach(saved -> published.put(saved.getUserId(), saved.getFingerprint()));
+        int[] fingerprints = new int[users.size()];
+        for (int u = 0; u < fingerprints.length; u++) {
+            fingerprints[u] = recommender.userFingerprint(u);
+        }
+
+        List<Recommendation> recommendations = recommender.recommendAll(recommendPool, seed(),
+                u -> !Integer.valueOf(fingerprints[u]).equals(published.get(users.get(u).getUserId())));
+        int written = writeRecommendations(users, recommendations, fingerprints);
+        log.info("Crew recommendation finished: {} users, {} crews, {} documents ({} unchanged) in {} ms",
+                users.size(), crews.size(), written, users.size() - written, System.currentTimeMillis() - start);
+    }
+
+    // 설문/선호 운동/체형이 바뀐 유저 한 명만 현재 크루 인덱스로 다시 추천
+    public boolean refreshUser(Long userId) {
+        ScoreSnapshot snapshot = crewScoreSnapshotService.takeSnapshot(userRepository.findAllById(List.of(userId)));
+        if (!snapshot.getSurveyedUserIds().contains(userId)) {
+            return false;
+        }
+
+        CrewIndex index = getCrewIndex();
+        UserData userData = snapshot.toUserData(userId);
+        Recommendation recommendation = index.recommender().recommend(userData, seed());
+        recommendedCrewRepository.save(toDocument(recommendation, userData, index.crewScores(), now()));
+        recommendationFingerprintRepository.save(
+                new RecommendationFingerprint(userId, index.recommender().userFingerprint(userData)));
+        return true;
+    }
+
+    // 재시작 후 첫 요청이면 배치 없이 인덱스만 생성
+    private CrewIndex getCrewIndex() {
+        CrewIndex index = crewIndex;
+        if (index != null) {
+            return index;
+        }
+        synchronized (this) {
+            if (crewIndex == null) {
+                ScoreSnapshot snapshot = crewScoreSnapshotService.takeSnapshot();
+                List<UserData> users = snapshot.getSurveyedUserIds().stream().map(snapshot::toUserData).toList();
+                crewIndex = new CrewIndex(new CrewRecommender(users, snapshot.getCrews()),
+                        toCrewScores(snapshot.getCrews()));
+            }
+            return crewIndex;
+        }
+    }
+
+    // 추천 문서를 먼저 저장하고 해시를 저장 (중간에 실패하면 다음 배치에서 다시 계산)
+    private int writeRecommendations(List<UserData> users, List<Recommendation> recommendations,
+                                     int[] fingerprints) {
+        Map<Long, RecommendedCrew.ScoreData> crewScores = crewIndex.crewScores();
+        LocalDateTime createdAt = now();
+        List<RecommendedCrew> chunk = new ArrayList<>(WRITE_CHUNK_SIZE);
+        List<RecommendationFingerprint> fingerprintChunk = new ArrayList<>(WRITE_CHUNK_SIZE);
+        int written = 0;
+        for (int i = 0; i < recommendations.size(); i++) {
+            Recommendation recommendation = recommendations.get(i);
+            if (recommendation == null) {
+                continue;
+            }
+            chunk.add(toDocument(recommendation, users.get(i), crewScores, createdAt));
+            fingerprintChunk.add(new RecommendationFingerprint(recommendation.userId(), fingerprints[i]));
+            written++;
+
+            if (chunk.size() == WRITE_CHUNK_SIZE) {
+                saveChunk(chunk, fingerprintChunk);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            saveChunk(chunk, fingerprintChunk);
+        }
+        return written;
+    }
+
+    private void saveChunk(List<RecommendedCrew> chunk, List<RecommendationFingerprint> fingerprintChunk) {
+        recommendedCrewRepository.saveAll(chunk);
+        recommendationFingerprintRepository.saveAll(fingerprintChunk);
+        chunk.clear();
+        fingerprintChunk.clear();
+    }
+
+    private static RecommendedCrew toDocument(Recommendation recommendation, UserData userData,
+                                              Map<Long, RecommendedCrew.ScoreData> crewScores,
+                                              LocalDateTime createdAt) {
+        List<RecommendedCrewInfo> crewInfos = recommendation.crews().stream()
+                .map(candidate -> new RecommendedCrewInfo(
+                        candidate.crewId(), round(candidate), crewScores.get(candidate.crewId())))
+                .toList();
+        return new RecommendedCrew(recommendation.userId(), crewInfos, createdAt, toScoreData(userData.getScore()));
+    }
+
+    private static Map<Long, RecommendedCrew.ScoreData> toCrewScores(List<CrewData> crews) {
+        Map<Long, RecommendedCrew.ScoreData> crewScores = new HashMap<>();
+        crews.forEach(crew -> crewScores.put(crew.getCrewId(), toScoreData(crew.getScore())));
+        return crewScores;
+    }
+
+    // 같은 날 다시 계산해도 무작위 추천 결과가 같도록 날짜를 시드로 사용
+    private static long seed() {
+        return LocalDate.now().toEpochDay();
+    }
+
+    // analysis 서버와 같이 UTC 기준 저장 (조회 시 created_at 최신 문서 사용)
+    private static LocalDateTime now() {
+        return LocalDateTime.now(ZoneOffset.UTC);
+    }
+
+    private static Float round(Candidate candidate) {
+        return Math.round(candidate.similarity() * 1000) / 1000f;
+    }
+
+    private static RecommendedCrew.ScoreData toScoreData(ScoreData score) {
+        return new RecommendedCrew.ScoreData(score.getBasicScore(), score.getActivityScore(), score.getIntakeScore());
+    }
+}
@@ -0,0 +1,165 @@
+package com.ssafy.health.common.http;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 지연/오류를 주입하는 로컬 stub 서버로 타임아웃, 재시도, 서킷 브레이커, 동시 요청 제한 확인
+class OutboundClientTest {
+
+    private final AtomicInteger hits = new AtomicInteger();
+    private final CountDownLatch received = new CountDownLatch(1);
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+
+    @BeforeEach
+    void startStubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+
+        server.createContext("/slow", exchange -> {
+            hits.incrementAndGet();
+            received.countDown();
+            sleep(1000);
+            respond(exchange, 200);
+        });
+        server.createContext("/error", exchange -> {
+            hits.incrementAndGet();
+            respond(exchange, 500);
+        });
+        // 처음 두 번은 503, 이후 200
+        server.createContext("/flaky", exchange -> respond(exchange, hits.incrementAndGet() <= 2 ? 503 : 200));
+        server.start();
+    }
+
+    @AfterEach
+    void stopStubServer() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void failsFastWhenServerIsSlowerThanReadTimeout() {
+        OutboundClient client = new OutboundClient("stub", settings().readTimeout(Duration.ofMillis(200)).build());
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> post(client, "/slow")).isInstanceOf(ResourceAccessException.class);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(elapsedMillis).isLessThan(800);
+        assertThat(client.getMetrics().snapshot().failures()).isEqualTo(1);
+    }
+
+    @Test
+    void doesNotRetryReadTimeoutForNonIdempotentCalls() {
+        OutboundClient client = new OutboundClient("stub", settings()
+                .readTimeout(Duration.ofMillis(200))
+                .maxAttempts(3)
+                .build());
+
+        assertThatThrownBy(() -> post(client, "/slow")).isInstanceOf(ResourceAccessException.class);
+        assertThat(hits.get()).isEqualTo(1);
+        assertThat(client.getMetrics().snapshot().retries()).isZero();
+    }
+
+    @Test
+    void retriesReadTimeoutForIdempotentCalls() {
+        OutboundClient client = new OutboundClient("stub", settings()
+                .readTimeout(Duration.ofMillis(200))
+                .maxAttempts(2)
+                .idempotent(true)
+                .build());
+
+        assertThatThrownBy(() -> post(client, "/slow")).isInstanceOf(ResourceAccessException.class);
+        assertThat(hits.get()).isEqualTo(2);
+        assertThat(client.getMetrics().snapshot().retries()).isEqualTo(1);
+    }
+
+    @Test
+    void retriesUnavailableResponsesWithBackoff() {
+        OutboundClient client = new OutboundClient("stub", settings().maxAttempts(3).build());
+
+        assertThat(post(client, "/flaky")).isEqualTo("ok");
+        assertThat(hits.get()).isEqualTo(3);
+        assertThat(client.getMetrics().snapshot().retries()).isEqualTo(2);
+    }
+
+    @Test
+    void opensCircuitAfterConsecutiveFailures() {
+        OutboundClient client = new OutboundClient("stub", settings().failureThreshold(3).build());
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> post(client, "/error")).isInstanceOf(HttpServerErrorException.class);
+        }
+        assertThatThrownBy(() -> post(client, "/error")).isInstanceOf(OutboundCallRejectedException.class);
+
+        assertThat(hits.get()).isEqualTo(3);
+        assertThat(client.isCircuitOpen()).isTrue();
+        assertThat(client.getMetrics().snapshot().rejected()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsWhenConcurrentCallsAreExhausted() throws InterruptedException {
+        OutboundClient client = new OutboundClient("stub", settings().maxConcurrentCalls(1).build());
+
+        CompletableFuture<String> inFlight = CompletableFuture.supplyAsync(() -> post(client, "/slow"));
+        assertThat(received.await(2, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> post(client, "/slow")).isInstanceOf(OutboundCallRejectedException.class);
+        assertThat(inFlight.join()).isEqualTo("ok");
+        assertThat(hits.get()).isEqualTo(1);
+    }
+
+    private String post(OutboundClient client, String path) {
+        String url = "http://localhost:" + server.getAddress().getPort() + path;
+        return client.execute(restTemplate -> restTemplate.postForObject(url, "{}", String.class));
+    }
+
+    private static OutboundSettings.OutboundSettingsBuilder settings() {
+        return OutboundSettings.builder()
+                .connectTimeout(Duration.ofSeconds(1))
+                .readTimeout(Duration.ofSeconds(5))
+                .maxConcurrentCalls(4)
+                .maxWait(Duration.ofMillis(50))
+                .maxAttempts(1)
+                .retryBackoff(Duration.ofMillis(20))
+                .failureThreshold(5)
+                .openDuration(Duration.ofSeconds(30));
+    }
+
+    private static void respond(HttpExchange exchange, int status) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        byte[] response = "ok".getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, response.length);
+        exchange.getResponseBody().write(response);
+        exchange.close();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
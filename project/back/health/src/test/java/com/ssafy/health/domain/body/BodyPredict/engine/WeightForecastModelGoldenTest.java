@@ -0,0 +1,94 @@
+package com.ssafy.health.domain.body.BodyPredict.engine;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+// 골든 파일 : analysis/practice/dock/weight_forecast_golden.py 로 생성 (난수 가중치 모델, 순수 Python 포팅과의 교차 검증)
+// 실제 v12 가중치와 Keras 출력 비교는 WeightForecastModelKerasGoldenTest
+class WeightForecastModelGoldenTest {
+
+    private static final float TOLERANCE = 1e-4f;
+    private static final double WEIGHT_TOLERANCE = 0.01;
+
+    private JsonNode golden;
+    private WeightForecastModel model;
+    private float[] inputs;
+    private int userCount;
+
+    @BeforeEach
+    void loadGolden() throws IOException {
+        try (InputStream inputStream = getClass().getResourceAsStream("/prediction/weight-forecast-golden.json")) {
+            golden = new ObjectMapper().readTree(inputStream);
+        }
+        try (InputStream inputStream = getClass().getResourceAsStream("/prediction/weight-forecast-golden.bin")) {
+            model = WeightForecastModel.load(inputStream);
+        }
+
+        JsonNode users = golden.get("users");
+        userCount = users.size();
+        int stride = model.timesteps() * model.features();
+        inputs = new float[userCount * stride];
+        for (int u = 0; u < userCount; u++) {
+            JsonNode days = users.get(u).get("days");
+            for (int t = 0; t < days.size(); t++) {
+                JsonNode day = days.get(t);
+                model.encodeDay(day.get("sex").asInt(), day.get("age").asDouble(), day.get("bmi").asDouble(),
+                        day.get("weight").asDouble(), day.get("calories").asDouble(),
+                        inputs, u * stride + t * model.features());
+            }
+        }
+    }
+
+    @Test
+    void batchMatchesPythonPort() {
+        float[] out = new float[userCount * model.outputs()];
+        model.predict(inputs, userCount, model.newWorkspace(), out);
+
+        JsonNode expected = golden.get("expected");
+        for (int u = 0; u < userCount; u++) {
+            JsonNode prediction = expected.get(u).get("prediction");
+            int offset = u * model.outputs();
+            for (int d = 0; d < model.outputs(); d++) {
+                assertThat(out[offset + d]).isCloseTo((float) prediction.get(d).asDouble(), within(TOLERANCE));
+            }
+
+            // main.py와 같이 30일/90일 뒤 값을 체중으로 역변환
+            JsonNode weights = expected.get(u).get("weights");
+            assertThat(model.toWeight(out[offset + 29])).isCloseTo(weights.get(0).asDouble(), within(WEIGHT_TOLERANCE));
+            assertThat(model.toWeight(out[offset + 89])).isCloseTo(weights.get(1).asDouble(), within(WEIGHT_TOLERANCE));
+        }
+    }
+
+    @Test
+    void singleUserMatchesBatch() {
+        float[] batch = new float[userCount * model.outputs()];
+        WeightForecastModel.Workspace workspace = model.newWorkspace();
+        model.predict(inputs, userCount, workspace, batch);
+
+        int stride = model.timesteps() * model.features();
+        float[] single = new float[model.outputs()];
+        float[] userInputs = new float[stride];
+        for (int u = userCount - 1; u >= 0; u--) {
+            System.arraycopy(inputs, u * stride, userInputs, 0, stride);
+            model.predict(userInputs, 1, workspace, single);
+            for (int d = 0; d < model.outputs(); d++) {
+                assertThat(single[d]).isEqualTo(batch[u * model.outputs() + d]);
+            }
+        }
+    }
+
+    @Test
+    void rejectsUnknownSex() {
+        assertThatThrownBy(() -> model.encodeDay(3, 30, 22, 70, 300, new float[model.features()], 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,73 @@
+package com.ssafy.health.domain.body.BodyPredict.engine;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// 골든 파일 : analysis/practice/dock/weight_forecast_keras_golden.py 로 생성
+// (models/modelv12_v1.weights.h5를 main.py build_model에 올려 model.predict 한 값과 export_forecast_model.py 변환 결과)
+class WeightForecastModelKerasGoldenTest {
+
+    private static final String MODEL = "/prediction/weight-forecast-v12.bin";
+    private static final String GOLDEN = "/prediction/weight-forecast-v12-keras.json";
+    private static final float TOLERANCE = 1e-4f;
+    // inverse_weight_prediction이 소수 둘째 자리로 반올림한 값과 비교
+    private static final double WEIGHT_TOLERANCE = 0.01;
+
+    private JsonNode golden;
+    private WeightForecastModel model;
+
+    @BeforeEach
+    void loadGolden() throws IOException {
+        assumeTrue(getClass().getResource(MODEL) != null && getClass().getResource(GOLDEN) != null,
+                "tensorflow 환경에서 weight_forecast_keras_golden.py 로 골든 파일을 생성해야 합니다.");
+
+        try (InputStream inputStream = getClass().getResourceAsStream(GOLDEN)) {
+            golden = new ObjectMapper().readTree(inputStream);
+        }
+        try (InputStream inputStream = getClass().getResourceAsStream(MODEL)) {
+            model = WeightForecastModel.load(inputStream);
+        }
+    }
+
+    @Test
+    void batchMatchesKerasPredict() {
+        JsonNode users = golden.get("users");
+        int userCount = users.size();
+        int stride = model.timesteps() * model.features();
+        float[] inputs = new float[userCount * stride];
+        for (int u = 0; u < userCount; u++) {
+            JsonNode days = users.get(u).get("days");
+            for (int t = 0; t < days.size(); t++) {
+                JsonNode day = days.get(t);
+                model.encodeDay(day.get("sex").asInt(), day.get("age").asDouble(), day.get("bmi").asDouble(),
+                        day.get("weight").asDouble(), day.get("calories").asDouble(),
+                        inputs, u * stride + t * model.features());
+            }
+        }
+
+        float[] out = new float[userCount * model.outputs()];
+        model.predict(inputs, userCount, model.newWorkspace(), out);
+
+        JsonNode expected = golden.get("expected");
+        for (int u = 0; u < userCount; u++) {
+            JsonNode prediction = expected.get(u).get("prediction");
+            int offset = u * model.outputs();
+            for (int d = 0; d < model.outputs(); d++) {
+                assertThat(out[offset + d]).isCloseTo((float) prediction.get(d).asDouble(), within(TOLERANCE));
+            }
+
+            JsonNode weights = expected.get(u).get("weights");
+            assertThat(model.toWeight(out[offset + 29])).isCloseTo(weights.get(0).asDouble(), within(WEIGHT_TOLERANCE));
+            assertThat(model.toWeight(out[offset + 89])).isCloseTo(weights.get(1).asDouble(), within(WEIGHT_TOLERANCE));
+        }
+    }
+}
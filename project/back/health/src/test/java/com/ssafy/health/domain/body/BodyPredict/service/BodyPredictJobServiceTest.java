@@ -0,0 +1,120 @@
+package com.ssafy.health.domain.body.BodyPredict.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.health.domain.body.BodyPredict.dto.ExerciseDetailDto;
+import com.ssafy.health.domain.body.BodyPredict.dto.request.AnalysisRequestDto;
+import com.ssafy.health.domain.body.BodyPredict.dto.response.ExtraPredictionJobResponseDto;
+import com.ssafy.health.domain.body.BodyPredict.dto.response.ExtraPredictionResponseDto;
+import com.ssafy.health.domain.body.BodyPredict.entity.PredictionJobRecord;
+import com.ssafy.health.domain.body.BodyPredict.entity.PredictionJobStatus;
+import com.ssafy.health.domain.body.BodyPredict.exception.PredictionJobNotFoundException;
+import com.ssafy.health.domain.body.BodyPredict.repository.PredictionJobRecordRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 서버 두 대가 작업 상태 저장소를 공유하는 상황 : 작업을 실행하지 않은 서버로 들어온 조회도 처리
+class BodyPredictJobServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final ExerciseDetailDto EXERCISE = ExerciseDetailDto.builder()
+            .exerciseId(3L)
+            .count(2)
+            .duration(30)
+            .build();
+
+    private final BodyPredictWriteService bodyPredictWriteService = mock(BodyPredictWriteService.class);
+    private final BodyPredictReadService bodyPredictReadService = mock(BodyPredictReadService.class);
+    private final PredictionJobRecordRepository jobRecordRepository = mock(PredictionJobRecordRepository.class);
+    private final Map<String, PredictionJobRecord> records = new ConcurrentHashMap<>();
+
+    private BodyPredictJobService owner;
+    private BodyPredictJobService other;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(jobRecordRepository.save(any(PredictionJobRecord.class))).thenAnswer(invocation -> {
+            PredictionJobRecord record = invocation.getArgument(0);
+            records.put(record.getJobId(), record);
+            return record;
+        });
+        when(jobRecordRepository.findById(anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(records.get(invocation.<String>getArgument(0))));
+
+        when(bodyPredictWriteService.buildExtraPredictionPayload(eq(USER_ID), any()))
+                .thenReturn(AnalysisRequestDto.builder().exerciseDetail(EXERCISE).build());
+        when(bodyPredictWriteService.requestExtraPrediction(eq(USER_ID), any())).thenReturn(true);
+        when(bodyPredictReadService.getExtraPrediction(USER_ID)).thenReturn(ExtraPredictionResponseDto.builder()
+                .userId(USER_ID)
+                .p30(70.5f)
+                .p90(68.2f)
+                .exercise(EXERCISE)
+                .build());
+
+        owner = newService();
+        other = newService();
+    }
+
+    @AfterEach
+    void tearDown() {
+        owner.stop();
+        other.stop();
+    }
+
+    @Test
+    void otherInstanceReadsFinishedJobFromSharedRecord() throws InterruptedException {
+        String jobId = owner.submit(USER_ID, EXERCISE);
+        owner.getResult(USER_ID, jobId).join();
+        awaitFinished(jobId);
+
+        ExtraPredictionJobResponseDto job = other.getJob(USER_ID, jobId);
+
+        assertThat(job.getStatus()).isEqualTo(PredictionJobStatus.DONE);
+        assertThat(job.getResult().getP30()).isEqualTo(70.5f);
+        assertThat(job.getResult().getP90()).isEqualTo(68.2f);
+    }
+
+    @Test
+    void otherInstanceHidesJobsOfOtherUsers() throws InterruptedException {
+        String jobId = owner.submit(USER_ID, EXERCISE);
+        owner.getResult(USER_ID, jobId).join();
+        awaitFinished(jobId);
+
+        assertThatThrownBy(() -> other.getJob(2L, jobId)).isInstanceOf(PredictionJobNotFoundException.class);
+        assertThatThrownBy(() -> other.getJob(USER_ID, "unknown")).isInstanceOf(PredictionJobNotFoundException.class);
+    }
+
+    private BodyPredictJobService newService() {
+        BodyPredictJobService service = new BodyPredictJobService(bodyPredictWriteService, bodyPredictReadService,
+                jobRecordRepository, new ObjectMapper());
+        ReflectionTestUtils.setField(service, "workerCount", 2);
+        ReflectionTestUtils.setField(service, "cacheMaxSize", 100);
+        ReflectionTestUtils.setField(service, "cacheTtlSeconds", 600L);
+        ReflectionTestUtils.setField(service, "jobRetentionSeconds", 600L);
+        ReflectionTestUtils.setField(service, "sseTimeoutMillis", 1000L);
+        service.start();
+        return service;
+    }
+
+    // 작업 완료 후 상태 기록은 작업 스레드에서 이어서 저장됨
+    private void awaitFinished(String jobId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (records.get(jobId).getStatus() == PredictionJobStatus.PENDING && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(records.get(jobId).getStatus()).isNotEqualTo(PredictionJobStatus.PENDING);
+    }
+}
@@ -0,0 +1,89 @@
+package com.ssafy.health.domain.crew.repository;
+
+import com.ssafy.health.domain.crew.dto.request.CreateCrewRequestDto;
+import com.ssafy.health.domain.crew.entity.Crew;
+import com.ssafy.health.domain.exercise.entity.Exercise;
+import com.ssafy.health.domain.exercise.repository.ExerciseRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@SpringBootTest
+class CrewBasicScoreConcurrencyTest {
+
+    private static final int THREAD_COUNT = 200;
+    private static final float DELTA = 0.5F;
+
+    @Autowired
+    private CrewRepository crewRepository;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long crewId;
+
+    @AfterEach
+    void tearDown() {
+        if (crewId != null) {
+            crewRepository.deleteById(crewId);
+        }
+    }
+
+    @Test
+    void 동시에_누적해도_점수가_유실되지_않는다() throws InterruptedException {
+        List<Exercise> exercises = exerciseRepository.findAll();
+        assumeTrue(!exercises.isEmpty(), "운동 기본 데이터가 필요합니다.");
+
+        Crew crew = crewRepository.save(Crew.builder()
+                .createCrewRequestDto(CreateCrewRequestDto.builder()
+                        .name("concurrency-" + System.nanoTime())
+                        .description("basic score concurrency test")
+                        .build())
+                .exercise(exercises.get(0))
+                .averageAge(20)
+                .build());
+        crewId = crew.getId();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREAD_COUNT);
+        AtomicInteger failures = new AtomicInteger();
+
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    transactionTemplate.executeWithoutResult(status ->
+                            crewRepository.addBasicScoreByIdIn(List.of(crewId), DELTA));
+                } catch (Exception e) {
+                    failures.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        start.countDown();
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        Crew updated = crewRepository.findById(crewId).orElseThrow();
+        assertThat(failures.get()).isZero();
+        assertThat(updated.getBasicScore()).isEqualTo(THREAD_COUNT * DELTA);
+    }
+}
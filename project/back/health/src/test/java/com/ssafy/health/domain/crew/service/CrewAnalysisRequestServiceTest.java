@@ -0,0 +1,191 @@
+package com.ssafy.health.domain.crew.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.health.common.http.OutboundClient;
+import com.ssafy.health.common.http.OutboundSettings;
+import com.ssafy.health.common.util.RequestUtil;
+import com.ssafy.health.domain.account.entity.User;
+import com.ssafy.health.domain.account.repository.UserRepository;
+import com.ssafy.health.domain.crew.dto.analysis.CrewData;
+import com.ssafy.health.domain.crew.dto.analysis.ScoreData;
+import com.ssafy.health.domain.crew.dto.analysis.ScoreSnapshot;
+import com.ssafy.health.domain.crew.entity.Crew;
+import com.ssafy.health.domain.crew.repository.CrewRepository;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 실제 writePayload가 페이지 단위로 직렬화한 본문을 chunked 요청으로 받아 형식 확인
+class CrewAnalysisRequestServiceTest {
+
+    private static final int USER_COUNT = 1100;
+    private static final int CREW_COUNT = 3;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicReference<String> transferEncoding = new AtomicReference<>();
+    private final AtomicReference<byte[]> receivedBody = new AtomicReference<>();
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final CrewRepository crewRepository = mock(CrewRepository.class);
+    private final CrewScoreSnapshotService crewScoreSnapshotService = mock(CrewScoreSnapshotService.class);
+    private final CrewProfileCache crewProfileCache = mock(CrewProfileCache.class);
+
+    private HttpServer server;
+    private CrewAnalysisRequestService crewAnalysisRequestService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/users/crew-recommendation/fast-api", exchange -> {
+            transferEncoding.set(exchange.getRequestHeaders().getFirst("Transfer-Encoding"));
+            receivedBody.set(exchange.getRequestBody().readAllBytes());
+
+            byte[] response = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, response.length);
+            exchange.getResponseBody().write(response);
+            exchange.close();
+        });
+        server.start();
+
+        // 유저 500 / 500 / 100명, 크루 1페이지
+        List<User> users = LongStream.rangeClosed(1, USER_COUNT).mapToObj(this::mockUser).toList();
+        when(userRepository.findBySurveyCompletedTrueOrderByIdAsc(any(), any())).thenReturn(
+                window(users.subList(0, 500), true),
+                window(users.subList(500, 1000), true),
+                window(users.subList(1000, USER_COUNT), false));
+        when(crewScoreSnapshotService.takeSnapshot(anyList()))
+                .thenAnswer(invocation -> snapshotOf(invocation.getArgument(0)));
+
+        List<Crew> crews = LongStream.rangeClosed(1, CREW_COUNT).mapToObj(this::mockCrew).toList();
+        when(crewRepository.findAllByOrderByIdAsc(any(), any())).thenReturn(window(crews, false));
+        when(crewScoreSnapshotService.buildCrewData(anyList())).thenAnswer(invocation -> {
+            List<Crew> page = invocation.getArgument(0);
+            return page.stream()
+                    .map(crew -> CrewData.builder()
+                            .crewId(crew.getId())
+                            .crewSports(crew.getId() + 10)
+                            .score(score(crew.getId()))
+                            .build())
+                    .toList();
+        });
+
+        OutboundClient analysisClient = new OutboundClient("analysis", OutboundSettings.builder()
+                .connectTimeout(Duration.ofSeconds(2))
+                .readTimeout(Duration.ofSeconds(30))
+                .maxConcurrentCalls(1)
+                .maxWait(Duration.ofMillis(100))
+                .maxAttempts(1)
+                .retryBackoff(Duration.ofMillis(100))
+                .failureThreshold(5)
+                .openDuration(Duration.ofSeconds(30))
+                .build());
+        crewAnalysisRequestService = new CrewAnalysisRequestService(new RequestUtil(objectMapper, analysisClient),
+                objectMapper, userRepository, crewRepository, crewScoreSnapshotService, crewProfileCache);
+        ReflectionTestUtils.setField(crewAnalysisRequestService, "fastApiUrl",
+                "http://localhost:" + server.getAddress().getPort());
+    }
+
+    @AfterEach
+    void stopStubServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void streamsPayloadWithChunkedTransferEncoding() throws IOException {
+        crewAnalysisRequestService.requestAnalysis();
+
+        assertThat(transferEncoding.get()).isEqualToIgnoringCase("chunked");
+
+        JsonNode body = objectMapper.readTree(receivedBody.get());
+        JsonNode users = body.path("total_users").path("users");
+        assertThat(users.size()).isEqualTo(USER_COUNT);
+        for (int i = 0; i < USER_COUNT; i++) {
+            assertThat(users.get(i).path("user_id").asLong()).isEqualTo(i + 1);
+        }
+        JsonNode lastUser = users.get(USER_COUNT - 1);
+        assertThat(lastUser.path("score").path("m_type").floatValue()).isEqualTo(score(USER_COUNT).getMType());
+        assertThat(lastUser.path("score").path("intake_score").floatValue()).isEqualTo(score(USER_COUNT).getIntakeScore());
+        assertThat(lastUser.path("crew_list").get(0).asLong()).isEqualTo(USER_COUNT % CREW_COUNT + 1);
+        assertThat(lastUser.path("favorite_sports").get(0).asLong()).isEqualTo(USER_COUNT % 30 + 1);
+
+        JsonNode crews = body.path("total_crews").path("crews");
+        assertThat(crews.size()).isEqualTo(CREW_COUNT);
+        assertThat(crews.get(0).path("crew_id").asLong()).isEqualTo(1);
+        assertThat(crews.get(0).path("crew_sports").asLong()).isEqualTo(11);
+        assertThat(crews.get(0).path("score").path("basic_score").floatValue()).isEqualTo(score(1).getBasicScore());
+
+        verify(crewProfileCache, times(1)).putAll(anyList());
+    }
+
+    private User mockUser(long userId) {
+        User user = mock(User.class);
+        when(user.getId()).thenReturn(userId);
+        return user;
+    }
+
+    private Crew mockCrew(long crewId) {
+        Crew crew = mock(Crew.class);
+        when(crew.getId()).thenReturn(crewId);
+        return crew;
+    }
+
+    private static <T> Window<T> window(List<T> content, boolean hasNext) {
+        return Window.from(content, ScrollPosition::offset, hasNext);
+    }
+
+    private static ScoreSnapshot snapshotOf(List<User> users) {
+        Map<Long, ScoreData> userScores = new HashMap<>();
+        Map<Long, List<Long>> crewIdsByUser = new HashMap<>();
+        Map<Long, List<Long>> favoredExerciseIdsByUser = new HashMap<>();
+        List<Long> surveyedUserIds = new ArrayList<>();
+        for (User user : users) {
+            long userId = user.getId();
+            userScores.put(userId, score(userId));
+            crewIdsByUser.put(userId, List.of(userId % CREW_COUNT + 1));
+            favoredExerciseIdsByUser.put(userId, List.of(userId % 30 + 1));
+            surveyedUserIds.add(userId);
+        }
+        return ScoreSnapshot.builder()
+                .userScores(userScores)
+                .crewIdsByUser(crewIdsByUser)
+                .favoredExerciseIdsByUser(favoredExerciseIdsByUser)
+                .surveyedUserIds(surveyedUserIds)
+                .crews(List.of())
+                .build();
+    }
+
+    private static ScoreData score(long id) {
+        return ScoreData.builder()
+                .mType(id % 3 == 0 ? 8 : 0)
+                .type(id % 3 == 0 ? 0 : id % 6 + 1)
+                .age(20 + (int) (id % 40))
+                .basicScore(id % 100)
+                .activityScore(id % 70)
+                .intakeScore(1500 + id)
+                .build();
+    }
+}
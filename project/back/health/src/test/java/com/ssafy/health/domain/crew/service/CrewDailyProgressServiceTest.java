@@ -0,0 +1,74 @@
+package com.ssafy.health.domain.crew.service;
+
+import com.ssafy.health.domain.exercise.repository.ExerciseHistoryRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 복구 조회와 운동 기록 이벤트가 겹쳐도 기록마다 한 번만 반영되는지 확인
+class CrewDailyProgressServiceTest {
+
+    private static final Long CREW_ID = 1L;
+    private static final long DURATION = 40;
+
+    private final ExerciseHistoryRepository exerciseHistoryRepository = mock(ExerciseHistoryRepository.class);
+    private final CrewDailyProgressService crewDailyProgressService =
+            new CrewDailyProgressService(exerciseHistoryRepository);
+    private final LocalDate today = LocalDate.now();
+
+    @Test
+    void countsWorkoutCommittedBeforeRecoveryQueryOnce() {
+        // 기록 10은 조회 전에 커밋되어 조회 결과에 포함되고, 이벤트는 조회 도중 도착
+        when(exerciseHistoryRepository.findCrewMemberWorkoutsByExerciseStartTimeBetween(any(), any()))
+                .thenAnswer(invocation -> {
+                    crewDailyProgressService.record(List.of(CREW_ID), 100L, 10L, today, DURATION);
+                    return rows(new Object[]{CREW_ID, 100L, 10L, DURATION});
+                });
+
+        crewDailyProgressService.recover();
+
+        assertThat(crewDailyProgressService.isCompleted(CREW_ID, 1, DURATION)).isTrue();
+        assertThat(crewDailyProgressService.isCompleted(CREW_ID, 1, DURATION + 1)).isFalse();
+    }
+
+    @Test
+    void keepsWorkoutCommittedDuringRecoveryQuery() {
+        // 기록 11은 조회 이후에 커밋되어 조회 결과에 없고, 이벤트는 복구가 끝나기 전에 도착
+        when(exerciseHistoryRepository.findCrewMemberWorkoutsByExerciseStartTimeBetween(any(), any()))
+                .thenAnswer(invocation -> {
+                    List<Object[]> rows = rows(new Object[]{CREW_ID, 100L, 10L, DURATION});
+                    crewDailyProgressService.record(List.of(CREW_ID), 200L, 11L, today, DURATION);
+                    return rows;
+                });
+
+        crewDailyProgressService.recover();
+
+        assertThat(crewDailyProgressService.isCompleted(CREW_ID, 2, DURATION * 2)).isTrue();
+        assertThat(crewDailyProgressService.isCompleted(CREW_ID, 2, DURATION * 2 + 1)).isFalse();
+    }
+
+    @Test
+    void ignoresLateEventForWorkoutAlreadyRecovered() {
+        when(exerciseHistoryRepository.findCrewMemberWorkoutsByExerciseStartTimeBetween(any(), any()))
+                .thenReturn(rows(new Object[]{CREW_ID, 100L, 10L, DURATION}));
+
+        crewDailyProgressService.recover();
+        // 커밋 직후 afterCommit 콜백이 복구가 끝난 뒤에 실행된 경우
+        crewDailyProgressService.record(List.of(CREW_ID), 100L, 10L, today, DURATION);
+        crewDailyProgressService.record(List.of(CREW_ID), 100L, 12L, today, DURATION);
+
+        assertThat(crewDailyProgressService.isCompleted(CREW_ID, 1, DURATION * 2)).isTrue();
+        assertThat(crewDailyProgressService.isCompleted(CREW_ID, 1, DURATION * 2 + 1)).isFalse();
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+}
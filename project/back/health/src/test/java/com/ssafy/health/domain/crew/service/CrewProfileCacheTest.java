@@ -0,0 +1,67 @@
+package com.ssafy.health.domain.crew.service;
+
+import com.ssafy.health.domain.account.repository.UserCrewRepository;
+import com.ssafy.health.domain.crew.dto.analysis.CrewData;
+import com.ssafy.health.domain.crew.dto.analysis.ScoreData;
+import com.ssafy.health.domain.crew.entity.Crew;
+import com.ssafy.health.domain.recommendation.event.RecommendationRefreshEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CrewProfileCacheTest {
+
+    private static final Long CREW_ID = 1L;
+
+    private final CrewScoreSnapshotService crewScoreSnapshotService = mock(CrewScoreSnapshotService.class);
+    private final UserCrewRepository userCrewRepository = mock(UserCrewRepository.class);
+    private final CrewProfileCache crewProfileCache = new CrewProfileCache(crewScoreSnapshotService, userCrewRepository);
+    private final Crew crew = mock(Crew.class);
+
+    @BeforeEach
+    void setUp() {
+        when(crew.getId()).thenReturn(CREW_ID);
+    }
+
+    @Test
+    void doesNotCacheProfileOfCrewWithoutScorableMembers() {
+        // 체형/생일을 입력한 멤버가 없는 크루 -> 멤버가 설문을 마친 뒤 다시 계산
+        when(crewScoreSnapshotService.buildCrewData(anyList())).thenReturn(
+                List.of(crewData(ScoreData.builder().build())),
+                List.of(crewData(profile(27))));
+
+        assertThat(crewProfileCache.getProfile(crew).getAge()).isZero();
+        assertThat(crewProfileCache.getProfile(crew).getAge()).isEqualTo(27);
+        assertThat(crewProfileCache.getProfile(crew).getAge()).isEqualTo(27);
+        verify(crewScoreSnapshotService, times(2)).buildCrewData(anyList());
+    }
+
+    @Test
+    void evictsCrewsOfUserWhenMemberProfileChanges() {
+        when(crewScoreSnapshotService.buildCrewData(anyList())).thenReturn(
+                List.of(crewData(profile(27))),
+                List.of(crewData(profile(31))));
+        when(userCrewRepository.findCrewIdsByUserId(7L)).thenReturn(List.of(CREW_ID));
+
+        assertThat(crewProfileCache.getProfile(crew).getAge()).isEqualTo(27);
+        crewProfileCache.handleRefreshEvent(new RecommendationRefreshEvent(7L));
+
+        assertThat(crewProfileCache.getProfile(crew).getAge()).isEqualTo(31);
+    }
+
+    private static CrewData crewData(ScoreData score) {
+        return CrewData.builder().crewId(CREW_ID).crewSports(3L).score(score).build();
+    }
+
+    private static ScoreData profile(int age) {
+        return ScoreData.builder().type(2).age(age).basicScore(10).intakeScore(1800).build();
+    }
+}
@@ -0,0 +1,35 @@
+package com.ssafy.health.domain.notification.service;
+
+import com.ssafy.health.common.fcm.dto.request.FcmRequestDto;
+import com.ssafy.health.common.fcm.service.FcmSender;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+class InMemoryFcmSender implements FcmSender {
+
+    private final List<List<FcmRequestDto>> batches = new CopyOnWriteArrayList<>();
+    private final Set<String> rejectedTokens;
+
+    InMemoryFcmSender(Set<String> rejectedTokens) {
+        this.rejectedTokens = rejectedTokens;
+    }
+
+    @Override
+    public List<Boolean> sendEach(List<FcmRequestDto> fcmRequestDtoList) {
+        batches.add(List.copyOf(fcmRequestDtoList));
+        return fcmRequestDtoList.stream()
+                .map(request -> !rejectedTokens.contains(request.getToken()))
+                .toList();
+    }
+
+    List<List<FcmRequestDto>> getBatches() {
+        return Collections.unmodifiableList(batches);
+    }
+
+    int sentCount() {
+        return batches.stream().mapToInt(List::size).sum();
+    }
+}
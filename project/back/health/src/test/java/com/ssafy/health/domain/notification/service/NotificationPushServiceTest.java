@@ -0,0 +1,213 @@
+package com.ssafy.health.domain.notification.service;
+
+import com.ssafy.health.common.fcm.service.FcmSender;
+import com.ssafy.health.domain.notification.entity.PushStatus;
+import com.ssafy.health.domain.notification.repository.NotificationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class NotificationPushServiceTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final NotificationRepository notificationRepository = mock(NotificationRepository.class);
+    private final InMemoryFcmSender fcmSender = new InMemoryFcmSender(Set.of("token-7"));
+    // 저장소 상태 (없으면 PENDING), 선점 토큰, 전송 시도 횟수
+    private final Map<Long, PushStatus> pushStatuses = new ConcurrentHashMap<>();
+    private final Map<Long, String> claimTokens = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> pushAttempts = new ConcurrentHashMap<>();
+
+    private NotificationPushService notificationPushService;
+
+    @BeforeEach
+    void setUp() {
+        // 조건부 UPDATE처럼 상태 확인과 변경을 한 번에 수행
+        when(notificationRepository.claimForPush(anyList(), anyString(), any(), anyInt()))
+                .thenAnswer(invocation -> {
+                    List<Long> ids = invocation.getArgument(0);
+                    String claimToken = invocation.getArgument(1);
+                    int maxAttempts = invocation.getArgument(3);
+                    synchronized (pushStatuses) {
+                        int claimed = 0;
+                        for (Long id : ids) {
+                            PushStatus status = pushStatuses.getOrDefault(id, PushStatus.PENDING);
+                            int attempts = pushAttempts.getOrDefault(id, 0);
+                            if ((status == PushStatus.PENDING || status == PushStatus.FAILED) && attempts < maxAttempts) {
+                                pushStatuses.put(id, PushStatus.SENDING);
+                                claimTokens.put(id, claimToken);
+                                pushAttempts.put(id, attempts + 1);
+                                claimed++;
+                            }
+                        }
+                        return claimed;
+                    }
+                });
+        when(notificationRepository.findPushTargetsByPushClaimToken(anyString()))
+                .thenAnswer(invocation -> {
+                    String claimToken = invocation.getArgument(0);
+                    synchronized (pushStatuses) {
+                        return claimTokens.entrySet().stream()
+                                .filter(entry -> entry.getValue().equals(claimToken)
+                                        && pushStatuses.get(entry.getKey()) == PushStatus.SENDING)
+                                .map(entry -> new Object[]{entry.getKey(), "알림", "본문 " + entry.getKey(),
+                                        "token-" + entry.getKey()})
+                                .toList();
+                    }
+                });
+        when(notificationRepository.completePush(anyList(), anyString(), any()))
+                .thenAnswer(invocation -> {
+                    List<Long> ids = invocation.getArgument(0);
+                    String claimToken = invocation.getArgument(1);
+                    PushStatus status = invocation.getArgument(2);
+                    synchronized (pushStatuses) {
+                        ids.stream()
+                                .filter(id -> claimToken.equals(claimTokens.get(id))
+                                        && pushStatuses.get(id) == PushStatus.SENDING)
+                                .forEach(id -> pushStatuses.put(id, status));
+                        return ids.size();
+                    }
+                });
+        when(notificationRepository.findIdsByPushStatusAndCreatedAtBefore(eq(PushStatus.PENDING), any(), any()))
+                .thenReturn(List.of());
+        when(notificationRepository.findRetryableFailedIds(anyInt(), any(), any()))
+                .thenAnswer(invocation -> {
+                    int maxAttempts = invocation.getArgument(0);
+                    synchronized (pushStatuses) {
+                        return pushStatuses.entrySet().stream()
+                                .filter(entry -> entry.getValue() == PushStatus.FAILED
+                                        && pushAttempts.getOrDefault(entry.getKey(), 0) < maxAttempts)
+                                .map(Map.Entry::getKey)
+                                .toList();
+                    }
+                });
+
+        notificationPushService = new NotificationPushService(notificationRepository, fcmSender);
+        ReflectionTestUtils.setField(notificationPushService, "workerCount", 2);
+        ReflectionTestUtils.setField(notificationPushService, "queueCapacity", 5000);
+        ReflectionTestUtils.setField(notificationPushService, "maxAttempts", MAX_ATTEMPTS);
+        ReflectionTestUtils.setField(notificationPushService, "claimTimeoutMinutes", 5L);
+        notificationPushService.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        notificationPushService.stop();
+    }
+
+    @Test
+    void deliversQueuedNotificationsInBatchesOfAtMostFiveHundred() throws InterruptedException {
+        List<Long> ids = LongStream.rangeClosed(1, 1200).boxed().toList();
+
+        notificationPushService.enqueue(ids);
+        awaitDelivered(ids.size());
+
+        assertThat(fcmSender.sentCount()).isEqualTo(ids.size());
+        assertThat(fcmSender.getBatches()).allSatisfy(batch ->
+                assertThat(batch.size()).isLessThanOrEqualTo(FcmSender.MAX_BATCH_SIZE));
+        assertThat(pushStatuses.get(7L)).isEqualTo(PushStatus.FAILED);
+        assertThat(pushStatuses.get(8L)).isEqualTo(PushStatus.SENT);
+    }
+
+    @Test
+    void skipsNotificationsThatWereAlreadyDelivered() throws InterruptedException {
+        List<Long> ids = LongStream.rangeClosed(8, 17).boxed().toList();
+
+        notificationPushService.enqueue(ids);
+        awaitDelivered(ids.size());
+        notificationPushService.enqueue(ids);
+        Thread.sleep(200);
+
+        assertThat(fcmSender.sentCount()).isEqualTo(ids.size());
+    }
+
+    @Test
+    void sendsEachNotificationOnceWhenQueuedSeveralTimes() throws InterruptedException {
+        // 이벤트 등록과 스위퍼 재등록이 겹친 경우 : 두 워커가 같은 ID를 가져가도 선점한 쪽만 전송
+        List<Long> ids = LongStream.rangeClosed(8, 307).boxed().toList();
+
+        notificationPushService.enqueue(ids);
+        notificationPushService.enqueue(ids);
+        notificationPushService.enqueue(ids);
+        awaitDelivered(ids.size());
+        Thread.sleep(200);
+
+        assertThat(fcmSender.sentCount()).isEqualTo(ids.size());
+        assertThat(pushAttempts.values()).containsOnly(1);
+    }
+
+    @Test
+    void retriesFailedNotificationsUpToMaxAttempts() throws InterruptedException {
+        notificationPushService.enqueue(List.of(7L));
+        awaitSendCount(1);
+
+        for (int attempt = 2; attempt <= MAX_ATTEMPTS; attempt++) {
+            notificationPushService.sweepPendingNotifications();
+            awaitSendCount(attempt);
+        }
+        notificationPushService.sweepPendingNotifications();
+        notificationPushService.sweepPendingNotifications();
+        Thread.sleep(200);
+
+        assertThat(fcmSender.sentCount()).isEqualTo(MAX_ATTEMPTS);
+        assertThat(pushStatuses.get(7L)).isEqualTo(PushStatus.FAILED);
+        assertThat(pushAttempts.get(7L)).isEqualTo(MAX_ATTEMPTS);
+    }
+
+    @Test
+    void doesNotClaimReleasedNotificationsThatUsedUpTheirAttempts() throws InterruptedException {
+        // 전송 중 서버가 종료되어 PENDING으로 되돌아온 알림 : 시도 횟수를 다 썼으면 다시 보내지 않음
+        pushStatuses.put(8L, PushStatus.PENDING);
+        pushAttempts.put(8L, MAX_ATTEMPTS);
+        pushStatuses.put(9L, PushStatus.PENDING);
+        pushAttempts.put(9L, MAX_ATTEMPTS - 1);
+
+        notificationPushService.enqueue(List.of(8L, 9L));
+        awaitDelivered(1);
+        Thread.sleep(200);
+
+        assertThat(fcmSender.sentCount()).isEqualTo(1);
+        assertThat(pushStatuses.get(8L)).isEqualTo(PushStatus.PENDING);
+        assertThat(pushAttempts.get(8L)).isEqualTo(MAX_ATTEMPTS);
+        assertThat(pushStatuses.get(9L)).isEqualTo(PushStatus.SENT);
+    }
+
+    private void awaitDelivered(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (countDelivered() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(countDelivered()).isEqualTo(expected);
+    }
+
+    private void awaitSendCount(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while ((fcmSender.sentCount() < expected || pushStatuses.get(7L) != PushStatus.FAILED)
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(fcmSender.sentCount()).isEqualTo(expected);
+    }
+
+    private long countDelivered() {
+        return pushStatuses.values().stream()
+                .filter(status -> status == PushStatus.SENT || status == PushStatus.FAILED)
+                .count();
+    }
+}
@@ -0,0 +1,64 @@
+package com.ssafy.health.domain.quest.service;
+
+import com.ssafy.health.domain.quest.entity.QuestStatus;
+import com.ssafy.health.domain.quest.entity.QuestTrigger;
+import com.ssafy.health.domain.quest.repository.CrewQuestRepository;
+import com.ssafy.health.domain.quest.repository.UserQuestRepository;
+import com.ssafy.health.domain.quest.service.OpenQuestIndex.OpenQuest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 트리거 컬럼이 비어 있는 기존 퀘스트를 exec/dump/mysql_20241011.sql 의 실제 제목으로 추정
+class OpenQuestIndexTest {
+
+    private static final String BODY_TITLE = "매일 몸무게 입력하기";
+    private static final String EXERCISE_TITLE = "하루 한 번 운동하기";
+    private static final String ATTENDANCE_TITLE = "2주 이상 출석 도장 찍기";
+    private static final String CREW_TITLE = "크루 내 2명 이상의 팀원 하루에 합산 1시간 이상 운동하기";
+
+    private final UserQuestRepository userQuestRepository = mock(UserQuestRepository.class);
+    private final CrewQuestRepository crewQuestRepository = mock(CrewQuestRepository.class);
+    private final OpenQuestIndex openQuestIndex = new OpenQuestIndex(userQuestRepository, crewQuestRepository);
+
+    @Test
+    void resolvesLegacyTitlesFromTheDumpByQuestType() {
+        // cq.id / uq.id, 소유자 id, triggerType, threshold, title
+        when(userQuestRepository.findOpenQuests(QuestStatus.CREATED)).thenReturn(List.of(
+                new Object[]{1L, 1L, null, null, BODY_TITLE},
+                new Object[]{2L, 1L, null, null, EXERCISE_TITLE},
+                new Object[]{3L, 1L, null, null, ATTENDANCE_TITLE}));
+        when(crewQuestRepository.findOpenQuests(QuestStatus.CREATED)).thenReturn(List.<Object[]>of(
+                new Object[]{4L, 1L, null, null, CREW_TITLE}));
+
+        openQuestIndex.rebuild();
+
+        assertThat(openQuestIndex.findUserQuests(1L, QuestTrigger.BODY_RECORDED))
+                .containsExactly(new OpenQuest(1L, QuestTrigger.BODY_RECORDED, 1));
+        assertThat(openQuestIndex.findUserQuests(1L, QuestTrigger.EXERCISE_LOGGED))
+                .containsExactly(new OpenQuest(2L, QuestTrigger.EXERCISE_LOGGED, 1));
+        assertThat(openQuestIndex.findUserQuests(1L, QuestTrigger.ATTENDANCE_COUNT))
+                .containsExactly(new OpenQuest(3L, QuestTrigger.ATTENDANCE_COUNT, 14));
+
+        // 크루 퀘스트 제목에도 "운동하기"가 있지만 크루 합산 시간 퀘스트로만 인식
+        assertThat(openQuestIndex.findCrewQuests(1L, QuestTrigger.CREW_DAILY_MINUTES))
+                .containsExactly(new OpenQuest(4L, QuestTrigger.CREW_DAILY_MINUTES, 60));
+        assertThat(openQuestIndex.findCrewQuests(1L, QuestTrigger.EXERCISE_LOGGED)).isEmpty();
+    }
+
+    @Test
+    void prefersTheStoredTriggerOverTheTitle() {
+        when(userQuestRepository.findOpenQuests(QuestStatus.CREATED)).thenReturn(List.of());
+        when(crewQuestRepository.findOpenQuests(QuestStatus.CREATED)).thenReturn(List.<Object[]>of(
+                new Object[]{5L, 2L, QuestTrigger.CREW_DAILY_MINUTES, 90, CREW_TITLE}));
+
+        openQuestIndex.rebuild();
+
+        assertThat(openQuestIndex.findCrewQuests(2L, QuestTrigger.CREW_DAILY_MINUTES))
+                .containsExactly(new OpenQuest(5L, QuestTrigger.CREW_DAILY_MINUTES, 90));
+    }
+}
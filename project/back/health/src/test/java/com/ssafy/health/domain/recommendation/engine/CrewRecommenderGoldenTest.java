@@ -0,0 +1,125 @@
+package com.ssafy.health.domain.recommendation.engine;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.health.domain.crew.dto.analysis.CrewData;
+import com.ssafy.health.domain.crew.dto.analysis.ScoreData;
+import com.ssafy.health.domain.crew.dto.analysis.UserData;
+import com.ssafy.health.domain.recommendation.engine.CrewRecommender.Candidate;
+import com.ssafy.health.domain.recommendation.engine.CrewRecommender.Recommendation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+// 골든 파일 : analysis/practice/dock/crew_recommend_golden.py 로 생성 (점수 규칙을 numpy 없이 다시 구현한 스크립트)
+// Java 포팅과 순수 Python 포팅의 교차 검증과 무작위 선택/단건 갱신 확인용, main.py 출력과의 비교는 CrewRecommenderMainGoldenTest
+class CrewRecommenderGoldenTest {
+
+    private static final float TOLERANCE = 1e-4f;
+
+    private JsonNode golden;
+    private List<UserData> users;
+    private CrewRecommender recommender;
+
+    @BeforeEach
+    void loadGolden() throws IOException {
+        try (InputStream inputStream = getClass().getResourceAsStream("/recommendation/crew-recommend-golden.json")) {
+            golden = new ObjectMapper().readTree(inputStream);
+        }
+
+        users = new ArrayList<>();
+        golden.get("users").forEach(user -> users.add(UserData.builder()
+                .userId(user.get("user_id").asLong())
+                .score(toScoreData(user.get("score")))
+                .favoriteSports(toIds(user.get("favorite_sports")))
+                .crewList(toIds(user.get("crew_list")))
+                .build()));
+
+        List<CrewData> crews = new ArrayList<>();
+        golden.get("crews").forEach(crew -> crews.add(CrewData.builder()
+                .crewId(crew.get("crew_id").asLong())
+                .score(toScoreData(crew.get("score")))
+                .crewSports(crew.get("crew_sports").asLong())
+                .build()));
+
+        recommender = new CrewRecommender(users, crews);
+    }
+
+    @Test
+    void ranksCrewsLikePythonPort() {
+        JsonNode expected = golden.get("expected");
+        assertThat(recommender.userCount()).isEqualTo(expected.size());
+
+        for (int u = 0; u < expected.size(); u++) {
+            JsonNode ranked = expected.get(u).get("ranked");
+            JsonNode scores = expected.get(u).get("scores");
+            List<Candidate> candidates = recommender.rank(u);
+
+            assertThat(candidates).hasSize(ranked.size());
+            for (int k = 0; k < candidates.size(); k++) {
+                Candidate candidate = candidates.get(k);
+                // 근소한 동점은 순서가 바뀔 수 있으므로 순위별 점수와 크루별 점수를 각각 비교
+                assertThat(candidate.similarity())
+                        .isCloseTo((float) ranked.get(k).get("similarity").asDouble(), within(TOLERANCE));
+                assertThat(candidate.similarity())
+                        .isCloseTo((float) scores.get(candidate.crewId().toString()).asDouble(), within(TOLERANCE));
+            }
+        }
+    }
+
+    @Test
+    void picksTopSixAndThreeRandomCandidates() {
+        List<Recommendation> recommendations = recommender.recommendAll(ForkJoinPool.commonPool(), 7L);
+        assertThat(recommender.recommendAll(new ForkJoinPool(3), 7L)).isEqualTo(recommendations);
+
+        int partialPicks = 0;
+        for (int u = 0; u < recommendations.size(); u++) {
+            List<Long> ranked = recommender.rank(u).stream().map(Candidate::crewId).toList();
+            List<Long> picked = recommendations.get(u).crews().stream().map(Candidate::crewId).toList();
+
+            assertThat(picked).doesNotHaveDuplicates();
+            assertThat(ranked).containsAll(picked);
+            if (ranked.size() >= 9) {
+                assertThat(picked).hasSize(9).containsAll(ranked.subList(0, 6));
+            } else {
+                assertThat(picked).containsExactlyInAnyOrderElementsOf(ranked);
+                partialPicks++;
+            }
+        }
+        assertThat(partialPicks).isPositive();
+    }
+
+    @Test
+    void singleUserRefreshMatchesBatch() {
+        List<Recommendation> recommendations = recommender.recommendAll(ForkJoinPool.commonPool(), 7L);
+
+        for (int u = 0; u < users.size(); u++) {
+            assertThat(recommender.recommend(users.get(u), 7L)).isEqualTo(recommendations.get(u));
+        }
+    }
+
+    private static ScoreData toScoreData(JsonNode score) {
+        return ScoreData.builder()
+                .mType((float) score.get("m_type").asDouble())
+                .type((float) score.get("type").asDouble())
+                .age(score.get("age").asInt())
+                .basicScore((float) score.get("basic_score").asDouble())
+                .activityScore((float) score.get("activity_score").asDouble())
+                .intakeScore((float) score.get("intake_score").asDouble())
+                .build();
+    }
+
+    private static List<Long> toIds(JsonNode ids) {
+        List<Long> result = new ArrayList<>();
+        ids.forEach(id -> result.add(id.asLong()));
+        return result;
+    }
+}
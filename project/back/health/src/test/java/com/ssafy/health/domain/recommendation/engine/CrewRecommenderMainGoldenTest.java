@@ -0,0 +1,96 @@
+package com.ssafy.health.domain.recommendation.engine;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.health.domain.crew.dto.analysis.CrewData;
+import com.ssafy.health.domain.crew.dto.analysis.ScoreData;
+import com.ssafy.health.domain.crew.dto.analysis.UserData;
+import com.ssafy.health.domain.recommendation.engine.CrewRecommender.Candidate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// 골든 파일 : analysis/practice/dock/crew_recommend_main_golden.py 로 생성
+// (main.py crew_recommendation / recommend_crews를 직접 호출해 무작위 선택 전 후보를 기록한 값)
+class CrewRecommenderMainGoldenTest {
+
+    private static final String GOLDEN = "/recommendation/crew-recommend-main-golden.json";
+    private static final float TOLERANCE = 1e-4f;
+
+    private JsonNode golden;
+    private CrewRecommender recommender;
+
+    @BeforeEach
+    void loadGolden() throws IOException {
+        assumeTrue(getClass().getResource(GOLDEN) != null,
+                "pandas/scikit-learn 환경에서 crew_recommend_main_golden.py 로 골든 파일을 생성해야 합니다.");
+
+        try (InputStream inputStream = getClass().getResourceAsStream(GOLDEN)) {
+            golden = new ObjectMapper().readTree(inputStream);
+        }
+
+        List<UserData> users = new ArrayList<>();
+        golden.get("users").forEach(user -> users.add(UserData.builder()
+                .userId(user.get("user_id").asLong())
+                .score(toScoreData(user.get("score")))
+                .favoriteSports(toIds(user.get("favorite_sports")))
+                .crewList(toIds(user.get("crew_list")))
+                .build()));
+
+        List<CrewData> crews = new ArrayList<>();
+        golden.get("crews").forEach(crew -> crews.add(CrewData.builder()
+                .crewId(crew.get("crew_id").asLong())
+                .score(toScoreData(crew.get("score")))
+                .crewSports(crew.get("crew_sports").asLong())
+                .build()));
+
+        recommender = new CrewRecommender(users, crews);
+    }
+
+    @Test
+    void ranksCrewsLikeMainPy() {
+        JsonNode expected = golden.get("expected");
+        assertThat(recommender.userCount()).isEqualTo(expected.size());
+
+        for (int u = 0; u < expected.size(); u++) {
+            JsonNode ranked = expected.get(u).get("ranked");
+            JsonNode scores = expected.get(u).get("scores");
+            List<Candidate> candidates = recommender.rank(u);
+
+            assertThat(candidates).hasSize(ranked.size());
+            for (int k = 0; k < candidates.size(); k++) {
+                Candidate candidate = candidates.get(k);
+                // 근소한 동점은 순서가 바뀔 수 있으므로 순위별 점수와 크루별 점수를 각각 비교
+                assertThat(candidate.similarity())
+                        .isCloseTo((float) ranked.get(k).get("similarity").asDouble(), within(TOLERANCE));
+                assertThat(candidate.similarity())
+                        .isCloseTo((float) scores.get(candidate.crewId().toString()).asDouble(), within(TOLERANCE));
+            }
+        }
+    }
+
+    private static ScoreData toScoreData(JsonNode score) {
+        return ScoreData.builder()
+                .mType((float) score.get("m_type").asDouble())
+                .type((float) score.get("type").asDouble())
+                .age(score.get("age").asInt())
+                .basicScore((float) score.get("basic_score").asDouble())
+                .activityScore((float) score.get("activity_score").asDouble())
+                .intakeScore((float) score.get("intake_score").asDouble())
+                .build();
+    }
+
+    private static List<Long> toIds(JsonNode ids) {
+        List<Long> result = new ArrayList<>();
+        ids.forEach(id -> result.add(id.asLong()));
+        return result;
+    }
+}